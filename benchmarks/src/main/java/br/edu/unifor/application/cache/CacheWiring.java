@@ -0,0 +1,23 @@
+package br.edu.unifor.application.cache;
+
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+import io.quarkus.cache.Cache;
+
+/**
+ * Monta o StudentEnrollmentCache fora do CDI (campos de injeção são package-private).
+ */
+public final class CacheWiring {
+
+    private CacheWiring() {
+    }
+
+    public static StudentEnrollmentCache studentEnrollmentCache(Cache cache,
+            EnrollmentRepository enrollmentRepository, TransactionHooks transactionHooks) {
+        StudentEnrollmentCache studentEnrollmentCache = new StudentEnrollmentCache();
+        studentEnrollmentCache.cache = cache;
+        studentEnrollmentCache.enrollmentRepository = enrollmentRepository;
+        studentEnrollmentCache.transactionHooks = transactionHooks;
+        return studentEnrollmentCache;
+    }
+}
@@ -0,0 +1,27 @@
+package br.edu.unifor.application.catalog;
+
+import java.time.Duration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Monta o ClassCatalog fora do CDI (campos de injeção são package-private).
+ */
+public final class CatalogWiring {
+
+    private CatalogWiring() {
+    }
+
+    public static ClassCatalog classCatalog(ClassRepository classRepository, TransactionHooks transactionHooks,
+            ObjectMapper objectMapper, Duration maxAge) {
+        ClassCatalog catalog = new ClassCatalog();
+        catalog.classRepository = classRepository;
+        catalog.transactionHooks = transactionHooks;
+        catalog.objectMapper = objectMapper;
+        catalog.maxAge = maxAge;
+        return catalog;
+    }
+}
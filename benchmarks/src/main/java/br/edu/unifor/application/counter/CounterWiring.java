@@ -0,0 +1,27 @@
+package br.edu.unifor.application.counter;
+
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Monta os contadores fora do CDI (campos de injeção são package-private).
+ * Sem outbox: os benchmarks não reconstroem os contadores.
+ */
+public final class CounterWiring {
+
+    private CounterWiring() {
+    }
+
+    public static ActivityCounters activityCounters(EnrollmentRepository enrollmentRepository,
+            ClassRepository classRepository, StudentRepository studentRepository,
+            TransactionHooks transactionHooks) {
+        ActivityCounters counters = new ActivityCounters();
+        counters.enrollmentRepository = enrollmentRepository;
+        counters.classRepository = classRepository;
+        counters.studentRepository = studentRepository;
+        counters.transactionHooks = transactionHooks;
+        return counters;
+    }
+}
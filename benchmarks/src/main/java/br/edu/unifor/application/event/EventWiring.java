@@ -0,0 +1,30 @@
+package br.edu.unifor.application.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.domain.repository.OutboxEventRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Monta o DomainEvents fora do CDI (campos de injeção são package-private).
+ * O dispatcher não publica nada: mede-se só a gravação no outbox.
+ */
+public final class EventWiring {
+
+    private EventWiring() {
+    }
+
+    public static DomainEvents domainEvents(OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper, TransactionHooks transactionHooks) {
+        DomainEvents domainEvents = new DomainEvents();
+        domainEvents.outboxEventRepository = outboxEventRepository;
+        domainEvents.objectMapper = objectMapper;
+        domainEvents.transactionHooks = transactionHooks;
+        domainEvents.outboxDispatcher = new OutboxDispatcher() {
+            @Override
+            void wakeUp() {
+            }
+        };
+        return domainEvents;
+    }
+}
@@ -0,0 +1,29 @@
+package br.edu.unifor.application.seat;
+
+import java.time.Duration;
+
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Monta o SeatAllocator fora do CDI (campos de injeção são package-private).
+ */
+public final class SeatWiring {
+
+    private SeatWiring() {
+    }
+
+    public static SeatAllocator seatAllocator(ClassRepository classRepository, TransactionHooks transactionHooks,
+            ClassCatalog classCatalog, Duration fullRecheckInterval) {
+        SeatAllocator allocator = new SeatAllocator();
+        allocator.classRepository = classRepository;
+        allocator.transactionHooks = transactionHooks;
+        allocator.classCatalog = classCatalog;
+        allocator.seatFeed = new SeatFeed();
+        allocator.seatFeed.transactionHooks = transactionHooks;
+        allocator.seatFeed.classCatalog = classCatalog;
+        allocator.fullRecheckInterval = fullRecheckInterval;
+        return allocator;
+    }
+}
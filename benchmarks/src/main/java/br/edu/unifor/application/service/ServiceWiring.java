@@ -0,0 +1,67 @@
+package br.edu.unifor.application.service;
+
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.counter.ActivityCounters;
+import br.edu.unifor.application.event.DomainEvents;
+import br.edu.unifor.application.seat.SeatAllocator;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.RegistrationSequenceRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.domain.repository.WaitlistRepository;
+
+/**
+ * Monta os services fora do CDI (campos de injeção são package-private).
+ */
+public final class ServiceWiring {
+
+    private ServiceWiring() {
+    }
+
+    public static EnrollmentService enrollmentService(EnrollmentRepository enrollmentRepository,
+            StudentRepository studentRepository, ClassRepository classRepository, SeatAllocator seatAllocator,
+            StudentTimetableIndex studentTimetableIndex, WaitlistRepository waitlistRepository,
+            ActivityCounters counters, StudentEnrollmentCache studentEnrollmentCache, DomainEvents domainEvents,
+            ObjectMapper objectMapper) {
+        EnrollmentService service = new EnrollmentService();
+        service.enrollmentRepository = enrollmentRepository;
+        service.studentRepository = studentRepository;
+        service.classRepository = classRepository;
+        service.seatAllocator = seatAllocator;
+        service.studentTimetableIndex = studentTimetableIndex;
+        service.waitlistRepository = waitlistRepository;
+        service.counters = counters;
+        service.studentEnrollmentCache = studentEnrollmentCache;
+        service.domainEvents = domainEvents;
+        service.objectMapper = objectMapper;
+        service.defaultPageLimit = 100;
+        service.maxPageLimit = 1000;
+        service.exportFetchSize = 500;
+        return service;
+    }
+
+    /**
+     * Sem JTA: a "transação própria" da reserva de faixa roda direto.
+     */
+    public static RegistrationService registrationService(RegistrationSequenceRepository sequenceRepository,
+            int blockSize) {
+        RegistrationService service = new RegistrationService() {
+            @Override
+            protected <T> T inNewTransaction(Callable<T> work) {
+                try {
+                    return work.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        service.sequenceRepository = sequenceRepository;
+        service.blockSize = blockSize;
+        return service;
+    }
+}
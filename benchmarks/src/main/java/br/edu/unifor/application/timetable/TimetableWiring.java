@@ -0,0 +1,24 @@
+package br.edu.unifor.application.timetable;
+
+import java.time.Duration;
+
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Monta os índices de agenda fora do CDI (campos de injeção são package-private).
+ */
+public final class TimetableWiring {
+
+    private TimetableWiring() {
+    }
+
+    public static StudentTimetableIndex studentIndex(EnrollmentRepository enrollmentRepository,
+            TransactionHooks transactionHooks, Duration maxAge) {
+        StudentTimetableIndex index = new StudentTimetableIndex();
+        index.enrollmentRepository = enrollmentRepository;
+        index.transactionHooks = transactionHooks;
+        index.maxAge = maxAge;
+        return index;
+    }
+}
@@ -0,0 +1,143 @@
+package br.edu.unifor.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.unifor.domain.timetable.ClassPlan;
+import br.edu.unifor.domain.timetable.ClassPlanner;
+import br.edu.unifor.domain.timetable.PlanningProblem;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+
+/**
+ * Geração da grade de um semestre ({@link ClassPlanner}) com dados sintéticos.
+ *
+ * A grade tem 6 dias com 6 blocos de 1h50 e um bloco deslocado por dia
+ * (08:30), que se sobrepõe a dois outros. Cada curso oferece
+ * {@value #SUBJECTS_PER_COURSE} disciplinas com 1 a 3 turmas; cada disciplina
+ * tem {@value #QUALIFIED_PER_SUBJECT} professores habilitados, há cerca de um
+ * professor para cada 5 turmas (no máximo {@value #MAX_PER_PROFESSOR}) e um
+ * terço deles já tem duas turmas na semana.
+ *
+ * Além do tempo, cada execução registra em {@code unplaced} e
+ * {@code courseOverlaps} a qualidade da grade encontrada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ClassPlannerBenchmark {
+
+    private static final int SUBJECTS_PER_COURSE = 10;
+    private static final int QUALIFIED_PER_SUBJECT = 12;
+    private static final int MAX_PER_PROFESSOR = 6;
+    private static final String[] STARTS = { "07:30", "09:30", "13:30", "15:30", "18:30", "20:30" };
+
+    /** Turmas a alocar (aproximado: a última disciplina de cada curso completa o total). */
+    @Param({ "1000", "5000" })
+    public int sections;
+
+    @Param({ "1", "8" })
+    public int searches;
+
+    @Param("4")
+    public int parallelism;
+
+    @Param("20000")
+    public int iterations;
+
+    private PlanningProblem problem;
+    private ForkJoinPool pool;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Quality {
+        public long unplaced;
+        public long courseOverlaps;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        problem = syntheticProblem(sections, new SplittableRandom(42));
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public ClassPlan solve(Quality quality) {
+        ClassPlan plan = new ClassPlanner(problem).solve(searches, iterations, pool);
+        quality.unplaced += plan.unplaced().size();
+        quality.courseOverlaps += plan.courseOverlaps();
+        return plan;
+    }
+
+    static PlanningProblem syntheticProblem(int sectionCount, SplittableRandom random) {
+        List<PlanningProblem.Slot> slots = new ArrayList<>();
+        long scheduleId = 1;
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)) {
+            for (String start : STARTS) {
+                slots.add(slot(scheduleId++, day, LocalTime.parse(start)));
+            }
+            slots.add(slot(scheduleId++, day, LocalTime.of(8, 30)));
+        }
+
+        int professorCount = Math.max(QUALIFIED_PER_SUBJECT, sectionCount / 5);
+        List<PlanningProblem.Teacher> professors = new ArrayList<>(professorCount);
+        for (long id = 1; id <= professorCount; id++) {
+            WeeklySlotMask busy = WeeklySlotMask.EMPTY;
+            if (id % 3 == 0) {
+                busy = busy.or(slots.get(random.nextInt(slots.size())).mask())
+                        .or(slots.get(random.nextInt(slots.size())).mask());
+            }
+            professors.add(new PlanningProblem.Teacher(id, busy));
+        }
+
+        List<PlanningProblem.Section> result = new ArrayList<>(sectionCount);
+        long subjectId = 1;
+        for (long courseId = 1; result.size() < sectionCount; courseId++) {
+            for (int s = 0; s < SUBJECTS_PER_COURSE && result.size() < sectionCount; s++, subjectId++) {
+                Set<Long> qualified = new HashSet<>();
+                while (qualified.size() < QUALIFIED_PER_SUBJECT) {
+                    qualified.add(1L + random.nextInt(professorCount));
+                }
+                int classes = 1 + random.nextInt(3);
+                for (int c = 0; c < classes && result.size() < sectionCount; c++) {
+                    result.add(new PlanningProblem.Section(courseId, subjectId, 40, Set.copyOf(qualified)));
+                }
+            }
+        }
+        return new PlanningProblem(slots, professors, result, MAX_PER_PROFESSOR);
+    }
+
+    private static PlanningProblem.Slot slot(long id, DayOfWeek day, LocalTime start) {
+        return new PlanningProblem.Slot(id, WeeklySlotMask.of(day, start, start.plusMinutes(110)));
+    }
+}
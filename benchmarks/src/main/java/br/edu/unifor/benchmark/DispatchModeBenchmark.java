@@ -0,0 +1,156 @@
+package br.edu.unifor.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.unifor.infrastructure.bulkhead.BulkheadWiring;
+import br.edu.unifor.infrastructure.bulkhead.DatabaseBulkhead;
+import br.edu.unifor.infrastructure.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Worker pool contra virtual threads para endpoints bloqueantes.
+ *
+ * Cada operação é uma rajada de {@code burst} requisições; cada requisição
+ * espera {@code ioMillis} fora do banco (token, rede) e depois ocupa uma
+ * "conexão" por {@code dbMillis}. O pool de conexões é simulado como o Agroal:
+ * 20 conexões e timeout de aquisição, e falhas de aquisição são contadas em
+ * {@code poolTimeouts}.
+ *
+ * <ul>
+ * <li>WORKER_POOL: executor fixo de {@code workerThreads} threads (o worker pool do Quarkus)</li>
+ * <li>VIRTUAL: uma virtual thread por requisição, sem bulkhead</li>
+ * <li>VIRTUAL_BULKHEAD: virtual threads com o DatabaseBulkhead na frente do pool</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchModeBenchmark {
+
+    private static final int CONNECTIONS = 20;
+
+    public enum DispatchMode {
+        WORKER_POOL, VIRTUAL, VIRTUAL_BULKHEAD
+    }
+
+    @Param({ "WORKER_POOL", "VIRTUAL", "VIRTUAL_BULKHEAD" })
+    public DispatchMode mode;
+
+    @Param("2000")
+    public int burst;
+
+    @Param("64")
+    public int workerThreads;
+
+    @Param({ "2", "10" })
+    public long ioMillis;
+
+    @Param("2")
+    public long dbMillis;
+
+    /** Timeout de aquisição do pool simulado (o do Agroal é maior; aqui é reduzido para a rajada). */
+    @Param("50")
+    public long poolTimeoutMillis;
+
+    private ExecutorService executor;
+    private Semaphore connectionPool;
+    private DatabaseBulkhead bulkhead;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Failures {
+        public long poolTimeouts;
+        public long rejected;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = mode == DispatchMode.WORKER_POOL
+                ? Executors.newFixedThreadPool(workerThreads)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        connectionPool = new Semaphore(CONNECTIONS, true);
+        bulkhead = BulkheadWiring.databaseBulkhead(CONNECTIONS, Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long burst(Failures failures) throws Exception {
+        LongAdder poolTimeouts = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        List<Future<?>> requests = new ArrayList<>(burst);
+        for (int i = 0; i < burst; i++) {
+            requests.add(executor.submit(() -> request(poolTimeouts, rejected)));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        failures.poolTimeouts += poolTimeouts.sum();
+        failures.rejected += rejected.sum();
+        return poolTimeouts.sum();
+    }
+
+    private void request(LongAdder poolTimeouts, LongAdder rejected) {
+        try {
+            Thread.sleep(ioMillis);
+            if (mode == DispatchMode.VIRTUAL_BULKHEAD) {
+                try {
+                    bulkhead.acquire();
+                } catch (DatabaseBusyException e) {
+                    rejected.increment();
+                    return;
+                }
+                try {
+                    useConnection(poolTimeouts);
+                } finally {
+                    bulkhead.release();
+                }
+            } else {
+                useConnection(poolTimeouts);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void useConnection(LongAdder poolTimeouts) throws InterruptedException {
+        if (!connectionPool.tryAcquire(poolTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            poolTimeouts.increment();
+            return;
+        }
+        try {
+            Thread.sleep(dbMillis);
+        } finally {
+            connectionPool.release();
+        }
+    }
+}
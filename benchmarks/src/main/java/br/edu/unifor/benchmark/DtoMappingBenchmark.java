@@ -0,0 +1,58 @@
+package br.edu.unifor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Enrollment;
+
+/**
+ * Mapeamento entidade → DTO (construtores que navegam o grafo) contra os
+ * construtores de projeção usados pelas consultas SELECT new.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Benchmark
+    public StudentEnrollmentResponse studentEnrollmentFromEntity(EntityGraphState state) {
+        return new StudentEnrollmentResponse(state.enrollment);
+    }
+
+    @Benchmark
+    public StudentEnrollmentResponse studentEnrollmentProjection(EntityGraphState state) {
+        Enrollment e = state.enrollment;
+        Class c = e.classEntity;
+        return new StudentEnrollmentResponse(e.id, c.subject.code, c.subject.name, c.professor.name,
+                c.schedule.dayOfWeek, c.schedule.startTime, c.schedule.endTime, c.schedule.period,
+                c.code, e.enrollmentDate, e.status);
+    }
+
+    @Benchmark
+    public ClassResponse classFromEntity(EntityGraphState state) {
+        return new ClassResponse(state.classEntity);
+    }
+
+    @Benchmark
+    public ClassResponse classProjection(EntityGraphState state) {
+        Class c = state.classEntity;
+        return new ClassResponse(c.id, c.code, c.maxCapacity, c.enrolledStudents, c.seatVersion, c.semester, c.status,
+                c.subject.id, c.subject.code, c.subject.name, c.subject.workload,
+                c.professor.id, c.professor.name, c.professor.email, c.professor.department,
+                c.schedule.id, c.schedule.dayOfWeek, c.schedule.startTime, c.schedule.endTime, c.schedule.period,
+                c.course.id, c.course.code, c.course.name, c.course.department, c.course.duration,
+                c.course.active);
+    }
+}
@@ -0,0 +1,144 @@
+package br.edu.unifor.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.edu.unifor.application.cache.CacheWiring;
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.catalog.CatalogWiring;
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.application.counter.ActivityCounters;
+import br.edu.unifor.application.counter.CounterWiring;
+import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.application.event.DomainEvents;
+import br.edu.unifor.application.event.EventWiring;
+import br.edu.unifor.application.seat.SeatAllocator;
+import br.edu.unifor.application.seat.SeatWiring;
+import br.edu.unifor.application.service.EnrollmentService;
+import br.edu.unifor.application.service.ServiceWiring;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
+import br.edu.unifor.application.timetable.TimetableWiring;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Course;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+import br.edu.unifor.infrastructure.exception.StudentScheduleConflictException;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Validações de EnrollmentService.create (aluno ativo, turma ativa, duplicidade,
+ * conflito de horário pelo índice em bitset, reserva de vaga e evento no outbox), com os
+ * repositórios em memória. Mede o custo da aplicação, não do banco.
+ *
+ * Cada operação de {@link #create} libera a agenda do aluno em seguida, para
+ * que o mesmo aluno possa ser reutilizado sem gerar conflito.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrollmentCreateBenchmark {
+
+    private static final long CONFLICTING_STUDENT = 0L;
+
+    @Param({ "1000" })
+    int students;
+
+    @Param({ "50" })
+    int classes;
+
+    private EnrollmentService service;
+    private StudentTimetableIndex timetableIndex;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        TransactionHooks hooks = new ImmediateTransactionHooks();
+        InMemoryStudentRepository studentRepository = new InMemoryStudentRepository();
+        InMemoryClassRepository classRepository = new InMemoryClassRepository();
+        InMemoryEnrollmentRepository enrollmentRepository = new InMemoryEnrollmentRepository();
+
+        Course course = Fixtures.course(1);
+        for (long id = 0; id < students; id++) {
+            studentRepository.put(Fixtures.student(id, course));
+        }
+        DayOfWeek[] days = { DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+                DayOfWeek.FRIDAY };
+        for (long id = 1; id <= classes; id++) {
+            LocalTime start = LocalTime.of(7, 30).plusHours(2 * ((id - 1) / days.length % 7));
+            classRepository.put(Fixtures.classEntity(id,
+                    course, Fixtures.schedule(id, days[(int) ((id - 1) % days.length)], start), Integer.MAX_VALUE));
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ClassCatalog classCatalog = CatalogWiring.classCatalog(classRepository, hooks, objectMapper,
+                Duration.ofSeconds(30));
+        SeatAllocator seatAllocator = SeatWiring.seatAllocator(classRepository, hooks, classCatalog,
+                Duration.ofSeconds(1));
+        timetableIndex = TimetableWiring.studentIndex(enrollmentRepository, hooks, Duration.ofSeconds(30));
+        ActivityCounters counters = CounterWiring.activityCounters(enrollmentRepository, classRepository,
+                studentRepository, hooks);
+        StudentEnrollmentCache studentEnrollmentCache = CacheWiring.studentEnrollmentCache(
+                new InMemoryCache(StudentEnrollmentCache.NAME), enrollmentRepository, hooks);
+        DomainEvents domainEvents = EventWiring.domainEvents(new InMemoryOutboxEventRepository(), objectMapper,
+                hooks);
+
+        service = ServiceWiring.enrollmentService(enrollmentRepository, studentRepository, classRepository,
+                seatAllocator, timetableIndex, new InMemoryWaitlistRepository(), counters, studentEnrollmentCache,
+                domainEvents, objectMapper);
+
+        // aluno 0 já ocupa todos os horários: toda matrícula dele conflita
+        for (long id = 1; id <= classes; id++) {
+            Class classEntity = classRepository.findDetailById(id).orElseThrow();
+            timetableIndex.timetableOf(CONFLICTING_STUDENT);
+            timetableIndex.occupy(CONFLICTING_STUDENT, id, WeeklySlotMask.of(classEntity.schedule));
+        }
+    }
+
+    @Benchmark
+    public Enrollment create() {
+        long n = sequence.incrementAndGet();
+        CreateEnrollmentRequest request = new CreateEnrollmentRequest();
+        request.studentId = 1 + n % (students - 1);
+        request.classId = 1 + n % classes;
+
+        Enrollment enrollment = service.create(request);
+        timetableIndex.release(request.studentId, request.classId);
+        return enrollment;
+    }
+
+    @Benchmark
+    public Object rejectScheduleConflict() {
+        CreateEnrollmentRequest request = new CreateEnrollmentRequest();
+        request.studentId = CONFLICTING_STUDENT;
+        request.classId = 1 + sequence.incrementAndGet() % classes;
+        try {
+            return service.create(request);
+        } catch (StudentScheduleConflictException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.edu.unifor.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Course;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.Student;
+
+/**
+ * Grafo completo de uma matrícula e uma página de turmas/matrículas,
+ * compartilhado pelos benchmarks de mapeamento e serialização.
+ */
+@State(Scope.Benchmark)
+public class EntityGraphState {
+
+    @Param({ "50" })
+    public int pageSize;
+
+    public Enrollment enrollment;
+    public Class classEntity;
+    public List<Class> classes;
+    public List<Enrollment> enrollments;
+    public List<ClassResponse> classResponses;
+    public List<StudentEnrollmentResponse> studentEnrollments;
+
+    @Setup
+    public void setUp() {
+        Course course = Fixtures.course(1);
+        Student student = Fixtures.student(1, course);
+        DayOfWeek[] days = DayOfWeek.values();
+
+        classes = new ArrayList<>(pageSize);
+        enrollments = new ArrayList<>(pageSize);
+        classResponses = new ArrayList<>(pageSize);
+        studentEnrollments = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Class c = Fixtures.classEntity(id, course,
+                    Fixtures.schedule(id, days[(int) (id % 5)], LocalTime.of(7, 30).plusHours(id % 7 * 2)), 60);
+            Enrollment e = Fixtures.enrollment(id, student, c);
+            classes.add(c);
+            enrollments.add(e);
+            classResponses.add(new ClassResponse(c));
+            studentEnrollments.add(new StudentEnrollmentResponse(e));
+        }
+        classEntity = classes.get(0);
+        enrollment = enrollments.get(0);
+    }
+}
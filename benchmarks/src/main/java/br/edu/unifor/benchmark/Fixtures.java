@@ -0,0 +1,69 @@
+package br.edu.unifor.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Course;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.Professor;
+import br.edu.unifor.domain.entity.Schedule;
+import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.entity.Subject;
+
+/**
+ * Grafo de entidades equivalente ao dos seeds (V2..V9), montado em memória.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static Course course(long id) {
+        Course course = new Course("ENG_SOFT", "Engenharia de Software", "Centro de Ciências Tecnológicas", 8, true);
+        course.id = id;
+        return course;
+    }
+
+    public static Subject subject(long id) {
+        Subject subject = new Subject("ES" + id, "Engenharia de Requisitos", 60, 4,
+                "Elicitação, análise, especificação e validação de requisitos");
+        subject.id = id;
+        return subject;
+    }
+
+    public static Professor professor(long id) {
+        Professor professor = new Professor("Maria Iana Araújo", "maria.iana@unifor.br", "Doutor", "Ciência da Computação");
+        professor.id = id;
+        professor.registration = "2600101";
+        return professor;
+    }
+
+    public static Schedule schedule(long id, DayOfWeek day, LocalTime start) {
+        Schedule schedule = new Schedule(day, start, start.plusMinutes(100));
+        schedule.id = id;
+        return schedule;
+    }
+
+    public static Class classEntity(long id, Course course, Schedule schedule, int capacity) {
+        Class classEntity = new Class("T" + id, subject(id), professor(id), schedule, course, capacity, "2026.1");
+        classEntity.id = id;
+        classEntity.enrolledStudents = 0;
+        return classEntity;
+    }
+
+    public static Student student(long id, Course course) {
+        Student student = new Student("Ana Silva Santos", "aluno" + id + "@aluno.unifor.br", "12345678901",
+                "85987654321", course);
+        student.id = id;
+        student.registration = "26" + (10000 + id % 90000);
+        return student;
+    }
+
+    public static Enrollment enrollment(long id, Student student, Class classEntity) {
+        Enrollment enrollment = new Enrollment(student, classEntity);
+        enrollment.id = id;
+        enrollment.prePersist();
+        return enrollment;
+    }
+}
@@ -0,0 +1,18 @@
+package br.edu.unifor.benchmark;
+
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Substitui a JTA: toda "transação" é confirmada na hora.
+ */
+public class ImmediateTransactionHooks extends TransactionHooks {
+
+    @Override
+    public void afterCommit(Runnable action) {
+        action.run();
+    }
+
+    @Override
+    public void afterRollback(Runnable action) {
+    }
+}
@@ -0,0 +1,77 @@
+package br.edu.unifor.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Cache do quarkus-cache sobre um ConcurrentHashMap, sem limite nem expiração.
+ */
+public class InMemoryCache implements Cache {
+
+    private final String name;
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    public InMemoryCache(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return "default-key";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return Uni.createFrom().item(() -> (V) values.computeIfAbsent(key, k -> valueLoader.apply(key)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        Object cached = values.get(key);
+        if (cached != null) {
+            return Uni.createFrom().item((V) cached);
+        }
+        return valueLoader.apply(key).invoke(value -> values.put(key, value));
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        return Uni.createFrom().item(() -> {
+            values.remove(key);
+            return null;
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().item(() -> {
+            values.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return Uni.createFrom().item(() -> {
+            values.keySet().removeIf(predicate);
+            return null;
+        });
+    }
+
+    @Override
+    public <T extends Cache> T as(Class<T> type) {
+        return type.cast(this);
+    }
+}
@@ -0,0 +1,57 @@
+package br.edu.unifor.benchmark;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
+
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.repository.ClassRepository;
+
+/**
+ * Turmas em memória. O UPDATE condicional de vagas é simulado sobre o
+ * próprio objeto, com a mesma regra (enrolled + seats <= capacity).
+ */
+public class InMemoryClassRepository extends ClassRepository {
+
+    private final Map<Long, Class> classes = new ConcurrentHashMap<>();
+
+    public void put(Class classEntity) {
+        classes.put(classEntity.id, classEntity);
+    }
+
+    @Override
+    public Optional<Class> findDetailById(Long id) {
+        return Optional.ofNullable(classes.get(id));
+    }
+
+    @Override
+    public int reserveSeats(Long classId, int seats) {
+        Class classEntity = classes.get(classId);
+        synchronized (classEntity) {
+            if (classEntity.enrolledStudents + seats > classEntity.maxCapacity) {
+                return 0;
+            }
+            classEntity.enrolledStudents += seats;
+            return 1;
+        }
+    }
+
+    @Override
+    public int releaseSeats(Long classId, int seats) {
+        Class classEntity = classes.get(classId);
+        synchronized (classEntity) {
+            if (classEntity.enrolledStudents < seats) {
+                return 0;
+            }
+            classEntity.enrolledStudents -= seats;
+            return 1;
+        }
+    }
+
+    @Override
+    public EntityManager getEntityManager() {
+        return NoOpEntityManager.INSTANCE;
+    }
+}
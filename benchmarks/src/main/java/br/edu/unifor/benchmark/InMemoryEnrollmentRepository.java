@@ -0,0 +1,35 @@
+package br.edu.unifor.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.timetable.ClassSlot;
+
+/**
+ * Não guarda as matrículas: o persist apenas atribui um id, como a sequência
+ * do banco faria. Agendas começam vazias.
+ */
+public class InMemoryEnrollmentRepository extends EnrollmentRepository {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public Optional<EnrollmentStatus> findStatus(Long studentId, Long classId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ClassSlot> findActiveSlotsByStudent(Long studentId) {
+        return List.of();
+    }
+
+    @Override
+    public void persist(Enrollment enrollment) {
+        enrollment.id = ids.incrementAndGet();
+        enrollment.prePersist();
+    }
+}
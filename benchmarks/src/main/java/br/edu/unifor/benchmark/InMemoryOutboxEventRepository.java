@@ -0,0 +1,19 @@
+package br.edu.unifor.benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.edu.unifor.domain.entity.OutboxEvent;
+import br.edu.unifor.domain.repository.OutboxEventRepository;
+
+/**
+ * Não guarda os eventos: o persist apenas atribui um id, como a sequência do banco faria.
+ */
+public class InMemoryOutboxEventRepository extends OutboxEventRepository {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public void persist(OutboxEvent event) {
+        event.id = ids.incrementAndGet();
+    }
+}
@@ -0,0 +1,29 @@
+package br.edu.unifor.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.edu.unifor.domain.registration.RegistrationKind;
+import br.edu.unifor.domain.repository.RegistrationSequenceRepository;
+
+/**
+ * Sequência em memória. Volta ao início ao esgotar o ano, para que o
+ * benchmark possa rodar indefinidamente (o serviço real falharia).
+ */
+public class InMemoryRegistrationSequenceRepository extends RegistrationSequenceRepository {
+
+    private static final int SUFFIXES = 90000;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public int reserve(RegistrationKind kind, String yearPrefix, int size) {
+        int offset = Math.floorMod(next.getAndAdd(size), SUFFIXES - SUFFIXES % size);
+        return FIRST_SUFFIX + offset;
+    }
+
+    @Override
+    public Set<String> findTaken(RegistrationKind kind, String from, String to) {
+        return Set.of();
+    }
+}
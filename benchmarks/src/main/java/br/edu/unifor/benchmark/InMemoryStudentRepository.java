@@ -0,0 +1,22 @@
+package br.edu.unifor.benchmark;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.repository.StudentRepository;
+
+public class InMemoryStudentRepository extends StudentRepository {
+
+    private final Map<Long, Student> students = new ConcurrentHashMap<>();
+
+    public void put(Student student) {
+        students.put(student.id, student);
+    }
+
+    @Override
+    public Optional<Student> findDetailById(Long id) {
+        return Optional.ofNullable(students.get(id));
+    }
+}
@@ -0,0 +1,14 @@
+package br.edu.unifor.benchmark;
+
+import br.edu.unifor.domain.repository.WaitlistRepository;
+
+/**
+ * Nenhuma turma tem lista de espera: toda vaga livre pode ser reservada.
+ */
+public class InMemoryWaitlistRepository extends WaitlistRepository {
+
+    @Override
+    public boolean hasEntries(Long classId) {
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package br.edu.unifor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Serialização Jackson das respostas da API: entidades com o grafo completo
+ * (como os endpoints que devolvem Enrollment/Class) e os DTOs equivalentes.
+ * O ObjectMapper segue a configuração padrão do Quarkus (java.time como texto).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Benchmark
+    public byte[] enrollmentEntity(EntityGraphState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.enrollment);
+    }
+
+    @Benchmark
+    public byte[] enrollmentEntityPage(EntityGraphState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.enrollments);
+    }
+
+    @Benchmark
+    public byte[] studentEnrollmentPage(EntityGraphState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.studentEnrollments);
+    }
+
+    @Benchmark
+    public byte[] classEntityPage(EntityGraphState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.classes);
+    }
+
+    @Benchmark
+    public byte[] classResponsePage(EntityGraphState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.classResponses);
+    }
+}
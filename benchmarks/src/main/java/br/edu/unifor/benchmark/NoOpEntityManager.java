@@ -0,0 +1,19 @@
+package br.edu.unifor.benchmark;
+
+import java.lang.reflect.Proxy;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * EntityManager que ignora todas as chamadas (ex.: refresh após a reserva de vaga).
+ */
+public final class NoOpEntityManager {
+
+    public static final EntityManager INSTANCE = (EntityManager) Proxy.newProxyInstance(
+            EntityManager.class.getClassLoader(),
+            new java.lang.Class<?>[] { EntityManager.class },
+            (proxy, method, args) -> method.getReturnType() == boolean.class ? false : null);
+
+    private NoOpEntityManager() {
+    }
+}
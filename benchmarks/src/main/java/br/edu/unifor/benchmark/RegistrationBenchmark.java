@@ -0,0 +1,75 @@
+package br.edu.unifor.benchmark;
+
+import java.time.Year;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.unifor.application.service.RegistrationService;
+import br.edu.unifor.application.service.ServiceWiring;
+import br.edu.unifor.domain.registration.RegistrationKind;
+
+/**
+ * Geração de matrículas: alocação por faixas (RegistrationService.next)
+ * contra o gerador antigo (Random compartilhado + verificação de existência
+ * até achar um número livre), com o ano {@code fill} ocupado.
+ *
+ * No gerador antigo cada verificação era uma consulta ao banco; aqui ela é um
+ * Set em memória, então a diferença real é maior do que a medida.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RegistrationBenchmark {
+
+    @Param({ "0.1", "0.5", "0.9" })
+    double fill;
+
+    private RegistrationService service;
+    private final Random random = new Random();
+    private final Set<String> existing = ConcurrentHashMap.newKeySet();
+    private String yearPrefix;
+
+    @Setup
+    public void setUp() {
+        service = ServiceWiring.registrationService(new InMemoryRegistrationSequenceRepository(), 100);
+
+        yearPrefix = String.valueOf(Year.now().getValue()).substring(2);
+        Random seed = new Random(42);
+        while (existing.size() < 90000 * fill) {
+            existing.add(yearPrefix + (seed.nextInt(90000) + 10000));
+        }
+    }
+
+    @Benchmark
+    public String blockAllocator() {
+        return service.next(RegistrationKind.STUDENT);
+    }
+
+    @Benchmark
+    public String legacyRandomRetry() {
+        String registration;
+        do {
+            registration = yearPrefix + (random.nextInt(90000) + 10000);
+        } while (existing.contains(registration));
+        return registration;
+    }
+}
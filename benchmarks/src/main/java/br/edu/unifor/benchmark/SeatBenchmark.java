@@ -0,0 +1,76 @@
+package br.edu.unifor.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.unifor.application.seat.SeatCounter;
+import br.edu.unifor.domain.entity.Class;
+
+/**
+ * Contador de vagas: Class.incrementEnrollment (Integer, sem sincronização,
+ * usado antes do SeatAllocator) contra o SeatCounter (CAS), este também sob
+ * disputa de 4 threads na mesma turma.
+ *
+ * Cada operação ocupa e libera uma vaga, para o contador não esgotar.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatBenchmark {
+
+    private Class classEntity;
+    private SeatCounter counter;
+
+    @Setup
+    public void setUp() {
+        classEntity = Fixtures.classEntity(1, Fixtures.course(1),
+                Fixtures.schedule(1, DayOfWeek.MONDAY, LocalTime.of(7, 30)), 60);
+        counter = new SeatCounter(0, 60);
+    }
+
+    @Benchmark
+    @Group("entityCounter")
+    @GroupThreads(1)
+    public Integer incrementEnrollment() {
+        classEntity.incrementEnrollment();
+        classEntity.decrementEnrollment();
+        return classEntity.enrolledStudents;
+    }
+
+    @Benchmark
+    @Group("seatCounter")
+    @GroupThreads(1)
+    public boolean seatCounter() {
+        boolean acquired = counter.tryAcquire(1);
+        counter.release(1);
+        return acquired;
+    }
+
+    @Benchmark
+    @Group("seatCounterContended")
+    @GroupThreads(4)
+    public boolean seatCounterContended() {
+        boolean acquired = counter.tryAcquire(1);
+        if (acquired) {
+            counter.release(1);
+        }
+        return acquired;
+    }
+}
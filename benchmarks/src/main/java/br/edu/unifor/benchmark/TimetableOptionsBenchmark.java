@@ -0,0 +1,113 @@
+package br.edu.unifor.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.unifor.domain.timetable.TimetableCandidate;
+import br.edu.unifor.domain.timetable.TimetableOptionFinder;
+import br.edu.unifor.domain.timetable.TimetableOptions;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+
+/**
+ * Sugestões de grade ({@link TimetableOptionFinder}) para um aluno com dados sintéticos.
+ *
+ * A semana tem 6 dias com 6 blocos de 1h50 e um bloco deslocado por dia (08:30),
+ * que se sobrepõe a dois outros. Cada disciplina tem {@code classesPerSubject}
+ * turmas em blocos sorteados, uma em cada dez sem vagas, e o aluno já ocupa
+ * dois blocos. O tempo de busca não é limitado ({@value #BUDGET_SECONDS}s),
+ * para medir a busca completa.
+ *
+ * Além do tempo, cada execução registra em {@code explored} os nós visitados
+ * e em {@code options} as grades devolvidas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TimetableOptionsBenchmark {
+
+    private static final int BUDGET_SECONDS = 60;
+    private static final String[] STARTS = { "07:30", "09:30", "13:30", "15:30", "18:30", "20:30" };
+
+    @Param({ "8", "10", "12" })
+    public int subjects;
+
+    @Param({ "4", "8" })
+    public int classesPerSubject;
+
+    @Param("10")
+    public int limit;
+
+    private List<List<TimetableCandidate>> candidates;
+    private WeeklySlotMask occupied;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Search {
+        public long explored;
+        public long options;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<WeeklySlotMask> slots = weekSlots();
+
+        occupied = slots.get(random.nextInt(slots.size())).or(slots.get(random.nextInt(slots.size())));
+        candidates = new ArrayList<>(subjects);
+        long classId = 1;
+        for (int subject = 0; subject < subjects; subject++) {
+            List<TimetableCandidate> group = new ArrayList<>(classesPerSubject);
+            for (int c = 0; c < classesPerSubject; c++) {
+                int availableSlots = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(40);
+                group.add(new TimetableCandidate(classId++, slots.get(random.nextInt(slots.size())), availableSlots));
+            }
+            candidates.add(group);
+        }
+    }
+
+    @Benchmark
+    public TimetableOptions find(Search search) {
+        TimetableOptions found = new TimetableOptionFinder(candidates, occupied)
+                .find(limit, TimeUnit.SECONDS.toNanos(BUDGET_SECONDS));
+        search.explored += found.explored();
+        search.options += found.options().size();
+        return found;
+    }
+
+    private static List<WeeklySlotMask> weekSlots() {
+        List<WeeklySlotMask> slots = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)) {
+            for (String start : STARTS) {
+                slots.add(slot(day, LocalTime.parse(start)));
+            }
+            slots.add(slot(day, LocalTime.of(8, 30)));
+        }
+        return slots;
+    }
+
+    private static WeeklySlotMask slot(DayOfWeek day, LocalTime start) {
+        return WeeklySlotMask.of(day, start, start.plusMinutes(110));
+    }
+}
@@ -0,0 +1,23 @@
+package br.edu.unifor.infrastructure.bulkhead;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Monta o DatabaseBulkhead fora do CDI (campos de configuração são package-private).
+ */
+public final class BulkheadWiring {
+
+    private BulkheadWiring() {
+    }
+
+    public static DatabaseBulkhead databaseBulkhead(int permits, Duration acquireTimeout, MeterRegistry registry) {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead();
+        bulkhead.permits = permits;
+        bulkhead.acquireTimeout = acquireTimeout;
+        bulkhead.registry = registry;
+        bulkhead.init();
+        return bulkhead;
+    }
+}
@@ -0,0 +1,105 @@
+package br.edu.unifor.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acesso JDBC direto ao banco da aplicação: descobre a massa semeada por
+ * {@code R__seed_load_test.sql} e, ao final, confere o que foi gravado
+ * (turmas acima da capacidade, contador divergente e deadlocks do PostgreSQL).
+ */
+final class DatabaseProbe {
+
+    private static final String LOAD_STUDENTS = "SELECT id FROM students WHERE registration LIKE '99%' AND active ORDER BY id";
+
+    private static final String LOAD_CLASSES = "SELECT id, max_capacity FROM classes WHERE code LIKE 'CARGA-%' AND status = 'ATIVA' ORDER BY id";
+
+    private static final String DEADLOCKS = "SELECT deadlocks FROM pg_stat_database WHERE datname = current_database()";
+
+    private static final String ACTIVE_BY_CLASS = """
+            SELECT c.max_capacity, c.enrolled_students,
+                   (SELECT count(*) FROM enrollments e WHERE e.class_id = c.id AND e.status = 'ATIVA') AS active
+            FROM classes c WHERE c.code LIKE 'CARGA-%'
+            """;
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    DatabaseProbe(String url, String user, String password) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    List<Long> studentIds() throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(LOAD_STUDENTS)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Turmas de carga ativas, com a capacidade máxima de cada uma.
+     */
+    Map<Long, Integer> classCapacities() throws SQLException {
+        Map<Long, Integer> capacities = new LinkedHashMap<>();
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(LOAD_CLASSES)) {
+            while (rs.next()) {
+                capacities.put(rs.getLong(1), rs.getInt(2));
+            }
+        }
+        return capacities;
+    }
+
+    long deadlocks() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(DEADLOCKS)) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+
+    /**
+     * Estado das turmas de carga após a execução.
+     */
+    ClassAudit audit() throws SQLException {
+        int oversold = 0;
+        int drifted = 0;
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(ACTIVE_BY_CLASS)) {
+            while (rs.next()) {
+                long active = rs.getLong("active");
+                if (active > rs.getInt("max_capacity")) {
+                    oversold++;
+                }
+                if (active != rs.getInt("enrolled_students")) {
+                    drifted++;
+                }
+            }
+        }
+        return new ClassAudit(oversold, drifted);
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    /**
+     * @param oversold turmas com mais matrículas ativas que a capacidade
+     * @param drifted  turmas cujo {@code enrolled_students} difere da contagem real
+     */
+    record ClassAudit(int oversold, int drifted) {
+    }
+}
@@ -0,0 +1,61 @@
+package br.edu.unifor.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latências de uma operação registradas por um único worker.
+ *
+ * Sem sincronização: cada thread tem o seu recorder e os resultados são
+ * combinados com {@link #merge(LatencyRecorder)} ao fim da execução.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, size + other.size);
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Percentis em milissegundos, na ordem pedida (ex.: 0.5, 0.99).
+     */
+    double[] percentilesMillis(double... quantiles) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double[] result = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            if (size == 0) {
+                continue;
+            }
+            int index = (int) Math.ceil(quantiles[i] * size) - 1;
+            result[i] = sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package br.edu.unifor.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gerador de carga da semana de matrícula.
+ *
+ * Usa a massa do perfil %loadtest e dispara, com {@code loadtest.users} threads
+ * concorrentes durante {@code loadtest.duration} segundos, uma mistura de
+ * POST /enrollments (concentrado nas turmas "quentes", como no primeiro dia de
+ * matrícula) e GET /enrollments/student/{id}/active. Ao final, imprime p50/p99
+ * e vazão por operação, as respostas por status e a conferência no banco
+ * (turmas acima da capacidade e deadlocks registrados pelo PostgreSQL).
+ *
+ * Configuração por propriedades de sistema (-D), todas opcionais:
+ * <ul>
+ * <li>loadtest.base-url (http://localhost:8080)</li>
+ * <li>loadtest.users (200), loadtest.duration (60), loadtest.read-ratio (0.5)</li>
+ * <li>loadtest.hot-classes (20): turmas que recebem 80% das tentativas de matrícula</li>
+ * <li>loadtest.reactive-reads (false): lê por GET /portal/students/{id}/enrollments/active</li>
+ * <li>loadtest.jdbc.url, loadtest.jdbc.user, loadtest.jdbc.password (banco do docker-compose)</li>
+ * </ul>
+ */
+public final class RegistrationWeekLoad {
+
+    private static final double HOT_SHARE = 0.8;
+
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private final int users = Integer.getInteger("loadtest.users", 200);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+    private final double readRatio = Double.parseDouble(System.getProperty("loadtest.read-ratio", "0.5"));
+    private final int hotClasses = Integer.getInteger("loadtest.hot-classes", 20);
+    private final String readPath = Boolean.getBoolean("loadtest.reactive-reads")
+            ? "/portal/students/%d/enrollments/active"
+            : "/enrollments/student/%d/active";
+
+    private final DatabaseProbe database = new DatabaseProbe(
+            System.getProperty("loadtest.jdbc.url", "jdbc:postgresql://localhost:5433/academic_db"),
+            System.getProperty("loadtest.jdbc.user", "academic_user"),
+            System.getProperty("loadtest.jdbc.password", "academic_pass"));
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<Integer, LongAdder> enrollStatuses = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> acceptedByClass = new ConcurrentHashMap<>();
+
+    private long[] studentIds;
+    private long[] classIds;
+    private Map<Long, Integer> capacities;
+    private String adminToken;
+    private String studentToken;
+
+    public static void main(String[] args) throws Exception {
+        new RegistrationWeekLoad().run();
+    }
+
+    private void run() throws Exception {
+        studentIds = database.studentIds().stream().mapToLong(Long::longValue).toArray();
+        capacities = database.classCapacities();
+        classIds = capacities.keySet().stream().mapToLong(Long::longValue).toArray();
+        if (studentIds.length == 0 || classIds.length == 0) {
+            throw new IllegalStateException(
+                    "Massa de carga não encontrada. Suba a aplicação com -Dquarkus.profile=loadtest antes do gerador.");
+        }
+
+        LocalIssuer issuer = new LocalIssuer();
+        Duration ttl = Duration.ofSeconds(durationSeconds).plusMinutes(5);
+        adminToken = issuer.issue("loadtest-admin", List.of("ADMIN"), ttl);
+        studentToken = issuer.issue("loadtest-student", List.of("STUDENT"), ttl);
+
+        System.out.printf("Carga: %d usuários, %ds, %.0f%% leituras, %d alunos, %d turmas (%d quentes)%n",
+                users, durationSeconds, readRatio * 100, studentIds.length, classIds.length,
+                Math.min(hotClasses, classIds.length));
+
+        long deadlocksBefore = database.deadlocks();
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        long started = System.nanoTime();
+
+        List<Future<LatencyRecorder[]>> workers = new ArrayList<>(users);
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            for (int i = 0; i < users; i++) {
+                workers.add(executor.submit(() -> work(deadline)));
+            }
+            LatencyRecorder enroll = new LatencyRecorder();
+            LatencyRecorder read = new LatencyRecorder();
+            for (Future<LatencyRecorder[]> worker : workers) {
+                LatencyRecorder[] result = worker.get();
+                enroll.merge(result[0]);
+                read.merge(result[1]);
+            }
+            double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+            report(enroll, read, elapsed, database.deadlocks() - deadlocksBefore);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LatencyRecorder[] work(long deadline) {
+        LatencyRecorder enroll = new LatencyRecorder();
+        LatencyRecorder read = new LatencyRecorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            long studentId = studentIds[random.nextInt(studentIds.length)];
+            if (random.nextDouble() < readRatio) {
+                send(read, get(readPath.formatted(studentId)), null);
+            } else {
+                long classId = pickClass(random);
+                String body = "{\"studentId\":" + studentId + ",\"classId\":" + classId + "}";
+                send(enroll, post("/enrollments", body), classId);
+            }
+        }
+        return new LatencyRecorder[] { enroll, read };
+    }
+
+    private long pickClass(ThreadLocalRandom random) {
+        int hot = Math.min(hotClasses, classIds.length);
+        if (hot > 0 && random.nextDouble() < HOT_SHARE) {
+            return classIds[random.nextInt(hot)];
+        }
+        return classIds[random.nextInt(classIds.length)];
+    }
+
+    private void send(LatencyRecorder recorder, HttpRequest request, Long classId) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(System.nanoTime() - start);
+            int status = response.statusCode();
+            if (classId != null) {
+                enrollStatuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                if (status == 201) {
+                    acceptedByClass.computeIfAbsent(classId, c -> new LongAdder()).increment();
+                }
+            }
+            if (status >= 500) {
+                recorder.error();
+            }
+        } catch (IOException e) {
+            recorder.error();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + studentToken)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void report(LatencyRecorder enroll, LatencyRecorder read, double elapsed, long deadlocks)
+            throws Exception {
+        DatabaseProbe.ClassAudit audit = database.audit();
+        long clientOversold = acceptedByClass.entrySet().stream()
+                .filter(e -> e.getValue().sum() > capacities.getOrDefault(e.getKey(), Integer.MAX_VALUE))
+                .count();
+
+        System.out.println();
+        System.out.printf("%-46s %10s %10s %10s %10s %8s%n", "operação", "req", "req/s", "p50 (ms)", "p99 (ms)", "erros");
+        line("POST /enrollments", enroll, elapsed);
+        line("GET " + readPath.replace("%d", "{id}"), read, elapsed);
+        System.out.printf("%nTotal: %.1f req/s em %.1fs%n", (enroll.count() + read.count()) / elapsed, elapsed);
+        System.out.println("Respostas de POST /enrollments por status: " + enrollStatuses);
+        System.out.printf("Oversell: %d turma(s) no banco, %d pelas respostas 201 (esperado 0)%n",
+                audit.oversold(), clientOversold);
+        System.out.printf("Contador enrolled_students divergente: %d turma(s)%n", audit.drifted());
+        System.out.printf("Deadlocks (pg_stat_database): %d%n", deadlocks);
+    }
+
+    private static void line(String name, LatencyRecorder recorder, double elapsed) {
+        double[] p = recorder.percentilesMillis(0.50, 0.99);
+        System.out.printf("%-46s %10d %10.1f %10.2f %10.2f %8d%n",
+                name, recorder.count(), recorder.count() / elapsed, p[0], p[1], recorder.errors());
+    }
+}
@@ -0,0 +1,34 @@
+package br.edu.unifor.api.controller;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import br.edu.unifor.application.admission.EnrollmentAdmission;
+import br.edu.unifor.application.dto.response.AdmissionStatsResponse;
+
+/**
+ * Estado do controle de admissão, para acompanhar a abertura da matrícula.
+ */
+@Path("/admission")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Admission", description = "Controle de admissão")
+public class AdmissionController {
+
+    @Inject
+    EnrollmentAdmission enrollmentAdmission;
+
+    @GET
+    @Path("/enrollments")
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Limite adaptativo, filas e requisições recusadas em POST /enrollments")
+    public AdmissionStatsResponse enrollments() {
+        return enrollmentAdmission.statistics();
+    }
+}
@@ -0,0 +1,48 @@
+package br.edu.unifor.api.controller;
+
+import java.util.List;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import br.edu.unifor.application.cache.ReferenceDataCache;
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.dto.response.CacheRegionStatsResponse;
+
+/**
+ * Estatísticas dos caches da aplicação, para dimensionamento.
+ */
+@Path("/cache")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Cache", description = "Estatísticas de cache")
+public class CacheController {
+
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @GET
+    @Path("/reference-data")
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Acertos e faltas do cache de segundo nível (horários, disciplinas, cursos e professores)")
+    public List<CacheRegionStatsResponse> referenceData() {
+        return referenceDataCache.statistics();
+    }
+
+    @GET
+    @Path("/student-enrollments")
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Acertos e faltas do cache de matrículas ativas por aluno")
+    public CacheRegionStatsResponse studentEnrollments() {
+        return studentEnrollmentCache.statistics();
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
@@ -14,6 +15,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -22,44 +24,72 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import br.edu.unifor.application.catalog.CatalogSnapshot;
+import br.edu.unifor.application.dto.request.planning.ClassPlanRequest;
+import br.edu.unifor.application.dto.request.waitlist.JoinWaitlistRequest;
+import br.edu.unifor.application.dto.response.ClassPlanResponse;
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.dto.response.WaitlistEntryResponse;
+import br.edu.unifor.application.service.ClassPlanningService;
 import br.edu.unifor.application.service.ClassService;
+import br.edu.unifor.application.service.WaitlistService;
 import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 /**
  * REST Controller para gerenciar turmas/aulas (Matriz Curricular).
  */
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/classes")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Classes", description = "Gerenciamento de turmas/aulas")
 public class ClassController {
 
+    private static final String CATALOG_DESCRIPTION = "Catálogo pré-serializado, com ETag (If-None-Match → 304) "
+            + "e corpo em gzip quando o cliente aceita (Accept-Encoding).";
+
     @Inject
     ClassService classService;
 
+    @Inject
+    WaitlistService waitlistService;
+
+    @Inject
+    ClassPlanningService classPlanningService;
+
     // ========== ENDPOINTS PÚBLICOS (ou autenticados sem restrição) ==========
 
     @GET
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
     @Operation(summary = "Listar todas as turmas")
     @APIResponse(responseCode = "200", description = "Lista de turmas")
-    public List<Class> listAll() {
+    public List<ClassResponse> listAll() {
         return classService.getAllClasses();
     }
 
     @GET
     @Path("/active")
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
-    @Operation(summary = "Listar turmas ativas")
-    public List<Class> listActive() {
-        return classService.getActiveClasses();
+    @Operation(summary = "Listar turmas ativas", description = CATALOG_DESCRIPTION)
+    @APIResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag informado")
+    public Response listActive(
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        return catalog(classService.getActiveCatalog(), ifNoneMatch, acceptEncoding);
     }
 
     @GET
     @Path("/available")
     @RolesAllowed({"STUDENT"})
-    @Operation(summary = "Listar turmas com vagas disponíveis (apenas para alunos)")
-    public List<Class> listAvailable() {
-        return classService.findClassesWithAvailableSlots();
+    @Operation(summary = "Listar turmas com vagas disponíveis (apenas para alunos)", description = CATALOG_DESCRIPTION)
+    @APIResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag informado")
+    public Response listAvailable(
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        return catalog(classService.getAvailableCatalog(), ifNoneMatch, acceptEncoding);
     }
 
     @GET
@@ -69,8 +99,7 @@ public class ClassController {
     @APIResponse(responseCode = "200", description = "Turma encontrada")
     @APIResponse(responseCode = "404", description = "Turma não encontrada")
     public Response findById(@PathParam("id") Long id) {
-        Class classEntity = classService.findById(id);
-        return Response.ok(classEntity).build();
+        return Response.ok(classService.findById(id)).build();
     }
 
     @GET
@@ -78,15 +107,14 @@ public class ClassController {
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
     @Operation(summary = "Buscar turma por código")
     public Response findByCode(@PathParam("code") String code) {
-        Class classEntity = classService.findByCode(code);
-        return Response.ok(classEntity).build();
+        return Response.ok(classService.findByCode(code)).build();
     }
 
     @GET
     @Path("/subject/{subjectId}")
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
     @Operation(summary = "Listar turmas por disciplina")
-    public List<Class> findBySubject(@PathParam("subjectId") Long subjectId) {
+    public List<ClassResponse> findBySubject(@PathParam("subjectId") Long subjectId) {
         return classService.findBySubject(subjectId);
     }
 
@@ -94,7 +122,7 @@ public class ClassController {
     @Path("/professor/{professorId}")
     @RolesAllowed({"ADMIN", "COORDINATOR"})
     @Operation(summary = "Listar turmas por professor")
-    public List<Class> findByProfessor(@PathParam("professorId") Long professorId) {
+    public List<ClassResponse> findByProfessor(@PathParam("professorId") Long professorId) {
         return classService.findByProfessor(professorId);
     }
 
@@ -102,7 +130,7 @@ public class ClassController {
     @Path("/course/{courseId}")
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
     @Operation(summary = "Listar turmas por curso")
-    public List<Class> findByCourse(@PathParam("courseId") Long courseId) {
+    public List<ClassResponse> findByCourse(@PathParam("courseId") Long courseId) {
         return classService.findByCourse(courseId);
     }
 
@@ -110,7 +138,7 @@ public class ClassController {
     @Path("/course/{courseId}/active")
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
     @Operation(summary = "Listar turmas ativas de um curso")
-    public List<Class> findActiveByCourse(@PathParam("courseId") Long courseId) {
+    public List<ClassResponse> findActiveByCourse(@PathParam("courseId") Long courseId) {
         return classService.findActiveByCourse(courseId);
     }
 
@@ -118,7 +146,7 @@ public class ClassController {
     @Path("/course/{courseId}/available")
     @RolesAllowed({"STUDENT"})
     @Operation(summary = "Listar turmas de um curso com vagas")
-    public List<Class> findByCourseWithSlots(@PathParam("courseId") Long courseId) {
+    public List<ClassResponse> findByCourseWithSlots(@PathParam("courseId") Long courseId) {
         return classService.findClassesByCourseWithSlots(courseId);
     }
 
@@ -126,7 +154,7 @@ public class ClassController {
     @Path("/semester")
     @RolesAllowed({"ADMIN", "COORDINATOR", "STUDENT"})
     @Operation(summary = "Listar turmas por semestre")
-    public List<Class> findBySemester(
+    public List<ClassResponse> findBySemester(
             @Parameter(description = "Semestre (ex: 2024.1)") 
             @QueryParam("value") String semester) {
         return classService.findBySemester(semester);
@@ -145,6 +173,22 @@ public class ClassController {
         return Response.status(Response.Status.CREATED).entity(created).build();
     }
 
+    @POST
+    @Path("/plan")
+    @RolesAllowed({"ADMIN", "COORDINATOR"})
+    @Operation(
+        summary = "Gerar a grade de turmas do semestre",
+        description = "Distribui professores e horários para a procura de cada curso por disciplina, sem "
+                + "conflito de horário de professor e evitando sobrepor disciplinas do mesmo curso. "
+                + "Cria as turmas alocadas em uma única transação (ou só devolve a grade, com dryRun)."
+    )
+    @APIResponse(responseCode = "200", description = "Grade gerada, com as procuras que não couberam")
+    @APIResponse(responseCode = "400", description = "Dados inválidos")
+    @APIResponse(responseCode = "409", description = "Agenda de um professor mudou durante o cálculo")
+    public ClassPlanResponse plan(@Valid ClassPlanRequest request) {
+        return classPlanningService.plan(request);
+    }
+
     @PUT
     @Path("/{id}")
     @RolesAllowed({"ADMIN", "COORDINATOR"})
@@ -193,4 +237,63 @@ public class ClassController {
         classService.delete(id);
         return Response.noContent().build();
     }
-}
\ No newline at end of file
+
+    // ========== LISTA DE ESPERA ==========
+
+    @POST
+    @Path("/{id}/waitlist")
+    @RolesAllowed({"ADMIN"})
+    @Operation(
+        summary = "Entrar na lista de espera da turma",
+        description = "Apenas para turmas ativas e cheias. Quando uma vaga é liberada, o primeiro da fila "
+                + "é matriculado automaticamente (com as validações de uma matrícula comum). "
+                + "Mesmos papéis de POST /enrollments, já que a promoção cria a matrícula."
+    )
+    @APIResponse(responseCode = "201", description = "Aluno incluído na fila, com a posição")
+    @APIResponse(responseCode = "400", description = "Turma com vagas, inativa ou aluno inativo")
+    @APIResponse(responseCode = "409", description = "Aluno já matriculado ou já na fila")
+    public Response joinWaitlist(@PathParam("id") Long id, @Valid JoinWaitlistRequest dto) {
+        WaitlistEntryResponse entry = waitlistService.join(id, dto.studentId);
+        return Response.status(Response.Status.CREATED).entity(entry).build();
+    }
+
+    @GET
+    @Path("/{id}/waitlist")
+    @RolesAllowed({"ADMIN", "COORDINATOR"})
+    @Operation(summary = "Listar a lista de espera da turma, em ordem de atendimento")
+    public List<WaitlistEntryResponse> listWaitlist(@PathParam("id") Long id) {
+        return waitlistService.findByClass(id);
+    }
+
+    @DELETE
+    @Path("/{id}/waitlist/{studentId}")
+    @RolesAllowed({"ADMIN"})
+    @Operation(summary = "Sair da lista de espera da turma")
+    @APIResponse(responseCode = "204", description = "Aluno retirado da fila")
+    @APIResponse(responseCode = "404", description = "Aluno não está na fila")
+    public Response leaveWaitlist(@PathParam("id") Long id, @PathParam("studentId") Long studentId) {
+        waitlistService.leave(id, studentId);
+        return Response.noContent().build();
+    }
+
+    /**
+     * Envia o catálogo pré-serializado, ou 304 se o cliente já tem esta versão.
+     */
+    private static Response catalog(CatalogSnapshot snapshot, String ifNoneMatch, String acceptEncoding) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, snapshot.etag())
+                    .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                    .build();
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        Response.ResponseBuilder response = Response.ok(gzip ? snapshot.gzip() : snapshot.json())
+                .header(HttpHeaders.ETAG, snapshot.etag())
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.build();
+    }
+}
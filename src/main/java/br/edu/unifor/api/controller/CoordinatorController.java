@@ -25,6 +25,9 @@ import br.edu.unifor.application.dto.request.coordinator.CreateCoordinatorReques
 import br.edu.unifor.application.dto.request.coordinator.UpdateCoordinatorRequest;
 import br.edu.unifor.application.service.CoordinatorService;
 import br.edu.unifor.domain.entity.Coordinator;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 /**
  * REST Controller para gerenciar coordenadores.
@@ -52,6 +55,8 @@ import br.edu.unifor.domain.entity.Coordinator;
  * - DELETE /coordinators/{id} - Remove (admin)
  */
 
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/coordinators")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Coordenadores", description = "Gerenciamento de coordenadores")
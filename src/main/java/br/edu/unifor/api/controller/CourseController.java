@@ -16,7 +16,12 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import br.edu.unifor.domain.entity.Course;
 import br.edu.unifor.domain.repository.CourseRepository;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/courses")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Courses", description = "Gerenciamento de cursos")
@@ -1,11 +1,14 @@
 package br.edu.unifor.api.controller;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.PATCH;
@@ -17,42 +20,73 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import br.edu.unifor.application.admission.EnrollmentAdmission;
+import br.edu.unifor.application.dto.request.KeysetPageRequest;
 import br.edu.unifor.application.dto.request.enrollment.CompleteEnrollmentRequest;
+import br.edu.unifor.application.dto.request.enrollment.BatchEnrollmentRequest;
 import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.application.dto.response.BulkEnrollmentResponse;
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.application.service.BulkEnrollmentService;
 import br.edu.unifor.application.service.EnrollmentService;
-import br.edu.unifor.domain.entity.Enrollment;
 import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.repository.KeysetPage;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
+import br.edu.unifor.infrastructure.bulkhead.DatabaseBulkhead;
+
+import io.quarkus.arc.NoClassInterceptors;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 /**
  * REST Controller para gerenciar matrículas.
  * 
  * Endpoints disponíveis:
+ * (listagens paginadas por cursor: ?after=&limit=, próximo cursor no header X-Next-Cursor)
  * - GET /enrollments - Lista todas
+ * - GET /enrollments/export - Exporta em NDJSON (streaming)
  * - GET /enrollments/active - Lista ativas
  * - GET /enrollments/{id} - Busca por ID
  * - GET /enrollments/student/{studentId} - Matrículas de um aluno
  * - GET /enrollments/class/{classId} - Matrículas de uma turma
  * - GET /enrollments/course/{courseId} - Matrículas de um curso
  * - POST /enrollments - Cria matrícula
+ * - POST /enrollments/batch - Matricula um aluno em várias turmas (tudo ou nada)
+ * - POST /enrollments/bulk - Importa matrículas em lote (JSON ou CSV)
  * - PATCH /enrollments/{id}/cancel - Cancela matrícula
  * - PATCH /enrollments/{id}/complete - Marca como concluída
  * - PUT /enrollments/{id}/grade - Atualiza nota e frequência
  * - DELETE /enrollments/{id} - Remove matrícula
  */
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/enrollments")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Enrollments", description = "Gerenciamento de matrículas")
 public class EnrollmentController {
 
+    static final String NDJSON = "application/x-ndjson";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Inject
     EnrollmentService enrollmentService;
 
+    @Inject
+    BulkEnrollmentService bulkEnrollmentService;
+
+    @Inject
+    EnrollmentAdmission admission;
+
+    @Inject
+    DatabaseBulkhead bulkhead;
+
     // ========== ENDPOINTS ADMIN ==========
 
     @DELETE
@@ -66,29 +100,99 @@ public class EnrollmentController {
     @GET
     @RolesAllowed("ADMIN")
     @Operation(summary = "Listar todas as matrículas")
-    public List<Enrollment> listAll() {
-        return enrollmentService.getAllEnrollments();
+    public Response listAll(@BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.getAllEnrollments(page));
     }
 
     @GET
     @Path("/active")
     @RolesAllowed("ADMIN")
     @Operation(summary = "Listar matrículas ativas")
-    public List<Enrollment> listActive() {
-        return enrollmentService.getActiveEnrollments();
+    public Response listActive(@BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.getActiveEnrollments(page));
+    }
+
+    /**
+     * Fora do {@code @Bulkheaded} da classe: o corpo é escrito depois que o método
+     * retorna, então a vaga do {@link DatabaseBulkhead} é ocupada dentro do
+     * StreamingOutput, pelo tempo em que a exportação segura a conexão.
+     */
+    @GET
+    @Path("/export")
+    @Produces(NDJSON)
+    @NoClassInterceptors
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Exportar matrículas em NDJSON",
+            description = "Transmite todas as matrículas (um JSON por linha) à medida que são lidas do banco.")
+    public StreamingOutput export(
+            @Parameter(description = "Status (ATIVA, CANCELADA, CONCLUIDA, TRANCADA)") @QueryParam("status") String status,
+            @Parameter(description = "ID do curso") @QueryParam("courseId") Long courseId) {
+        EnrollmentStatus enrollmentStatus = status != null ? EnrollmentStatus.valueOf(status.toUpperCase()) : null;
+        return output -> {
+            bulkhead.acquire();
+            try {
+                enrollmentService.exportNdjson(enrollmentStatus, courseId, output);
+            } finally {
+                bulkhead.release();
+            }
+        };
     }
 
+    /**
+     * Fora do {@code @Bulkheaded} da classe: o {@link EnrollmentAdmission} ocupa a
+     * vaga do bulkhead só depois de admitir a requisição, para que a espera nas
+     * filas não prenda vagas do banco.
+     */
     @POST
+    @NoClassInterceptors
     @RolesAllowed({ "ADMIN" })
     @Operation(summary = "Criar nova matrícula")
     @APIResponse(responseCode = "201", description = "Matrícula criada")
     @APIResponse(responseCode = "400", description = "Dados inválidos")
     @APIResponse(responseCode = "409", description = "Conflito (turma cheia, duplicada ou horário)")
+    @APIResponse(responseCode = "429", description = "Muitas matrículas simultâneas; tente após o Retry-After")
     public Response create(@Valid CreateEnrollmentRequest dto) {
-        Enrollment created = enrollmentService.create(dto);
+        Enrollment created = admission.admit(dto.classId, () -> enrollmentService.create(dto));
         return Response.status(Response.Status.CREATED).entity(created).build();
     }
 
+    @POST
+    @Path("/batch")
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Matricular um aluno em várias turmas",
+            description = "Cria todas as matrículas em uma única transação ou nenhuma: "
+                    + "uma turma cheia, inativa ou em conflito de horário recusa o pedido inteiro.")
+    @APIResponse(responseCode = "201", description = "Matrículas criadas")
+    @APIResponse(responseCode = "400", description = "Dados inválidos")
+    @APIResponse(responseCode = "409", description = "Conflito (turma cheia, duplicada ou horário)")
+    public Response createBatch(@Valid BatchEnrollmentRequest dto) {
+        List<StudentEnrollmentResponse> created = enrollmentService.createBatch(dto);
+        return Response.status(Response.Status.CREATED).entity(created).build();
+    }
+
+    @POST
+    @Path("/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Importar matrículas em lote (JSON)",
+            description = "Valida todas as linhas em memória e grava as válidas em uma única transação. "
+                    + "Retorna o resultado de cada linha.")
+    @APIResponse(responseCode = "200", description = "Relatório da importação")
+    public BulkEnrollmentResponse bulkCreate(List<CreateEnrollmentRequest> rows) {
+        return bulkEnrollmentService.importEnrollments(rows);
+    }
+
+    @POST
+    @Path("/bulk")
+    @Consumes("text/csv")
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Importar matrículas em lote (CSV)",
+            description = "CSV com as colunas studentId,classId (cabeçalho opcional).")
+    @APIResponse(responseCode = "200", description = "Relatório da importação")
+    public BulkEnrollmentResponse bulkCreateCsv(InputStream csv) {
+        return bulkEnrollmentService.importEnrollments(bulkEnrollmentService.readCsv(csv));
+    }
+
     @PATCH
     @Path("/{id}/cancel")
     @RolesAllowed("ADMIN")
@@ -117,51 +221,53 @@ public class EnrollmentController {
     @Path("/student/{studentId}")
     @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
     @Operation(summary = "Listar matrículas de um aluno")
-    public List<Enrollment> findByStudent(@PathParam("studentId") Long studentId) {
-        return enrollmentService.findByStudent(studentId);
+    public Response findByStudent(@PathParam("studentId") Long studentId, @BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.findByStudent(studentId, page));
     }
 
     @GET
     @Path("/student/{studentId}/active")
     @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
     @Operation(summary = "Listar matrículas ativas de um aluno")
-    public List<Enrollment> findActiveByStudent(@PathParam("studentId") Long studentId) {
-        return enrollmentService.findActiveByStudent(studentId);
+    public Response findActiveByStudent(@PathParam("studentId") Long studentId, @BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.findActiveByStudent(studentId, page));
     }
 
     @GET
     @Path("/class/{classId}")
     @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
     @Operation(summary = "Listar matrículas de uma turma")
-    public List<Enrollment> findByClass(@PathParam("classId") Long classId) {
-        return enrollmentService.findByClass(classId);
+    public Response findByClass(@PathParam("classId") Long classId, @BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.findByClass(classId, page));
     }
 
     @GET
     @Path("/class/{classId}/active")
     @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
     @Operation(summary = "Listar matrículas ativas de uma turma")
-    public List<Enrollment> findActiveByClass(
-            @PathParam("classId") Long classId) {
-        return enrollmentService.findActiveByClass(classId);
+    public Response findActiveByClass(
+            @PathParam("classId") Long classId,
+            @BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.findActiveByClass(classId, page));
     }
 
     @GET
     @Path("/course/{courseId}")
     @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
     @Operation(summary = "Listar matrículas de um curso")
-    public List<Enrollment> findByCourse(@PathParam("courseId") Long courseId) {
-        return enrollmentService.findByCourse(courseId);
+    public Response findByCourse(@PathParam("courseId") Long courseId, @BeanParam KeysetPageRequest page) {
+        return page(enrollmentService.findByCourse(courseId, page));
     }
 
     @GET
     @Path("/status")
     @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
     @Operation(summary = "Listar matrículas por status")
-    public List<Enrollment> findByStatus(
-            @Parameter(description = "Status (ATIVA, CANCELADA, CONCLUIDA, TRANCADA)") @QueryParam("value") String status) {
+    public Response findByStatus(
+            @Parameter(description = "Status (ATIVA, CANCELADA, CONCLUIDA, TRANCADA)") @QueryParam("value") String status,
+            @BeanParam KeysetPageRequest page) {
         EnrollmentStatus enrollmentStatus = EnrollmentStatus.valueOf(status.toUpperCase());
-        return enrollmentService.findByStatus(enrollmentStatus);
+        return page(enrollmentService.findByStatus(enrollmentStatus, page));
     }
 
     @PATCH
@@ -210,4 +316,16 @@ public class EnrollmentController {
         long count = enrollmentService.countByCourse(courseId);
         return Response.ok("{\"count\": " + count + "}").build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Monta a resposta de uma página: itens no corpo e cursor da próxima
+     * página no header X-Next-Cursor (ausente na última página).
+     */
+    static Response page(KeysetPage<?> page) {
+        Response.ResponseBuilder response = Response.ok(page.items());
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.build();
+    }
+}
@@ -0,0 +1,65 @@
+package br.edu.unifor.api.controller;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import br.edu.unifor.application.dto.request.KeysetPageRequest;
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.service.PortalService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Leituras do portal do aluno, não bloqueantes (Uni/Multi no event loop).
+ *
+ * Mesmas respostas de GET /enrollments/student/{id}/active e
+ * GET /classes/course/{id}/available, sem ocupar uma thread por requisição.
+ *
+ * Endpoints disponíveis:
+ * - GET /portal/students/{studentId}/enrollments/active - Matrículas ativas do aluno (?after=&limit=)
+ * - GET /portal/classes/available - Turmas com vagas
+ * - GET /portal/classes/course/{courseId}/available - Turmas de um curso com vagas
+ */
+@Path("/portal")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Portal do aluno", description = "Consultas não bloqueantes do portal do aluno")
+public class PortalController {
+
+    @Inject
+    PortalService portalService;
+
+    @GET
+    @Path("/students/{studentId}/enrollments/active")
+    @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
+    @Operation(summary = "Listar matrículas ativas de um aluno")
+    public Uni<Response> findActiveByStudent(@PathParam("studentId") Long studentId,
+            @BeanParam KeysetPageRequest page) {
+        return portalService.findActiveByStudent(studentId, page).map(EnrollmentController::page);
+    }
+
+    @GET
+    @Path("/classes/available")
+    @RolesAllowed({ "STUDENT" })
+    @Operation(summary = "Listar turmas com vagas disponíveis")
+    public Multi<ClassResponse> listAvailable() {
+        return portalService.findClassesWithAvailableSlots();
+    }
+
+    @GET
+    @Path("/classes/course/{courseId}/available")
+    @RolesAllowed({ "STUDENT" })
+    @Operation(summary = "Listar turmas de um curso com vagas")
+    public Multi<ClassResponse> findByCourseWithSlots(@PathParam("courseId") Long courseId) {
+        return portalService.findClassesByCourseWithSlots(courseId);
+    }
+}
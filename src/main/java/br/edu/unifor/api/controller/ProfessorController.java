@@ -24,7 +24,12 @@ import br.edu.unifor.application.dto.request.professor.CreateProfessorRequest;
 import br.edu.unifor.application.dto.request.professor.UpdateProfessorRequest;
 import br.edu.unifor.application.service.ProfessorService;
 import br.edu.unifor.domain.entity.Professor;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/professors")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Professors", description = "Gerenciamento de professores")
@@ -17,9 +17,14 @@ import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import br.edu.unifor.application.service.ScheduleService;
-import br.edu.unifor.domain.entity.Schedule;
 import br.edu.unifor.domain.entity.Schedule.Period;
+import br.edu.unifor.domain.entity.Schedule;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/schedules")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Schedules", description = "Gerenciamento de horários")
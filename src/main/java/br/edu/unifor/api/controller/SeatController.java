@@ -0,0 +1,47 @@
+package br.edu.unifor.api.controller;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import br.edu.unifor.application.dto.response.SeatDeltaResponse;
+import br.edu.unifor.application.seat.SeatFeed;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Vagas das turmas em tempo real (Server-Sent Events), no lugar de consultar
+ * GET /classes/course/{courseId}/available periodicamente.
+ *
+ * Endpoints disponíveis:
+ * - GET /seats/course/{courseId}/stream - Vagas das turmas ativas do curso e, em seguida, cada mudança
+ */
+@Path("/seats")
+@Tag(name = "Vagas", description = "Vagas das turmas em tempo real")
+public class SeatController {
+
+    @Inject
+    SeatFeed seatFeed;
+
+    @GET
+    @Path("/course/{courseId}/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Blocking
+    @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
+    @Operation(summary = "Acompanhar as vagas das turmas de um curso",
+            description = "Cada evento traz classId, availableSlots e version. Eventos de uma turma com "
+                    + "version menor ou igual à última recebida estão defasados e devem ser ignorados. "
+                    + "Clientes lentos são desconectados e, ao reconectar, recebem de novo o estado atual.")
+    public Multi<SeatDeltaResponse> stream(@PathParam("courseId") Long courseId) {
+        return seatFeed.subscribe(courseId);
+    }
+}
@@ -21,13 +21,21 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import br.edu.unifor.application.dto.request.student.CreateStudentRequest;
+import br.edu.unifor.application.dto.request.student.TimetableOptionsRequest;
 import br.edu.unifor.application.dto.request.student.UpdateStudentRequest;
+import br.edu.unifor.application.dto.response.TimetableOptionsResponse;
 import br.edu.unifor.application.service.StudentService;
+import br.edu.unifor.application.service.TimetableOptionsService;
 import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 /**
  * REST Controller para gerenciar alunos.
  */
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/students")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Alunos", description = "Gerenciamento de alunos")
@@ -36,6 +44,9 @@ public class StudentController {
     @Inject
     StudentService studentService;
 
+    @Inject
+    TimetableOptionsService timetableOptionsService;
+
     // ========== ENDPOINTS PARA ADMIN ==========
 
     /**
@@ -178,4 +189,18 @@ public class StudentController {
         long count = studentService.countActiveByCourse(courseId);
         return Response.ok("{\"count\": " + count + "}").build();
     }
+
+    /**
+     * Sugere grades sem conflito com uma turma para cada disciplina informada,
+     * considerando as vagas, o curso do aluno e as matrículas ativas.
+     */
+    @POST
+    @Path("/{id}/timetable-options")
+    @RolesAllowed({ "ADMIN", "COORDINATOR", "STUDENT" })
+    @Operation(summary = "Sugerir grades de horário para um aluno")
+    public TimetableOptionsResponse timetableOptions(
+            @PathParam("id") Long id,
+            @Valid TimetableOptionsRequest dto) {
+        return timetableOptionsService.options(id, dto);
+    }
 }
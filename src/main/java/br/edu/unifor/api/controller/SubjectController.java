@@ -25,11 +25,16 @@ import br.edu.unifor.application.dto.request.subject.CreateSubjectRequest;
 import br.edu.unifor.application.dto.request.subject.UpdateSubjectRequest;
 import br.edu.unifor.application.service.SubjectService;
 import br.edu.unifor.domain.entity.Subject;
+import br.edu.unifor.infrastructure.bulkhead.Bulkheaded;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 /**
  * REST Controller para gerenciar disciplinas.
  * 
  */
+@RunOnVirtualThread
+@Bulkheaded
 @Path("/subjects")
 @Produces(MediaType.APPLICATION_JSON)
 @Tag(name = "Subjects", description = "Gerenciamento de disciplinas")
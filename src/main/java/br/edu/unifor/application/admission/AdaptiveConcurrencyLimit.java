@@ -0,0 +1,180 @@
+package br.edu.unifor.application.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concorrência que se ajusta à latência observada (AIMD).
+ *
+ * A referência é a menor latência de uma janela de {@code window} amostras
+ * (mantida entre janelas e recalculada do zero a cada {@value #BASELINE_RESET_WINDOWS},
+ * para acompanhar um banco que ficou mais lento de forma permanente). Cada
+ * execução concluída em até {@code tolerance} vezes a referência soma
+ * {@code 1/limite} ao limite, ou seja, cerca de uma vaga por "rodada", e só
+ * quando o limite está de fato sendo usado; uma execução lenta ou descartada
+ * multiplica o limite por {@value #BACKOFF}, no máximo uma vez por rodada.
+ *
+ * Quem não cabe no limite espera em fila (ordem de chegada) de até
+ * {@code maxQueue} requisições, pelo tempo informado em {@link #tryAcquire(long)}.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    static final double BACKOFF = 0.9;
+    static final int BASELINE_RESET_WINDOWS = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int window;
+    private final int maxQueue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+
+    private volatile double limit;
+    private int inFlight;
+    private int waiting;
+
+    private long baseline = Long.MAX_VALUE;
+    private long windowMin = Long.MAX_VALUE;
+    private int samples;
+    private int windows;
+    private int cooldown;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+            double tolerance, int window, int maxQueue) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limites inválidos: mínimo " + minLimit + ", máximo " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.window = window;
+        this.maxQueue = maxQueue;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Ocupa uma vaga, aguardando na fila por até {@code timeoutNanos}.
+     *
+     * @return false se a fila estiver cheia ou o tempo acabar
+     */
+    public boolean tryAcquire(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < limit()) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueue) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remaining = timeoutNanos;
+                while (inFlight >= limit()) {
+                    if (remaining <= 0) {
+                        // repassa o aviso que possa ter sido consumido por quem desistiu
+                        if (inFlight < limit()) {
+                            slotFreed.signal();
+                        }
+                        return false;
+                    }
+                    remaining = slotFreed.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Devolve a vaga e registra a latência da execução.
+     *
+     * @param dropped true se a execução foi abandonada por sobrecarga (ex.: sem conexão)
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int before = limit();
+            sample(latencyNanos, dropped, inFlight);
+            inFlight--;
+            if (limit() > before) {
+                slotFreed.signalAll();
+            } else {
+                slotFreed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sample(long latency, boolean dropped, int concurrent) {
+        windowMin = Math.min(windowMin, latency);
+        long reference = Math.min(baseline, windowMin);
+        if (++samples >= window) {
+            windows++;
+            baseline = windows % BASELINE_RESET_WINDOWS == 0 ? windowMin : Math.min(baseline, windowMin);
+            windowMin = Long.MAX_VALUE;
+            samples = 0;
+        }
+
+        if (cooldown > 0) {
+            cooldown--;
+        }
+        if (dropped || latency > reference * tolerance) {
+            if (cooldown == 0) {
+                limit = Math.max(minLimit, limit * BACKOFF);
+                cooldown = limit();
+            }
+        } else if (concurrent >= limit / 2) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * Limite corrente, já arredondado para baixo.
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Requisições aguardando vaga no momento.
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Menor latência de referência conhecida, em milissegundos (0 antes da primeira amostra).
+     */
+    public double baselineMillis() {
+        lock.lock();
+        try {
+            long reference = Math.min(baseline, windowMin);
+            return reference == Long.MAX_VALUE ? 0 : reference / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
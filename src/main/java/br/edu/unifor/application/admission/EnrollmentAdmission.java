@@ -0,0 +1,238 @@
+package br.edu.unifor.application.admission;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.edu.unifor.application.dto.response.AdmissionStatsResponse;
+import br.edu.unifor.application.seat.SeatAllocator;
+import br.edu.unifor.infrastructure.bulkhead.DatabaseBulkhead;
+import br.edu.unifor.infrastructure.exception.AdmissionRejectedException;
+import br.edu.unifor.infrastructure.exception.ClassFullException;
+import br.edu.unifor.infrastructure.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Controle de admissão de POST /enrollments.
+ *
+ * Na abertura da matrícula milhares de requisições chegam ao mesmo tempo para
+ * poucas turmas. Sem controle, cada uma ocupa uma conexão só para esperar o
+ * lock da mesma linha de classes. Aqui elas passam por três etapas, todas
+ * dentro de {@code academic.admission.max-wait}:
+ * <ol>
+ * <li>fila por turma (FIFO, uma matrícula por vez em cada turma), com no máximo
+ * {@code academic.admission.class-queue} requisições aguardando; quem chega ou
+ * sai da fila com a turma já cheia no {@link SeatAllocator} recebe 409 sem
+ * tocar no banco. As filas ficam em um cache limitado a
+ * {@code academic.admission.class-gates} turmas e descartadas após
+ * {@code academic.admission.class-gate-idle} sem uso;</li>
+ * <li>limite global adaptativo ({@link AdaptiveConcurrencyLimit}), que cresce
+ * enquanto a latência se mantém perto da mínima e recua quando o banco
+ * degrada;</li>
+ * <li>a vaga do {@link DatabaseBulkhead}, compartilhada com os demais endpoints.</li>
+ * </ol>
+ * Fila cheia ou tempo esgotado resultam em 429 com {@code Retry-After}, em vez
+ * de ocupar a requisição até o timeout do bulkhead.
+ */
+@ApplicationScoped
+public class EnrollmentAdmission {
+
+    @ConfigProperty(name = "academic.admission.initial-limit")
+    int initialLimit;
+
+    @ConfigProperty(name = "academic.admission.min-limit")
+    int minLimit;
+
+    @ConfigProperty(name = "academic.admission.max-limit")
+    int maxLimit;
+
+    @ConfigProperty(name = "academic.admission.latency-tolerance")
+    double latencyTolerance;
+
+    @ConfigProperty(name = "academic.admission.sample-window")
+    int sampleWindow;
+
+    @ConfigProperty(name = "academic.admission.max-queue")
+    int maxQueue;
+
+    @ConfigProperty(name = "academic.admission.class-queue")
+    int classQueue;
+
+    @ConfigProperty(name = "academic.admission.class-gates")
+    long classGateLimit;
+
+    @ConfigProperty(name = "academic.admission.class-gate-idle")
+    Duration classGateIdle;
+
+    @ConfigProperty(name = "academic.admission.max-wait")
+    Duration maxWait;
+
+    @ConfigProperty(name = "academic.admission.retry-after")
+    Duration retryAfter;
+
+    @Inject
+    SeatAllocator seatAllocator;
+
+    @Inject
+    DatabaseBulkhead bulkhead;
+
+    @Inject
+    MeterRegistry registry;
+
+    // Sem limite, cada classId postado (inclusive inexistente) deixaria um Semaphore
+    // para sempre. A política do Caffeine (W-TinyLFU) preserva as turmas disputadas
+    // diante de ids avulsos; descartar uma fila ainda em uso só desfaz a ordem FIFO
+    // daquela turma, a vaga continua protegida pelo SeatAllocator e pelo banco.
+    private Cache<Long, Semaphore> classGates;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedClassFull = new LongAdder();
+    private final LongAdder shedClassQueue = new LongAdder();
+    private final LongAdder shedQueueFull = new LongAdder();
+    private final LongAdder shedTimeout = new LongAdder();
+
+    private AdaptiveConcurrencyLimit limit;
+
+    @PostConstruct
+    void init() {
+        limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance, sampleWindow, maxQueue);
+        classGates = Caffeine.newBuilder()
+                .maximumSize(classGateLimit)
+                .expireAfterAccess(classGateIdle)
+                .build();
+
+        Gauge.builder("academic.admission.limit", limit, AdaptiveConcurrencyLimit::limit).register(registry);
+        Gauge.builder("academic.admission.in.flight", limit, AdaptiveConcurrencyLimit::inFlight).register(registry);
+        Gauge.builder("academic.admission.queued", limit, AdaptiveConcurrencyLimit::queued).register(registry);
+        Gauge.builder("academic.admission.class.queued", this, EnrollmentAdmission::classQueued).register(registry);
+        outcome("admitted", admitted);
+        outcome("class_full", rejectedClassFull);
+        outcome("shed_class_queue", shedClassQueue);
+        outcome("shed_queue_full", shedQueueFull);
+        outcome("shed_timeout", shedTimeout);
+    }
+
+    private void outcome(String outcome, LongAdder adder) {
+        FunctionCounter.builder("academic.admission.requests", adder, LongAdder::sum)
+                .description("Requisições de POST /enrollments por resultado da admissão")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Executa a matrícula na turma informada se ela for admitida.
+     *
+     * @throws ClassFullException          se a turma já for conhecida como cheia
+     * @throws AdmissionRejectedException  se a fila estiver cheia ou o tempo de espera acabar
+     */
+    public <T> T admit(Long classId, Supplier<T> enrollment) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        rejectIfFull(classId);
+
+        Semaphore gate = classGates.get(classId, id -> new Semaphore(1, true));
+        if (gate.getQueueLength() >= classQueue) {
+            shedClassQueue.increment();
+            throw new AdmissionRejectedException("fila da turma cheia", retryAfter);
+        }
+        if (!await(() -> gate.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS))) {
+            shedTimeout.increment();
+            throw new AdmissionRejectedException("tempo de espera esgotado", retryAfter);
+        }
+        try {
+            // quem esperou atrás da matrícula que ocupou a última vaga é respondido aqui
+            rejectIfFull(classId);
+            if (!await(() -> limit.tryAcquire(remaining(deadline)))) {
+                if (remaining(deadline) > 0) {
+                    shedQueueFull.increment();
+                    throw new AdmissionRejectedException("fila global cheia", retryAfter);
+                }
+                shedTimeout.increment();
+                throw new AdmissionRejectedException("tempo de espera esgotado", retryAfter);
+            }
+            admitted.increment();
+            return run(enrollment);
+        } finally {
+            gate.release();
+        }
+    }
+
+    private <T> T run(Supplier<T> enrollment) {
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            bulkhead.acquire();
+            try {
+                return enrollment.get();
+            } finally {
+                bulkhead.release();
+            }
+        } catch (DatabaseBusyException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            limit.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private void rejectIfFull(Long classId) {
+        if (seatAllocator.isKnownFull(classId)) {
+            rejectedClassFull.increment();
+            throw new ClassFullException(String.format(
+                    "A turma %d está com capacidade máxima. Não há vagas disponíveis; "
+                            + "entre na lista de espera para ser matriculado quando uma vaga abrir.",
+                    classId));
+        }
+    }
+
+    private boolean await(Wait wait) {
+        try {
+            return wait.acquired();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    public AdmissionStatsResponse statistics() {
+        long shed = shedClassQueue.sum() + shedQueueFull.sum() + shedTimeout.sum();
+        long total = admitted.sum() + rejectedClassFull.sum() + shed;
+        return new AdmissionStatsResponse(
+                limit.limit(),
+                limit.inFlight(),
+                limit.queued(),
+                classQueued(),
+                limit.baselineMillis(),
+                admitted.sum(),
+                rejectedClassFull.sum(),
+                shedClassQueue.sum(),
+                shedQueueFull.sum(),
+                shedTimeout.sum(),
+                total == 0 ? 0 : (double) shed / total);
+    }
+
+    private int classQueued() {
+        return classGates.asMap().values().stream().mapToInt(Semaphore::getQueueLength).sum();
+    }
+
+    @FunctionalInterface
+    private interface Wait {
+        boolean acquired() throws InterruptedException;
+    }
+}
@@ -0,0 +1,98 @@
+package br.edu.unifor.application.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import br.edu.unifor.application.dto.response.CacheRegionStatsResponse;
+import br.edu.unifor.domain.entity.Course;
+import br.edu.unifor.domain.entity.Professor;
+import br.edu.unifor.domain.entity.Schedule;
+import br.edu.unifor.domain.entity.Subject;
+import br.edu.unifor.domain.repository.CachedQueries;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Cache de segundo nível dos dados de referência (horários, disciplinas,
+ * cursos e professores).
+ *
+ * O Hibernate já mantém as regiões de entidade coerentes nas escritas feitas
+ * pelo ORM; a remoção explícita após o commit cobre também alterações feitas
+ * fora do contexto de persistência (UPDATE em lote, SQL nativo) e descarta as
+ * consultas cacheadas da região {@link CachedQueries#REFERENCE_REGION}.
+ *
+ * Tamanho e expiração de cada região ficam em application.properties
+ * (quarkus.hibernate-orm.cache."região".*).
+ */
+@ApplicationScoped
+public class ReferenceDataCache {
+
+    private static final String QUERY_REGION = CachedQueries.REFERENCE_REGION;
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Schedule.class, Subject.class, Course.class, Professor.class);
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    /**
+     * Remove a entidade do cache e invalida as consultas de referência
+     * quando a transação corrente for confirmada.
+     */
+    public void evictAfterCommit(Class<?> entityType, Object id) {
+        transactionHooks.afterCommit(() -> {
+            Cache cache = sessionFactory().getCache();
+            cache.evictEntityData(entityType, id);
+            cache.evictQueryRegion(QUERY_REGION);
+        });
+    }
+
+    /**
+     * Invalida apenas as consultas de referência (ex.: após inserir um novo
+     * curso, a listagem de cursos ativos muda, mas nenhuma entidade cacheada).
+     */
+    public void evictQueriesAfterCommit() {
+        transactionHooks.afterCommit(() -> sessionFactory().getCache().evictQueryRegion(QUERY_REGION));
+    }
+
+    /**
+     * Acertos, faltas e ocupação por região, para dimensionar o cache.
+     */
+    public List<CacheRegionStatsResponse> statistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<CacheRegionStatsResponse> regions = new ArrayList<>();
+        for (Class<?> entity : ENTITIES) {
+            addRegion(regions, statistics.getDomainDataRegionStatistics(entity.getName()));
+        }
+        // a região de consultas só existe depois da primeira consulta cacheada
+        addRegion(regions, statistics.getQueryRegionStatistics(QUERY_REGION));
+        return regions;
+    }
+
+    private static void addRegion(List<CacheRegionStatsResponse> regions, CacheRegionStatistics region) {
+        if (region == null) {
+            return;
+        }
+        regions.add( new CacheRegionStatsResponse(
+                region.getRegionName(),
+                region.getHitCount(),
+                region.getMissCount(),
+                region.getPutCount(),
+                region.getElementCountInMemory()));
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,126 @@
+package br.edu.unifor.application.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import br.edu.unifor.application.dto.response.CacheRegionStatsResponse;
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.domain.event.DomainEvent;
+import br.edu.unifor.domain.event.DomainEventBatch;
+import br.edu.unifor.domain.event.DomainEventType;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Cache (Caffeine) da visão "minhas disciplinas": matrículas ativas de cada
+ * aluno, já projetadas em {@link StudentEnrollmentResponse}.
+ *
+ * A chave é o ID do aluno e o valor é a lista completa de matrículas ativas
+ * (poucas por aluno); a paginação por cursor é feita sobre a lista em memória.
+ * A entrada do aluno é descartada pelo próprio serviço de matrículas assim que
+ * a transação confirma, para que ele veja a própria alteração na requisição
+ * seguinte. Os eventos do outbox, entregues a todas as instâncias, cuidam só
+ * do espalhamento: quando professor ou horário da turma mudam, descartam as
+ * entradas de todos os alunos matriculados nela.
+ * Tamanho máximo e expiração ficam em application.properties
+ * (quarkus.cache.caffeine."student-enrollments".*).
+ */
+@ApplicationScoped
+public class StudentEnrollmentCache {
+
+    public static final String NAME = "student-enrollments";
+
+    @Inject
+    @CacheName(NAME)
+    Cache cache;
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Matrículas ativas do aluno, carregadas por {@code loader} na primeira consulta.
+     */
+    public List<StudentEnrollmentResponse> activeEnrollments(Long studentId,
+            Supplier<List<StudentEnrollmentResponse>> loader) {
+        return activeEnrollmentsAsync(studentId, () -> Uni.createFrom().item(loader)).await().indefinitely();
+    }
+
+    /**
+     * Versão não bloqueante, para o portal reativo.
+     */
+    public Uni<List<StudentEnrollmentResponse>> activeEnrollmentsAsync(Long studentId,
+            Supplier<Uni<List<StudentEnrollmentResponse>>> loader) {
+        requests.increment();
+        return cache.getAsync(studentId, key -> {
+            misses.increment();
+            return loader.get();
+        });
+    }
+
+    /**
+     * Descarta as visões dos alunos das turmas alteradas.
+     */
+    void onDomainEvents(@Observes DomainEventBatch batch) {
+        Set<Long> studentIds = new HashSet<>();
+        for (DomainEvent event : batch.events()) {
+            if (event.type() == DomainEventType.CLASS_UPDATED) {
+                studentIds.addAll(QuarkusTransaction.requiringNew()
+                        .call(() -> enrollmentRepository.findActiveStudentIdsByClass(event.classId())));
+            }
+        }
+        invalidate(studentIds);
+    }
+
+    /**
+     * Descarta a visão do aluno quando a transação corrente confirmar.
+     */
+    public void invalidateAfterCommit(Long studentId) {
+        invalidateAfterCommit(Set.of(studentId));
+    }
+
+    /**
+     * Descarta as visões dos alunos quando a transação corrente confirmar.
+     */
+    public void invalidateAfterCommit(Collection<Long> studentIds) {
+        Set<Long> keys = Set.copyOf(studentIds);
+        transactionHooks.afterCommit(() -> invalidate(keys));
+    }
+
+    /**
+     * Descarta todas as visões (ex.: nome de professor ou disciplina alterado).
+     */
+    public void invalidateAllAfterCommit() {
+        transactionHooks.afterCommit(() -> cache.invalidateAll().await().indefinitely());
+    }
+
+    private void invalidate(Collection<Long> studentIds) {
+        for (Long studentId : studentIds) {
+            cache.invalidate(studentId).await().indefinitely();
+        }
+    }
+
+    public CacheRegionStatsResponse statistics() {
+        long loads = misses.sum();
+        return new CacheRegionStatsResponse(NAME, requests.sum() - loads, loads, loads,
+                cache.as(CaffeineCache.class).keySet().size());
+    }
+}
@@ -0,0 +1,27 @@
+package br.edu.unifor.application.catalog;
+
+/**
+ * Lista de turmas já serializada em JSON, pronta para ser enviada.
+ *
+ * @param json JSON da lista
+ * @param gzip mesmo conteúdo comprimido com gzip
+ * @param etag ETag forte derivado do conteúdo
+ */
+public record CatalogSnapshot(byte[] json, byte[] gzip, String etag) {
+
+    /**
+     * Verifica se o cabeçalho If-None-Match do cliente cobre esta versão.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
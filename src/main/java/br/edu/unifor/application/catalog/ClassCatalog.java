@@ -0,0 +1,240 @@
+package br.edu.unifor.application.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.domain.entity.Class.ClassStatus;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Catálogo de turmas ativas servido a todos os alunos durante a matrícula.
+ *
+ * Mantém o JSON de cada turma já serializado e monta as listas (ativas e com
+ * vagas) concatenando esses trechos, com versão gzip e ETag. Quando uma turma
+ * muda (vagas, status, professor, horário), só ela é marcada após o commit; na
+ * próxima leitura as turmas marcadas são recarregadas em uma única consulta e
+ * re-serializadas, e as listas são remontadas uma vez para todas as mudanças
+ * acumuladas. Alterações em dados de referência (nome de professor,
+ * disciplina, horário, curso) descartam o catálogo inteiro.
+ *
+ * As marcas só valem para a instância que confirmou a mudança; para que as
+ * feitas em outras instâncias (ou direto no banco) também apareçam, o catálogo
+ * é recarregado por completo quando a última carga completa passa de
+ * {@code academic.catalog.max-age}.
+ */
+@ApplicationScoped
+public class ClassCatalog {
+
+    public enum View {
+        /** Turmas ativas (GET /classes/active). */
+        ACTIVE,
+        /** Turmas ativas com vagas (GET /classes/available). */
+        AVAILABLE
+    }
+
+    private record Entry(ClassResponse response, byte[] json) {
+    }
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "academic.catalog.max-age")
+    Duration maxAge;
+
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloadAll = true;
+    // Início da última carga completa (System.nanoTime)
+    private volatile long fullLoadStartedAt;
+
+    // ReentrantLock em vez de synchronized: a recarga consulta o banco e não
+    // deve prender a carrier thread das virtual threads. Os snapshots são lidos sem lock.
+    private final ReentrantLock lock = new ReentrantLock();
+    // Substituído inteiro a cada recarga bem-sucedida; só lido e trocado sob o lock
+    private NavigableMap<Long, Entry> entries = new TreeMap<>();
+    private volatile Map<View, CatalogSnapshot> snapshots = Map.of();
+
+    /**
+     * Lista da visão informada, remontada antes se houver mudanças pendentes.
+     */
+    public CatalogSnapshot snapshot(View view) {
+        if (reloadAll || isExpired() || !changed.isEmpty()) {
+            refresh();
+        }
+        return snapshots.get(view);
+    }
+
+    /**
+     * Turmas ativas de um curso, na mesma versão das listas servidas.
+     */
+    public List<ClassResponse> activeByCourse(Long courseId) {
+        lock.lock();
+        try {
+            rebuild();
+            return entries.values().stream()
+                    .map(Entry::response)
+                    .filter(response -> response.getCourse() != null && courseId.equals(response.getCourse().getId()))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marca a turma para recarga quando a transação corrente for confirmada.
+     */
+    public void changedAfterCommit(Long classId) {
+        transactionHooks.afterCommit(() -> changed.add(classId));
+    }
+
+    /**
+     * Descarta o catálogo inteiro quando a transação corrente for confirmada.
+     */
+    public void reloadAfterCommit() {
+        transactionHooks.afterCommit(() -> reloadAll = true);
+    }
+
+    private void refresh() {
+        lock.lock();
+        try {
+            rebuild();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Monta o novo catálogo em um mapa local e só o publica se a carga der certo.
+     * Se a consulta falhar, o catálogo anterior é mantido intacto e as marcas
+     * consumidas voltam, para a próxima leitura tentar de novo.
+     */
+    private void rebuild() {
+        boolean full = reloadAll || isExpired();
+        List<Long> ids = full ? List.of() : new ArrayList<>(changed);
+        if (!full && ids.isEmpty()) {
+            return;
+        }
+
+        // Marcas consumidas antes da consulta: mudanças durante a carga ficam para a próxima
+        if (full) {
+            reloadAll = false;
+            fullLoadStartedAt = System.nanoTime();
+            changed.clear();
+        } else {
+            changed.removeAll(ids);
+        }
+
+        NavigableMap<Long, Entry> next;
+        Map<View, CatalogSnapshot> rendered;
+        try {
+            if (full) {
+                next = new TreeMap<>();
+                for (ClassResponse response : classRepository.findActiveResponses()) {
+                    next.put(response.getId(), entry(response));
+                }
+            } else {
+                next = new TreeMap<>(entries);
+                ids.forEach(next::remove);
+                for (ClassResponse response : classRepository.findResponsesByIds(ids)) {
+                    if (ClassStatus.ATIVA.name().equals(response.getStatus())) {
+                        next.put(response.getId(), entry(response));
+                    }
+                }
+            }
+            rendered = Map.of(
+                    View.ACTIVE, render(next, response -> true),
+                    View.AVAILABLE, render(next, response -> response.getAvailableSlots() > 0));
+        } catch (RuntimeException e) {
+            if (full) {
+                reloadAll = true;
+            } else {
+                changed.addAll(ids);
+            }
+            throw e;
+        }
+
+        entries = next;
+        snapshots = rendered;
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - fullLoadStartedAt >= maxAge.toNanos();
+    }
+
+    private Entry entry(ClassResponse response) {
+        try {
+            return new Entry(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CatalogSnapshot render(NavigableMap<Long, Entry> entries, Predicate<ClassResponse> filter) {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        json.write('[');
+        boolean first = true;
+        for (Entry entry : entries.values()) {
+            if (!filter.test(entry.response())) {
+                continue;
+            }
+            if (!first) {
+                json.write(',');
+            }
+            json.writeBytes(entry.json());
+            first = false;
+        }
+        json.write(']');
+
+        byte[] bytes = json.toByteArray();
+        return new CatalogSnapshot(bytes, gzip(bytes), etag(bytes));
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package br.edu.unifor.application.counter;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import br.edu.unifor.domain.event.DomainEvent;
+import br.edu.unifor.domain.event.DomainEventBatch;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.KeyCount;
+import br.edu.unifor.domain.repository.OutboxEventRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Contadores pré-agregados servidos pelos endpoints /count.
+ *
+ * Reconstruídos na inicialização com um COUNT agrupado por contador e, depois
+ * disso, mantidos pelos métodos de ciclo de vida de turma e aluno e pelos
+ * eventos de matrícula do outbox, que chegam a todas as instâncias.
+ * Cada ajuste só é aplicado após o commit da transação que o originou, então
+ * o contador reflete apenas o que foi gravado no banco.
+ */
+@ApplicationScoped
+public class ActivityCounters {
+
+    private static final Logger LOG = Logger.getLogger(ActivityCounters.class);
+
+    public enum Counter {
+        /** Matrículas ativas por aluno. */
+        ACTIVE_ENROLLMENTS_BY_STUDENT,
+        /** Matrículas ativas por turma. */
+        ACTIVE_ENROLLMENTS_BY_CLASS,
+        /** Matrículas (qualquer status) por curso da turma. */
+        ENROLLMENTS_BY_COURSE,
+        /** Turmas ativas por professor. */
+        ACTIVE_CLASSES_BY_PROFESSOR,
+        /** Turmas ativas por curso. */
+        ACTIVE_CLASSES_BY_COURSE,
+        /** Alunos ativos por curso. */
+        ACTIVE_STUDENTS_BY_COURSE
+    }
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    OutboxEventRepository outboxEventRepository;
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    private final Map<Counter, Map<Long, LongAdder>> counters = new EnumMap<>(Counter.class);
+
+    // Eventos já contados: os de posição até aqui (pela recarga ou já aplicados,
+    // caso sejam entregues de novo) e os que ainda não tinham posição na recarga.
+    // Aplicá-los de novo contaria a mesma matrícula duas vezes.
+    private long appliedUpTo = Long.MAX_VALUE;
+    private Set<Long> countedUnpositioned = new HashSet<>();
+    // Serializa a troca dos valores pela recarga com a aplicação dos eventos
+    private final ReentrantLock eventLock = new ReentrantLock();
+
+    public ActivityCounters() {
+        for (Counter counter : Counter.values()) {
+            counters.put(counter, new ConcurrentHashMap<>());
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        QuarkusTransaction.requiringNew().run(this::rebuild);
+    }
+
+    /**
+     * Recarrega todos os contadores a partir do banco.
+     *
+     * Deve ser a primeira coisa de uma transação nova: os COUNTs e o estado do
+     * outbox são lidos no mesmo snapshot. Um evento visível nele já está nas
+     * contagens: ou já tem posição (até a maior lida) ou ainda não tem (e a
+     * receberá maior). Os eventos de transações confirmadas depois do snapshot
+     * recebem posições maiores e não estão entre os sem posição, então são
+     * aplicados ao chegar. O ID não serve para essa fronteira: é atribuído no
+     * persist, não no commit.
+     */
+    public void rebuild() {
+        outboxEventRepository.readSingleSnapshot();
+        long lastPosition = outboxEventRepository.lastPosition();
+        Set<Long> unpositioned = outboxEventRepository.findUnpositionedIds();
+        Map<Counter, List<KeyCount>> rows = new EnumMap<>(Counter.class);
+        rows.put(Counter.ACTIVE_ENROLLMENTS_BY_STUDENT, enrollmentRepository.countActiveGroupedByStudent());
+        rows.put(Counter.ACTIVE_ENROLLMENTS_BY_CLASS, enrollmentRepository.countActiveGroupedByClass());
+        rows.put(Counter.ENROLLMENTS_BY_COURSE, enrollmentRepository.countGroupedByCourse());
+        rows.put(Counter.ACTIVE_CLASSES_BY_PROFESSOR, classRepository.countActiveGroupedByProfessor());
+        rows.put(Counter.ACTIVE_CLASSES_BY_COURSE, classRepository.countActiveGroupedByCourse());
+        rows.put(Counter.ACTIVE_STUDENTS_BY_COURSE, studentRepository.countActiveGroupedByCourse());
+
+        eventLock.lock();
+        try {
+            rows.forEach(this::load);
+            appliedUpTo = lastPosition;
+            countedUnpositioned = unpositioned;
+        } finally {
+            eventLock.unlock();
+        }
+        LOG.debug("Contadores pré-agregados reconstruídos");
+    }
+
+    public long get(Counter counter, Long key) {
+        LongAdder adder = counters.get(counter).get(key);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Soma {@code delta} ao contador quando a transação corrente for confirmada.
+     */
+    public void add(Counter counter, Long key, long delta) {
+        transactionHooks.afterCommit(() -> apply(counter, key, delta));
+    }
+
+    public void increment(Counter counter, Long key) {
+        add(counter, key, 1);
+    }
+
+    public void decrement(Counter counter, Long key) {
+        add(counter, key, -1);
+    }
+
+    /**
+     * Aplica os eventos de matrícula entregues pelo outbox, uma vez cada.
+     */
+    void onDomainEvents(@Observes DomainEventBatch batch) {
+        eventLock.lock();
+        try {
+            for (DomainEvent event : batch.events()) {
+                if (event.position() <= appliedUpTo) {
+                    continue;
+                }
+                appliedUpTo = event.position();
+                if (!countedUnpositioned.remove(event.id())) {
+                    applyEvent(event);
+                }
+            }
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    private void applyEvent(DomainEvent event) {
+        switch (event.type()) {
+            case ENROLLMENT_CREATED -> {
+                apply(Counter.ACTIVE_ENROLLMENTS_BY_STUDENT, event.studentId(), 1);
+                apply(Counter.ACTIVE_ENROLLMENTS_BY_CLASS, event.classId(), 1);
+                apply(Counter.ENROLLMENTS_BY_COURSE, event.courseId(), 1);
+            }
+            case ENROLLMENT_CANCELLED, ENROLLMENT_COMPLETED -> decrementActive(event);
+            case ENROLLMENT_DELETED -> {
+                decrementActive(event);
+                apply(Counter.ENROLLMENTS_BY_COURSE, event.courseId(), -1);
+            }
+            case CLASS_UPDATED -> {
+            }
+        }
+    }
+
+    private void decrementActive(DomainEvent event) {
+        if (event.wasActive()) {
+            apply(Counter.ACTIVE_ENROLLMENTS_BY_STUDENT, event.studentId(), -1);
+            apply(Counter.ACTIVE_ENROLLMENTS_BY_CLASS, event.classId(), -1);
+        }
+    }
+
+    private void apply(Counter counter, Long key, long delta) {
+        counters.get(counter).computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private void load(Counter counter, List<KeyCount> rows) {
+        Map<Long, LongAdder> values = counters.get(counter);
+        values.clear();
+        for (KeyCount row : rows) {
+            LongAdder adder = new LongAdder();
+            adder.add(row.count());
+            values.put(row.key(), adder);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.edu.unifor.application.dto.request;
+
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+
+/**
+ * Parâmetros de paginação por cursor das listagens (?after=&limit=).
+ */
+public class KeysetPageRequest {
+
+    @QueryParam("after")
+    @Parameter(description = "Cursor: retorna itens com ID maior que este valor (X-Next-Cursor da página anterior)")
+    public Long after;
+
+    @QueryParam("limit")
+    @Parameter(description = "Quantidade máxima de itens na página")
+    public Integer limit;
+}
@@ -0,0 +1,22 @@
+package br.edu.unifor.application.dto.request.enrollment;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Matrícula de um aluno em várias turmas de uma vez (tudo ou nada).
+ */
+public class BatchEnrollmentRequest {
+
+    @NotNull
+    @Positive
+    public Long studentId;
+
+    @NotEmpty
+    @Size(max = 15)
+    public List<@NotNull @Positive Long> classIds;
+}
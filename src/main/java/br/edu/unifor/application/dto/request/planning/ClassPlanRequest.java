@@ -0,0 +1,78 @@
+package br.edu.unifor.application.dto.request.planning;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Pedido de geração da grade de turmas de um semestre.
+ */
+public class ClassPlanRequest {
+
+    @NotBlank
+    @Size(max = 10)
+    public String semester;
+
+    @NotEmpty
+    public List<@Valid @NotNull Demand> demands;
+
+    /**
+     * Professores que podem receber turmas; vazio = todos.
+     */
+    public List<Long> professorIds;
+
+    /**
+     * Horários que podem receber turmas; vazio = todos.
+     */
+    public List<Long> scheduleIds;
+
+    /**
+     * Limite de turmas novas por professor; vazio = sem limite.
+     */
+    @Positive
+    public Integer maxClassesPerProfessor;
+
+    /**
+     * Apenas calcula a grade, sem criar as turmas.
+     */
+    public boolean dryRun;
+
+    /**
+     * Procura de um curso por uma disciplina no semestre.
+     */
+    public static class Demand {
+
+        @NotNull
+        @Positive
+        public Long courseId;
+
+        @NotNull
+        @Positive
+        public Long subjectId;
+
+        /**
+         * Alunos esperados; define quantas turmas abrir (arredondando para cima).
+         * O total de turmas do pedido é limitado por {@code academic.planning.max-sections}.
+         */
+        @NotNull
+        @Positive
+        @Max(100000)
+        public Integer students;
+
+        @NotNull
+        @Positive
+        @Max(1000)
+        public Integer classCapacity;
+
+        /**
+         * Professores habilitados para a disciplina; vazio = qualquer um dos disponíveis.
+         */
+        public List<Long> professorIds;
+    }
+}
@@ -0,0 +1,24 @@
+package br.edu.unifor.application.dto.request.student;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Pedido de sugestões de grade: uma turma para cada disciplina informada.
+ */
+public class TimetableOptionsRequest {
+
+    @NotEmpty
+    @Size(max = 15)
+    public List<@NotNull @Positive Long> subjectIds;
+
+    /**
+     * Quantidade de grades devolvidas; vazio = academic.timetable.options.default-limit.
+     */
+    @Positive
+    public Integer limit;
+}
@@ -0,0 +1,11 @@
+package br.edu.unifor.application.dto.request.waitlist;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class JoinWaitlistRequest {
+
+    @NotNull
+    @Positive
+    public Long studentId;
+}
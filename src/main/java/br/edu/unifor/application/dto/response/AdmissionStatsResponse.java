@@ -0,0 +1,21 @@
+package br.edu.unifor.application.dto.response;
+
+/**
+ * Estado do controle de admissão de POST /enrollments.
+ *
+ * Os contadores são acumulados desde a subida da aplicação; {@code shedRate}
+ * é a fração das requisições recusadas com 429.
+ */
+public record AdmissionStatsResponse(
+        int concurrencyLimit,
+        int inFlight,
+        int queued,
+        int classQueued,
+        double baselineLatencyMillis,
+        long admitted,
+        long rejectedClassFull,
+        long shedClassQueue,
+        long shedQueueFull,
+        long shedTimeout,
+        double shedRate) {
+}
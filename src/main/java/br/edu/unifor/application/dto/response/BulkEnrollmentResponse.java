@@ -0,0 +1,47 @@
+package br.edu.unifor.application.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * DTO de resposta da importação de matrículas em lote.
+ *
+ * Contém o resultado de cada linha enviada, na mesma ordem da entrada.
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkEnrollmentResponse(int total, int created, int rejected, List<Row> rows) {
+
+    public static BulkEnrollmentResponse of(List<Row> rows) {
+        int created = (int) rows.stream().filter(row -> row.status() == RowStatus.CRIADA).count();
+        return new BulkEnrollmentResponse(rows.size(), created, rows.size() - created, rows);
+    }
+
+    /**
+     * Resultado de uma linha da importação.
+     *
+     * @param row          número da linha (1 = primeira linha de dados)
+     * @param enrollmentId ID da matrícula criada (apenas se CRIADA)
+     * @param message      motivo da rejeição (apenas se REJEITADA)
+     */
+    @RegisterForReflection
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Row(int row, Long studentId, Long classId, RowStatus status, Long enrollmentId, String message) {
+
+        public static Row created(int row, Long studentId, Long classId, Long enrollmentId) {
+            return new Row(row, studentId, classId, RowStatus.CRIADA, enrollmentId, null);
+        }
+
+        public static Row rejected(int row, Long studentId, Long classId, String message) {
+            return new Row(row, studentId, classId, RowStatus.REJEITADA, null, message);
+        }
+    }
+
+    public enum RowStatus {
+        CRIADA,
+        REJEITADA
+    }
+}
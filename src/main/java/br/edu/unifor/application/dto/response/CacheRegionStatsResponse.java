@@ -0,0 +1,12 @@
+package br.edu.unifor.application.dto.response;
+
+/**
+ * Estatísticas de uma região do cache de segundo nível.
+ */
+public record CacheRegionStatsResponse(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long elementsInMemory) {
+}
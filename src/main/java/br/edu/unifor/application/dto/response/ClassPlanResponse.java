@@ -0,0 +1,50 @@
+package br.edu.unifor.application.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * DTO de resposta da geração da grade de turmas.
+ *
+ * @param committed      true se as turmas foram criadas (false em dryRun ou sem turmas alocadas)
+ * @param courseOverlaps pares de turmas de disciplinas diferentes do mesmo curso em horários sobrepostos
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClassPlanResponse(
+        String semester,
+        boolean committed,
+        int requested,
+        int planned,
+        int courseOverlaps,
+        long solveMillis,
+        List<PlannedClass> classes,
+        List<Unplaced> unplaced) {
+
+    /**
+     * Turma da grade.
+     *
+     * @param id ID da turma criada (ausente em dryRun)
+     */
+    @RegisterForReflection
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record PlannedClass(
+            Long id,
+            String code,
+            Long courseId,
+            Long subjectId,
+            Long professorId,
+            Long scheduleId,
+            int maxCapacity) {
+    }
+
+    /**
+     * Turmas de uma procura que não couberam na grade.
+     */
+    @RegisterForReflection
+    public record Unplaced(Long courseId, Long subjectId, int classes) {
+    }
+}
@@ -1,8 +1,14 @@
 package br.edu.unifor.application.dto.response;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Class.ClassStatus;
+import br.edu.unifor.domain.entity.Schedule.Period;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
 /**
@@ -30,6 +36,8 @@ public class ClassResponse {
     private Integer availableSlots;
     private String semester;
     private String status;
+    @JsonIgnore
+    private long seatVersion;
 
     public ClassResponse() {
     }
@@ -43,6 +51,7 @@ public class ClassResponse {
             this.enrolledStudents = classEntity.enrolledStudents;
             this.availableSlots = classEntity.maxCapacity - classEntity.enrolledStudents;
             this.status = classEntity.status != null ? classEntity.status.name() : null;
+            this.seatVersion = classEntity.seatVersion;
 
             if (classEntity.subject != null) {
                 this.subject = new SubjectResponse(classEntity.subject);
@@ -62,6 +71,32 @@ public class ClassResponse {
         }
     }
 
+    /**
+     * Construtor usado pelas consultas de projeção (SELECT new ...), que buscam
+     * apenas estes campos em uma única instrução SQL, sem carregar entidades.
+     */
+    public ClassResponse(Long id, String code, Integer maxCapacity, Integer enrolledStudents,
+            long seatVersion, String semester, ClassStatus status,
+            Long subjectId, String subjectCode, String subjectName, Integer subjectWorkload,
+            Long professorId, String professorName, String professorEmail, String professorDepartment,
+            Long scheduleId, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime, Period period,
+            Long courseId, String courseCode, String courseName, String courseDepartment,
+            Integer courseDuration, Boolean courseActive) {
+        this.id = id;
+        this.code = code;
+        this.maxCapacity = maxCapacity;
+        this.enrolledStudents = enrolledStudents;
+        this.availableSlots = maxCapacity - enrolledStudents;
+        this.seatVersion = seatVersion;
+        this.semester = semester;
+        this.status = status != null ? status.name() : null;
+        this.subject = new SubjectResponse(subjectId, subjectCode, subjectName, subjectWorkload);
+        this.professor = new ProfessorResponse(professorId, professorName, professorEmail, professorDepartment);
+        this.schedule = new ScheduleResponse(scheduleId, dayOfWeek, startTime, endTime, period);
+        this.course = new CourseResponse(courseId, courseCode, courseName, courseDepartment,
+                courseDuration, courseActive);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -150,4 +185,15 @@ public class ClassResponse {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    /**
+     * Versão das vagas da turma, usada pelo canal de vagas; não vai no JSON.
+     */
+    public long getSeatVersion() {
+        return seatVersion;
+    }
+
+    public void setSeatVersion(long seatVersion) {
+        this.seatVersion = seatVersion;
+    }
 }
\ No newline at end of file
@@ -34,6 +34,16 @@ public class CourseResponse {
         }
     }
 
+    public CourseResponse(Long id, String code, String name, String department, Integer duration,
+            Boolean active) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.department = department;
+        this.duration = duration;
+        this.active = active;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -29,6 +29,13 @@ public class ProfessorResponse {
         }
     }
 
+    public ProfessorResponse(Long id, String name, String email, String department) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.department = department;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
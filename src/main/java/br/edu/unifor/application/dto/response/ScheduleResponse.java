@@ -34,6 +34,15 @@ public class ScheduleResponse {
         }
     }
 
+    public ScheduleResponse(Long id, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime,
+            Schedule.Period period) {
+        this.id = id;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.period = period;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,13 @@
+package br.edu.unifor.application.dto.response;
+
+/**
+ * Vagas disponíveis de uma turma, enviadas pelo canal de vagas em tempo real.
+ *
+ * {@code version} cresce a cada mudança de vagas confirmada da turma: o
+ * cliente descarta eventos com versão menor ou igual à última que aplicou.
+ */
+public record SeatDeltaResponse(
+        Long classId,
+        int availableSlots,
+        long version) {
+}
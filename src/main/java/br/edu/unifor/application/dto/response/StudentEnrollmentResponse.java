@@ -1,5 +1,6 @@
 package br.edu.unifor.application.dto.response;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
@@ -7,6 +8,8 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.entity.Schedule.Period;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
 /**
@@ -80,6 +83,26 @@ public class StudentEnrollmentResponse {
         }
     }
 
+    /**
+     * Construtor usado pelas consultas de projeção (SELECT new ...), que buscam
+     * apenas estes campos em uma única instrução SQL, sem carregar entidades.
+     */
+    public StudentEnrollmentResponse(Long enrollmentId, String subjectCode, String subjectName,
+            String professorName, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime,
+            Period period, String classCode, LocalDateTime enrollmentDate, EnrollmentStatus status) {
+        this.enrollmentId = enrollmentId;
+        this.subjectCode = subjectCode;
+        this.subjectName = subjectName;
+        this.professorName = professorName;
+        this.dayOfWeek = dayOfWeek != null ? dayOfWeek.name() : null;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.period = period != null ? period.name() : null;
+        this.classCode = classCode;
+        this.enrollmentDate = enrollmentDate;
+        this.status = status != null ? status.name() : null;
+    }
+
     // ===== Getters & Setters =====
 
     public Long getEnrollmentId() {
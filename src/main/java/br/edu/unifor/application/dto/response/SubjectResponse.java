@@ -31,6 +31,13 @@ public class SubjectResponse {
         }
     }
 
+    public SubjectResponse(Long id, String code, String name, Integer workload) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.workload = workload;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,35 @@
+package br.edu.unifor.application.dto.response;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * DTO de resposta das sugestões de grade de um aluno.
+ *
+ * @param complete            false se a busca parou no limite de tempo (as grades são as melhores encontradas até ali)
+ * @param explored            nós visitados pela busca
+ * @param unavailableSubjects disciplinas sem turma possível (sem vagas, de outro curso ou em conflito com a agenda atual)
+ */
+@RegisterForReflection
+public record TimetableOptionsResponse(
+        List<Option> options,
+        boolean complete,
+        long explored,
+        List<Long> unavailableSubjects) {
+
+    /**
+     * Uma grade possível, já somada às matrículas ativas do aluno.
+     *
+     * @param days              dias da semana com aula
+     * @param idleMinutes       minutos vagos entre aulas do mesmo dia
+     * @param minAvailableSlots menor número de vagas entre as turmas escolhidas
+     */
+    @RegisterForReflection
+    public record Option(
+            int days,
+            int idleMinutes,
+            int minAvailableSlots,
+            List<ClassResponse> classes) {
+    }
+}
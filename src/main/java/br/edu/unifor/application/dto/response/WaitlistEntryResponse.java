@@ -0,0 +1,17 @@
+package br.edu.unifor.application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada da lista de espera de uma turma.
+ *
+ * @param position posição na fila, a partir de 1
+ */
+public record WaitlistEntryResponse(
+        Long id,
+        Long classId,
+        Long studentId,
+        String studentName,
+        long position,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,89 @@
+package br.edu.unifor.application.event;
+
+import java.util.Collection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.OutboxEvent;
+import br.edu.unifor.domain.event.DomainEvent;
+import br.edu.unifor.domain.event.DomainEventType;
+import br.edu.unifor.domain.repository.OutboxEventRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Registra eventos de domínio no outbox, dentro da transação corrente.
+ *
+ * O custo no caminho da requisição é um INSERT por evento (em lote, junto
+ * com os demais inserts do flush). Após o commit o {@link OutboxDispatcher}
+ * é acordado e entrega os eventos aos consumidores (contadores, caches,
+ * lista de espera), que os recebem com {@code @Observes DomainEventBatch}.
+ * Os consumidores desta instância veem a mudança alguns milissegundos depois
+ * do commit; os das demais, até {@code academic.outbox.poll-interval} depois.
+ */
+@ApplicationScoped
+public class DomainEvents {
+
+    @Inject
+    OutboxEventRepository outboxEventRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    @Inject
+    OutboxDispatcher outboxDispatcher;
+
+    public void enrollmentCreated(Enrollment enrollment) {
+        publish(DomainEvent.of(DomainEventType.ENROLLMENT_CREATED, enrollment, true));
+    }
+
+    /**
+     * Um evento por matrícula, acordando o dispatcher uma única vez (importação em lote).
+     */
+    public void enrollmentsCreated(Collection<Enrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return;
+        }
+        for (Enrollment enrollment : enrollments) {
+            record(DomainEvent.of(DomainEventType.ENROLLMENT_CREATED, enrollment, true));
+        }
+        transactionHooks.afterCommit(outboxDispatcher::wakeUp);
+    }
+
+    public void enrollmentCancelled(Enrollment enrollment, boolean wasActive) {
+        publish(DomainEvent.of(DomainEventType.ENROLLMENT_CANCELLED, enrollment, wasActive));
+    }
+
+    public void enrollmentCompleted(Enrollment enrollment, boolean wasActive) {
+        publish(DomainEvent.of(DomainEventType.ENROLLMENT_COMPLETED, enrollment, wasActive));
+    }
+
+    public void enrollmentDeleted(Enrollment enrollment, boolean wasActive) {
+        publish(DomainEvent.of(DomainEventType.ENROLLMENT_DELETED, enrollment, wasActive));
+    }
+
+    public void classUpdated(Class classEntity) {
+        publish(DomainEvent.classUpdated(classEntity));
+    }
+
+    private void publish(DomainEvent event) {
+        record(event);
+        transactionHooks.afterCommit(outboxDispatcher::wakeUp);
+    }
+
+    private void record(DomainEvent event) {
+        try {
+            outboxEventRepository.persist(new OutboxEvent(event.type(), objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento " + event.type(), e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package br.edu.unifor.application.event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.domain.entity.OutboxEvent;
+import br.edu.unifor.domain.event.DomainEvent;
+import br.edu.unifor.domain.event.DomainEventBatch;
+import br.edu.unifor.domain.repository.OutboxEventRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Entrega a esta instância os eventos gravados no outbox.
+ *
+ * Acordado após cada commit que gravou eventos e, para pegar os gravados por
+ * outras instâncias, a cada {@code academic.outbox.poll-interval}. Um único
+ * laço de despacho roda por vez: pedidos que chegam durante o despacho apenas
+ * fazem o laço dar mais uma volta.
+ *
+ * Cada volta primeiro atribui posições aos eventos já confirmados
+ * ({@link OutboxEventRepository#assignPositions}) e depois lê, em lotes de até
+ * {@code academic.outbox.batch-size}, os eventos posteriores ao cursor desta
+ * instância. Cada lote é entregue aos observadores de {@link DomainEventBatch}
+ * de forma síncrona, e o cursor só avança se todos terminarem sem erro: se um
+ * falhar, o lote inteiro é entregue de novo na próxima volta (pelo menos uma
+ * vez). Todas as instâncias recebem todos os eventos; as linhas não são
+ * apagadas na entrega, e sim após {@code academic.outbox.retention}.
+ */
+@ApplicationScoped
+public class OutboxDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(OutboxDispatcher.class);
+
+    @Inject
+    OutboxEventRepository outboxEventRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Event<DomainEventBatch> domainEventBatches;
+
+    @ConfigProperty(name = "academic.outbox.batch-size")
+    int batchSize;
+
+    @ConfigProperty(name = "academic.outbox.retention")
+    Duration retention;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    // Posição do último evento entregue nesta instância (negativa até a inicialização)
+    private volatile long cursor = -1;
+
+    /**
+     * Começa após a última posição já atribuída: o estado anterior vem do banco.
+     * Roda antes dos observadores que se reconstroem na inicialização
+     * (ex.: ActivityCounters), para que o snapshot deles nunca fique atrás do cursor.
+     */
+    void onStart(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        cursor = QuarkusTransaction.requiringNew().call(outboxEventRepository::lastPosition);
+    }
+
+    @Scheduled(every = "{academic.outbox.poll-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Remove os eventos posicionados há mais de {@code academic.outbox.retention}.
+     * Uma instância cujo cursor ficar mais atrasado que isso perde eventos.
+     */
+    @Scheduled(every = "{academic.outbox.cleanup-interval}",
+            delayed = "{academic.outbox.cleanup-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long deleted = QuarkusTransaction.requiringNew()
+                .call(() -> outboxEventRepository.deleteDeliveredBefore(cutoff));
+        if (deleted > 0) {
+            LOG.debugf("%d evento(s) antigos removidos do outbox", deleted);
+        }
+    }
+
+    /**
+     * Agenda um despacho, ou uma volta extra do que já está em andamento.
+     */
+    void wakeUp() {
+        if (pending.getAndIncrement() == 0) {
+            Thread.ofVirtual().name("outbox-dispatcher").start(this::drain);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            try {
+                dispatchPending();
+            } catch (RuntimeException e) {
+                LOG.error("Falha ao despachar eventos do outbox; nova tentativa no próximo ciclo", e);
+            }
+            missed = pending.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void dispatchPending() {
+        if (cursor < 0) {
+            return;
+        }
+        while (QuarkusTransaction.requiringNew().call(() -> outboxEventRepository.assignPositions(batchSize))
+                == batchSize) {
+            // próximo lote sem posição
+        }
+
+        List<OutboxEvent> rows;
+        do {
+            long after = cursor;
+            rows = QuarkusTransaction.requiringNew().call(() -> outboxEventRepository.findAfter(after, batchSize));
+            List<DomainEvent> events = toEvents(rows);
+            if (!events.isEmpty()) {
+                domainEventBatches.fire(new DomainEventBatch(events));
+            }
+            if (!rows.isEmpty()) {
+                cursor = rows.get(rows.size() - 1).position;
+            }
+        } while (rows.size() == batchSize);
+    }
+
+    private List<DomainEvent> toEvents(List<OutboxEvent> rows) {
+        List<DomainEvent> events = new ArrayList<>(rows.size());
+        for (OutboxEvent row : rows) {
+            try {
+                events.add(objectMapper.readValue(row.payload, DomainEvent.class).withOutboxRow(row.id, row.position));
+            } catch (JsonProcessingException e) {
+                LOG.errorf(e, "Evento %d (%s) descartado: payload inválido", row.id, row.type);
+            }
+        }
+        return events;
+    }
+}
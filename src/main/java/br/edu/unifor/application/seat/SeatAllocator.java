@@ -0,0 +1,137 @@
+package br.edu.unifor.application.seat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.infrastructure.exception.ClassFullException;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Componente responsável pela alocação de vagas nas turmas.
+ *
+ * Funciona em duas etapas:
+ * 1. Contador atômico em memória por turma (sem locks na JVM)
+ * 2. UPDATE condicional único no banco, que é a fonte da verdade:
+ *    enrolled_students = enrolled_students + 1 WHERE enrolled_students < max_capacity
+ *
+ * Se a transação for desfeita, a vaga volta para o contador em memória.
+ * Se o banco recusar a reserva (ex.: outra instância ocupou a vaga), o contador
+ * é recarregado da linha e marcado como "cheio confirmado"; se o banco aceitar
+ * uma reserva que o contador recusaria (vaga liberada em outra instância ou
+ * ajuste manual), o contador é descartado após o commit.
+ */
+@ApplicationScoped
+public class SeatAllocator {
+
+    private final Map<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    @Inject
+    ClassCatalog classCatalog;
+
+    @Inject
+    SeatFeed seatFeed;
+
+    @ConfigProperty(name = "academic.seats.full-recheck-interval")
+    Duration fullRecheckInterval;
+
+    /**
+     * Reserva uma vaga na turma dentro da transação corrente.
+     *
+     * @throws ClassFullException se a turma não tiver vagas
+     */
+    public void reserve(Class classEntity) {
+        reserve(classEntity, 1);
+    }
+
+    /**
+     * Reserva várias vagas na turma com um único UPDATE.
+     *
+     * O contador em memória só recusa sozinho quando o banco confirmou a turma
+     * como cheia há menos de {@code academic.seats.full-recheck-interval}; nos
+     * demais casos de "cheio" a decisão é do UPDATE condicional, e o contador é
+     * recarregado da linha, para que um contador defasado não recuse para sempre.
+     *
+     * @throws ClassFullException se a turma não tiver vagas suficientes
+     */
+    public void reserve(Class classEntity, int seats) {
+        SeatCounter counter = counterFor(classEntity);
+
+        boolean counted = counter.tryAcquire(seats);
+        if (counted) {
+            transactionHooks.afterRollback(() -> counter.release(seats));
+        } else if (counter.isConfirmedFull(System.nanoTime(), fullRecheckInterval.toNanos())) {
+            throw new ClassFullException(classEntity.code, classEntity.maxCapacity);
+        }
+
+        if (classRepository.reserveSeats(classEntity.id, seats) == 0) {
+            classRepository.getEntityManager().refresh(classEntity);
+            SeatCounter reloaded = new SeatCounter(classEntity.enrolledStudents, classEntity.maxCapacity);
+            reloaded.confirmFull(System.nanoTime());
+            counters.put(classEntity.id, reloaded);
+            throw new ClassFullException(classEntity.code, classEntity.maxCapacity);
+        }
+
+        classRepository.getEntityManager().refresh(classEntity);
+        if (!counted) {
+            // Contador defasado: recarregado da linha no próximo acesso, após o commit
+            transactionHooks.afterCommit(() -> counters.remove(classEntity.id, counter));
+        }
+        classCatalog.changedAfterCommit(classEntity.id);
+        seatFeed.publishAfterCommit(classEntity);
+    }
+
+    /**
+     * Libera uma vaga da turma dentro da transação corrente.
+     */
+    public void release(Class classEntity) {
+        if (classRepository.releaseSeats(classEntity.id, 1) == 0) {
+            return;
+        }
+        classRepository.getEntityManager().refresh(classEntity);
+        classCatalog.changedAfterCommit(classEntity.id);
+        seatFeed.publishAfterCommit(classEntity);
+
+        SeatCounter counter = counters.get(classEntity.id);
+        if (counter != null) {
+            transactionHooks.afterCommit(() -> counter.release(1));
+        }
+    }
+
+    /**
+     * Descarta o contador da turma após o commit.
+     * Usado quando capacidade muda ou a turma é removida.
+     */
+    public void invalidate(Long classId) {
+        transactionHooks.afterCommit(() -> counters.remove(classId));
+    }
+
+    /**
+     * Indica se a turma está cheia sem consultar o banco: só quando o banco
+     * confirmou isso há menos de {@code academic.seats.full-recheck-interval}.
+     * Turmas ainda sem contador carregado não são consideradas cheias.
+     */
+    public boolean isKnownFull(Long classId) {
+        SeatCounter counter = counters.get(classId);
+        return counter != null && counter.isConfirmedFull(System.nanoTime(), fullRecheckInterval.toNanos());
+    }
+
+    private SeatCounter counterFor(Class classEntity) {
+        return counters.computeIfAbsent(classEntity.id,
+                id -> new SeatCounter(classEntity.enrolledStudents, classEntity.maxCapacity));
+    }
+}
@@ -0,0 +1,84 @@
+package br.edu.unifor.application.seat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contador de vagas de uma turma, seguro para acesso concorrente sem locks.
+ *
+ * Serve como primeira barreira antes do banco: requisições para turmas cheias
+ * são rejeitadas sem tocar na linha da tabela classes.
+ */
+public class SeatCounter {
+
+    private static final long NOT_CONFIRMED = Long.MIN_VALUE;
+
+    private final AtomicInteger enrolled;
+    private final int capacity;
+
+    // Instante (System.nanoTime) em que o banco recusou uma reserva por falta de vagas
+    private volatile long fullConfirmedAt = NOT_CONFIRMED;
+
+    public SeatCounter(int enrolled, int capacity) {
+        this.enrolled = new AtomicInteger(enrolled);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Tenta reservar a quantidade de vagas informada.
+     *
+     * @return true se as vagas foram reservadas
+     */
+    public boolean tryAcquire(int seats) {
+        while (true) {
+            int current = enrolled.get();
+            if (current + seats > capacity) {
+                return false;
+            }
+            if (enrolled.compareAndSet(current, current + seats)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Devolve vagas reservadas. Nunca deixa o contador negativo.
+     */
+    public void release(int seats) {
+        while (true) {
+            int current = enrolled.get();
+            int next = Math.max(0, current - seats);
+            if (enrolled.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Registra que o banco confirmou a turma como cheia.
+     */
+    public void confirmFull(long nanoTime) {
+        fullConfirmedAt = nanoTime;
+    }
+
+    /**
+     * Indica se o contador dá a turma como cheia e o banco confirmou isso há
+     * menos de {@code maxAgeNanos}. Um "cheio" não confirmado (ou antigo) pode
+     * estar defasado, por exemplo por uma vaga liberada em outra instância.
+     */
+    public boolean isConfirmedFull(long nanoTime, long maxAgeNanos) {
+        long confirmedAt = fullConfirmedAt;
+        return getAvailable() == 0 && confirmedAt != NOT_CONFIRMED && nanoTime - confirmedAt < maxAgeNanos;
+    }
+
+    public int getEnrolled() {
+        return enrolled.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getAvailable() {
+        return Math.max(0, capacity - enrolled.get());
+    }
+}
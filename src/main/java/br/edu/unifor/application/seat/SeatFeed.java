@@ -0,0 +1,111 @@
+package br.edu.unifor.application.seat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.application.dto.response.SeatDeltaResponse;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+
+/**
+ * Canal de vagas em tempo real, com um tópico por curso.
+ *
+ * Cada mudança de vagas confirmada (reserva, liberação, capacidade, turma
+ * encerrada) é enviada como {@link SeatDeltaResponse} aos inscritos do curso
+ * da turma. O valor enviado é o total de vagas, não a diferença: perder ou
+ * repetir um evento não deixa o cliente errado por mais de uma mudança.
+ *
+ * Os hooks de commit de transações diferentes podem rodar fora da ordem dos
+ * commits, então cada evento leva a versão de vagas da turma
+ * ({@code classes.seat_version}), lida na transação depois do UPDATE que a
+ * incrementou. O cliente aplica só versões maiores que a última vista.
+ *
+ * Cada inscrito tem uma fila própria de {@value #BUFFER_SIZE} eventos. Um
+ * cliente lento que a encha é desconectado (sem afetar os demais nem quem
+ * publica); ao reconectar, recebe de novo o estado atual do curso.
+ */
+@ApplicationScoped
+public class SeatFeed {
+
+    static final int BUFFER_SIZE = 256;
+
+    private final Map<Long, Set<UnicastProcessor<SeatDeltaResponse>>> topics = new ConcurrentHashMap<>();
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    @Inject
+    ClassCatalog classCatalog;
+
+    /**
+     * Publica as vagas atuais da turma quando a transação corrente for confirmada.
+     * A entidade deve ter sido recarregada depois do UPDATE que incrementou a
+     * versão das vagas (SeatAllocator, ClassRepository#advanceSeatVersion).
+     */
+    public void publishAfterCommit(Class classEntity) {
+        publishAfterCommit(classEntity, classEntity.getAvailableSlots());
+    }
+
+    /**
+     * Publica a turma sem vagas (cancelada, concluída ou removida) após o commit.
+     * Mesma exigência de versão de {@link #publishAfterCommit(Class)}.
+     */
+    public void closedAfterCommit(Class classEntity) {
+        publishAfterCommit(classEntity, 0);
+    }
+
+    /**
+     * Vagas das turmas ativas do curso seguidas das mudanças a partir de agora.
+     */
+    public Multi<SeatDeltaResponse> subscribe(Long courseId) {
+        UnicastProcessor<SeatDeltaResponse> subscriber = UnicastProcessor.create(
+                Queues.<SeatDeltaResponse>get(BUFFER_SIZE).get(), null);
+        topics.compute(courseId, (id, subscribers) -> {
+            Set<UnicastProcessor<SeatDeltaResponse>> topic = subscribers != null
+                    ? subscribers
+                    : ConcurrentHashMap.newKeySet();
+            topic.add(subscriber);
+            return topic;
+        });
+
+        // Lido depois da inscrição: mudanças confirmadas durante a leitura ficam na fila
+        List<SeatDeltaResponse> current = classCatalog.activeByCourse(courseId).stream()
+                .map(response -> new SeatDeltaResponse(response.getId(), response.getAvailableSlots(),
+                        response.getSeatVersion()))
+                .toList();
+
+        return Multi.createBy().concatenating().streams(Multi.createFrom().iterable(current), subscriber)
+                .onFailure(BackPressureFailure.class).recoverWithCompletion()
+                .onTermination().invoke(() -> unsubscribe(courseId, subscriber));
+    }
+
+    private void publishAfterCommit(Class classEntity, int availableSlots) {
+        Long courseId = classEntity.course.id;
+        SeatDeltaResponse delta = new SeatDeltaResponse(classEntity.id, availableSlots, classEntity.seatVersion);
+        transactionHooks.afterCommit(() -> publish(courseId, delta));
+    }
+
+    private void publish(Long courseId, SeatDeltaResponse delta) {
+        Set<UnicastProcessor<SeatDeltaResponse>> subscribers = topics.get(courseId);
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.onNext(delta));
+        }
+    }
+
+    private void unsubscribe(Long courseId, UnicastProcessor<SeatDeltaResponse> subscriber) {
+        topics.computeIfPresent(courseId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,333 @@
+package br.edu.unifor.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.application.dto.response.BulkEnrollmentResponse;
+import br.edu.unifor.application.dto.response.BulkEnrollmentResponse.Row;
+import br.edu.unifor.application.event.DomainEvents;
+import br.edu.unifor.application.seat.SeatAllocator;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentKey;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.domain.repository.WaitlistRepository;
+import br.edu.unifor.domain.timetable.ClassSlot;
+import br.edu.unifor.domain.timetable.Timetable;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+import br.edu.unifor.infrastructure.exception.AlreadyEnrolledException;
+import br.edu.unifor.infrastructure.exception.ClassFullException;
+
+/**
+ * Service para importação de matrículas em lote (ex.: calouros).
+ *
+ * Diferente do EnrollmentService.create, que faz ~6 consultas por matrícula,
+ * a importação:
+ * 1. Carrega alunos, turmas e agendas atuais de todas as linhas com poucas consultas
+ * 2. Valida todas as linhas em memória, aplicando as mesmas regras do create
+ * 3. Reserva as vagas com um único UPDATE por turma
+ * 4. Insere as matrículas, e um evento de outbox por matrícula, com batching JDBC do Hibernate
+ *
+ * Linhas inválidas são rejeitadas individualmente; as válidas são gravadas
+ * na mesma transação.
+ */
+@ApplicationScoped
+public class BulkEnrollmentService {
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    WaitlistRepository waitlistRepository;
+
+    @Inject
+    SeatAllocator seatAllocator;
+
+    @Inject
+    StudentTimetableIndex studentTimetableIndex;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @Inject
+    DomainEvents domainEvents;
+
+    @ConfigProperty(name = "academic.enrollment.bulk.max-rows")
+    int maxRows;
+
+    @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size")
+    int batchSize;
+
+    /**
+     * Lê um CSV no formato "studentId,classId" (cabeçalho opcional).
+     * Linhas que não puderem ser interpretadas viram linhas com IDs nulos,
+     * rejeitadas na validação.
+     */
+    public List<CreateEnrollmentRequest> readCsv(InputStream csv) {
+        List<CreateEnrollmentRequest> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (first && !Character.isDigit(line.strip().charAt(0))) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                checkSize(rows.size() + 1);
+                rows.add(parseCsvLine(line));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Importa as matrículas, retornando o resultado de cada linha.
+     */
+    @Transactional
+    public BulkEnrollmentResponse importEnrollments(List<CreateEnrollmentRequest> requests) {
+        checkSize(requests.size());
+
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> classIds = new HashSet<>();
+        for (CreateEnrollmentRequest request : requests) {
+            if (request != null && request.studentId != null && request.classId != null) {
+                studentIds.add(request.studentId);
+                classIds.add(request.classId);
+            }
+        }
+
+        Map<Long, Student> students = studentIds.isEmpty() ? Map.of()
+                : studentRepository.findByIds(studentIds).stream()
+                        .collect(Collectors.toMap(student -> student.id, Function.identity()));
+        Map<Long, Class> classes = classIds.isEmpty() ? Map.of()
+                : classRepository.findWithScheduleByIds(classIds).stream()
+                        .collect(Collectors.toMap(classEntity -> classEntity.id, Function.identity()));
+        Map<Long, Timetable> timetables = loadTimetables(studentIds);
+        Map<Long, Map<Long, EnrollmentStatus>> existing = loadExisting(studentIds, classIds);
+
+        // Validação em memória
+        Row[] results = new Row[requests.size()];
+        // Ordenado por ID: as reservas bloqueiam as linhas na mesma ordem que POST /enrollments/batch
+        Map<Long, List<Integer>> acceptedByClass = new TreeMap<>();
+        Map<Long, Integer> seatsLeft = new HashMap<>();
+        // Turmas com lista de espera não têm vagas para a importação: as liberadas são da fila
+        Set<Long> waitlisted = classIds.isEmpty() ? Set.of() : waitlistRepository.findClassIdsWithEntries(classIds);
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEnrollmentRequest request = requests.get(i);
+            String error = validate(request, students, classes, timetables, existing, waitlisted, seatsLeft);
+
+            if (error != null) {
+                results[i] = Row.rejected(i + 1, idOf(request, true), idOf(request, false), error);
+                continue;
+            }
+
+            Class classEntity = classes.get(request.classId);
+            Timetable timetable = timetables.getOrDefault(request.studentId, Timetable.EMPTY);
+            timetables.put(request.studentId, timetable.with(classEntity.id, WeeklySlotMask.of(classEntity.schedule)));
+            seatsLeft.merge(classEntity.id, -1, Integer::sum);
+            acceptedByClass.computeIfAbsent(classEntity.id, id -> new ArrayList<>()).add(i);
+        }
+
+        // Um único UPDATE de vagas por turma
+        List<Integer> accepted = new ArrayList<>();
+        for (Map.Entry<Long, List<Integer>> entry : acceptedByClass.entrySet()) {
+            Class classEntity = classes.get(entry.getKey());
+            List<Integer> indexes = entry.getValue();
+            try {
+                seatAllocator.reserve(classEntity, indexes.size());
+                accepted.addAll(indexes);
+            } catch (ClassFullException e) {
+                for (int index : indexes) {
+                    CreateEnrollmentRequest request = requests.get(index);
+                    results[index] = Row.rejected(index + 1, request.studentId, request.classId, e.getMessage());
+                }
+            }
+        }
+
+        // Inserts em lote
+        accepted.sort(null);
+        List<Enrollment> created = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            CreateEnrollmentRequest request = requests.get(index);
+            Enrollment enrollment = new Enrollment(students.get(request.studentId), classes.get(request.classId));
+            enrollmentRepository.persist(enrollment);
+            created.add(enrollment);
+
+            if (created.size() % batchSize == 0) {
+                enrollmentRepository.flush();
+            }
+        }
+        enrollmentRepository.flush();
+
+        for (int i = 0; i < accepted.size(); i++) {
+            int index = accepted.get(i);
+            Enrollment enrollment = created.get(i);
+            Class classEntity = enrollment.classEntity;
+            results[index] = Row.created(index + 1, enrollment.student.id, classEntity.id, enrollment.id);
+            studentTimetableIndex.occupy(enrollment.student.id, classEntity.id, WeeklySlotMask.of(classEntity.schedule));
+        }
+        studentEnrollmentCache.invalidateAfterCommit(
+                created.stream().map(enrollment -> enrollment.student.id).toList());
+        // Eventos inseridos em lote no mesmo flush do commit
+        domainEvents.enrollmentsCreated(created);
+
+        return BulkEnrollmentResponse.of(List.of(results));
+    }
+
+    /**
+     * Aplica as regras do EnrollmentService.create sobre os dados pré-carregados.
+     *
+     * @return mensagem de erro, ou null se a linha é válida
+     */
+    private String validate(CreateEnrollmentRequest request, Map<Long, Student> students,
+            Map<Long, Class> classes, Map<Long, Timetable> timetables,
+            Map<Long, Map<Long, EnrollmentStatus>> existing, Set<Long> waitlisted, Map<Long, Integer> seatsLeft) {
+
+        if (request == null || request.studentId == null || request.classId == null) {
+            return "Linha inválida: studentId e classId são obrigatórios";
+        }
+
+        Student student = students.get(request.studentId);
+        if (student == null) {
+            return "Aluno não encontrado com ID: " + request.studentId;
+        }
+        if (!student.isActive) {
+            return "Não é possível matricular o aluno '" + student.name + "' pois ele está inativo.";
+        }
+
+        Class classEntity = classes.get(request.classId);
+        if (classEntity == null) {
+            return "Turma não encontrada com ID: " + request.classId;
+        }
+        if (classEntity.status != Class.ClassStatus.ATIVA) {
+            return "Não é possível matricular na turma '" + classEntity.code +
+                    "' pois ela não está ativa. Status atual: " + classEntity.status;
+        }
+
+        if (waitlisted.contains(classEntity.id)) {
+            return ClassFullException.heldForWaitlist(classEntity.code).getMessage();
+        }
+
+        int left = seatsLeft.computeIfAbsent(classEntity.id, id -> classEntity.getAvailableSlots());
+        if (left <= 0) {
+            return new ClassFullException(classEntity.code, classEntity.maxCapacity).getMessage();
+        }
+
+        EnrollmentStatus status = existing.getOrDefault(student.id, Map.of()).get(classEntity.id);
+        if (status == EnrollmentStatus.ATIVA) {
+            return new AlreadyEnrolledException(student.name, classEntity.code).getMessage();
+        }
+        if (status != null) {
+            return new AlreadyEnrolledException(student.name, classEntity.code, status).getMessage();
+        }
+
+        // Repetições do mesmo par dentro da importação
+        Timetable timetable = timetables.getOrDefault(student.id, Timetable.EMPTY);
+        if (timetable.getClasses().containsKey(classEntity.id)) {
+            return String.format("O aluno '%s' já está matriculado na turma '%s'.", student.name, classEntity.code);
+        }
+        if (timetable.conflictsWith(WeeklySlotMask.of(classEntity.schedule), null)) {
+            return String.format("Conflito de horário: O aluno '%s' já possui uma matrícula no horário %s às %s.",
+                    student.name, classEntity.schedule.dayOfWeek, classEntity.schedule.startTime);
+        }
+
+        return null;
+    }
+
+    private Map<Long, Timetable> loadTimetables(Set<Long> studentIds) {
+        Map<Long, Timetable> timetables = new HashMap<>();
+        if (studentIds.isEmpty()) {
+            return timetables;
+        }
+        for (ClassSlot slot : enrollmentRepository.findActiveSlotsByStudents(studentIds)) {
+            Timetable timetable = timetables.getOrDefault(slot.ownerId(), Timetable.EMPTY);
+            timetables.put(slot.ownerId(), timetable.with(slot.classId(), slot.toMask()));
+        }
+        return timetables;
+    }
+
+    private Map<Long, Map<Long, EnrollmentStatus>> loadExisting(Set<Long> studentIds, Set<Long> classIds) {
+        Map<Long, Map<Long, EnrollmentStatus>> existing = new HashMap<>();
+        if (studentIds.isEmpty()) {
+            return existing;
+        }
+        for (EnrollmentKey key : enrollmentRepository.findKeys(studentIds, classIds)) {
+            existing.computeIfAbsent(key.studentId(), id -> new HashMap<>()).put(key.classId(), key.status());
+        }
+        return existing;
+    }
+
+    private CreateEnrollmentRequest parseCsvLine(String line) {
+        CreateEnrollmentRequest request = new CreateEnrollmentRequest();
+        String[] columns = line.split("[,;]");
+        if (columns.length >= 2) {
+            request.studentId = parseId(columns[0]);
+            request.classId = parseId(columns[1]);
+        }
+        return request;
+    }
+
+    private static Long parseId(String value) {
+        try {
+            long id = Long.parseLong(value.strip());
+            return id > 0 ? id : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long idOf(CreateEnrollmentRequest request, boolean student) {
+        if (request == null) {
+            return null;
+        }
+        return student ? request.studentId : request.classId;
+    }
+
+    private void checkSize(int rows) {
+        if (rows > maxRows) {
+            throw new IllegalArgumentException(
+                    "A importação aceita no máximo " + maxRows + " linhas por requisição");
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package br.edu.unifor.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.application.counter.ActivityCounters;
+import br.edu.unifor.application.counter.ActivityCounters.Counter;
+import br.edu.unifor.application.dto.request.planning.ClassPlanRequest;
+import br.edu.unifor.application.dto.response.ClassPlanResponse;
+import br.edu.unifor.application.dto.response.ClassPlanResponse.PlannedClass;
+import br.edu.unifor.application.dto.response.ClassPlanResponse.Unplaced;
+import br.edu.unifor.application.timetable.ProfessorTimetableIndex;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Course;
+import br.edu.unifor.domain.entity.Professor;
+import br.edu.unifor.domain.entity.Schedule;
+import br.edu.unifor.domain.entity.Subject;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.CourseRepository;
+import br.edu.unifor.domain.repository.ProfessorRepository;
+import br.edu.unifor.domain.repository.ScheduleRepository;
+import br.edu.unifor.domain.repository.SubjectRepository;
+import br.edu.unifor.domain.timetable.ClassPlan;
+import br.edu.unifor.domain.timetable.ClassPlanner;
+import br.edu.unifor.domain.timetable.PlanningProblem;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+import br.edu.unifor.infrastructure.exception.CourseNotFoundException;
+import br.edu.unifor.infrastructure.exception.ProfessorNotFoundException;
+import br.edu.unifor.infrastructure.exception.ProfessorScheduleConflictException;
+import br.edu.unifor.infrastructure.exception.SubjectNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+/**
+ * Service que monta a grade de turmas de um semestre com o {@link ClassPlanner}.
+ *
+ * Em vez de criar turma por turma (POST /classes) e descobrir os conflitos de
+ * professor por tentativa e erro, a coordenação informa a procura de cada
+ * curso por disciplina e recebe a grade inteira:
+ * 1. Carrega disciplinas, cursos, professores e horários em uma transação curta;
+ *    a ocupação atual dos professores vem do ProfessorTimetableIndex (memória)
+ * 2. Resolve fora de transação, em paralelo no pool academic.planning.parallelism
+ * 3. Cria as turmas alocadas em uma única transação, com batching JDBC do Hibernate,
+ *    conferindo de novo a agenda dos professores (pode ter mudado durante o cálculo)
+ *
+ * Seções sem alocação viável são devolvidas em "unplaced"; as demais são criadas.
+ */
+@ApplicationScoped
+public class ClassPlanningService {
+
+    private static final String SECTION_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    SubjectRepository subjectRepository;
+
+    @Inject
+    ProfessorRepository professorRepository;
+
+    @Inject
+    ScheduleRepository scheduleRepository;
+
+    @Inject
+    CourseRepository courseRepository;
+
+    @Inject
+    ProfessorTimetableIndex professorTimetableIndex;
+
+    @Inject
+    ActivityCounters counters;
+
+    @Inject
+    ClassCatalog classCatalog;
+
+    @ConfigProperty(name = "academic.planning.parallelism")
+    int parallelism;
+
+    @ConfigProperty(name = "academic.planning.searches")
+    int searches;
+
+    @ConfigProperty(name = "academic.planning.iterations")
+    int iterations;
+
+    @ConfigProperty(name = "academic.planning.max-sections")
+    int maxSections;
+
+    @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size")
+    int batchSize;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Calcula a grade e, fora do modo dryRun, cria as turmas alocadas.
+     */
+    public ClassPlanResponse plan(ClassPlanRequest request) {
+        Input input = QuarkusTransaction.requiringNew().call(() -> load(request));
+
+        long start = System.nanoTime();
+        ClassPlan plan = new ClassPlanner(input.problem()).solve(searches, iterations, pool);
+        long solveMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        List<PlannedClass> classes = request.dryRun || plan.assignments().isEmpty()
+                ? preview(request.semester, input, plan)
+                : QuarkusTransaction.requiringNew().call(() -> commit(request.semester, input, plan));
+
+        return new ClassPlanResponse(
+                request.semester,
+                !request.dryRun && !classes.isEmpty(),
+                input.problem().sections().size(),
+                classes.size(),
+                plan.courseOverlaps(),
+                solveMillis,
+                classes,
+                unplaced(input, plan));
+    }
+
+    private Input load(ClassPlanRequest request) {
+        Map<Long, Professor> professors = select(professorRepository.listAll(), professor -> professor.id,
+                request.professorIds, ProfessorNotFoundException::new);
+        Map<Long, Schedule> schedules = select(scheduleRepository.listAllCached(), schedule -> schedule.id,
+                request.scheduleIds, id -> new IllegalArgumentException("Horário não encontrado com ID: " + id));
+
+        long requested = request.demands.stream()
+                .mapToLong(ClassPlanningService::sectionCount)
+                .sum();
+        if (requested > maxSections) {
+            throw new IllegalArgumentException("O pedido abriria " + requested
+                    + " turmas; o máximo por geração de grade é " + maxSections);
+        }
+
+        Map<Long, Subject> subjects = new HashMap<>();
+        Set<Long> courses = new HashSet<>();
+        List<PlanningProblem.Section> sections = new ArrayList<>();
+        for (ClassPlanRequest.Demand demand : request.demands) {
+            subjects.computeIfAbsent(demand.subjectId, id -> subjectRepository.findByIdOptional(id)
+                    .orElseThrow(() -> new SubjectNotFoundException(id)));
+            if (courses.add(demand.courseId) && courseRepository.findByIdOptional(demand.courseId).isEmpty()) {
+                throw new CourseNotFoundException(demand.courseId);
+            }
+
+            Set<Long> qualified = demand.professorIds == null ? Set.of() : Set.copyOf(demand.professorIds);
+            for (Long professorId : qualified) {
+                if (!professors.containsKey(professorId)) {
+                    throw new IllegalArgumentException(
+                            "Professor " + professorId + " habilitado para a disciplina " + demand.subjectId
+                                    + " não está entre os professores disponíveis");
+                }
+            }
+
+            int count = sectionCount(demand);
+            for (int i = 0; i < count; i++) {
+                sections.add(new PlanningProblem.Section(demand.courseId, demand.subjectId, demand.classCapacity, qualified));
+            }
+        }
+
+        List<PlanningProblem.Slot> slots = schedules.values().stream()
+                .map(schedule -> new PlanningProblem.Slot(schedule.id, WeeklySlotMask.of(schedule)))
+                .toList();
+        List<PlanningProblem.Teacher> teachers = professors.values().stream()
+                .map(professor -> new PlanningProblem.Teacher(professor.id,
+                        professorTimetableIndex.timetableOf(professor.id).getOccupied()))
+                .toList();
+        int maxPerProfessor = request.maxClassesPerProfessor != null ? request.maxClassesPerProfessor : 0;
+
+        return new Input(new PlanningProblem(slots, teachers, sections, maxPerProfessor),
+                subjects, professors, schedules);
+    }
+
+    private List<PlannedClass> commit(String semester, Input input, ClassPlan plan) {
+        for (ClassPlan.Assignment assignment : plan.assignments()) {
+            Schedule schedule = input.schedules().get(assignment.scheduleId());
+            if (professorTimetableIndex.hasConflict(assignment.professorId(), WeeklySlotMask.of(schedule), null)) {
+                Professor professor = input.professors().get(assignment.professorId());
+                throw new ProfessorScheduleConflictException(professor.name, schedule.dayOfWeek + " às " + schedule.startTime);
+            }
+        }
+
+        List<String> codes = codes(semester, input, plan);
+        List<Class> created = new ArrayList<>(codes.size());
+        for (int i = 0; i < plan.assignments().size(); i++) {
+            ClassPlan.Assignment assignment = plan.assignments().get(i);
+            PlanningProblem.Section section = input.problem().sections().get(assignment.section());
+            Class classEntity = new Class(
+                    codes.get(i),
+                    classRepository.getEntityManager().getReference(Subject.class, section.subjectId()),
+                    classRepository.getEntityManager().getReference(Professor.class, assignment.professorId()),
+                    classRepository.getEntityManager().getReference(Schedule.class, assignment.scheduleId()),
+                    classRepository.getEntityManager().getReference(Course.class, section.courseId()),
+                    section.capacity(),
+                    semester);
+            classRepository.persist(classEntity);
+            created.add(classEntity);
+
+            if (created.size() % batchSize == 0) {
+                classRepository.flush();
+            }
+        }
+        classRepository.flush();
+
+        List<PlannedClass> result = new ArrayList<>(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            Class classEntity = created.get(i);
+            ClassPlan.Assignment assignment = plan.assignments().get(i);
+            PlanningProblem.Section section = input.problem().sections().get(assignment.section());
+            Schedule schedule = input.schedules().get(assignment.scheduleId());
+
+            professorTimetableIndex.occupy(assignment.professorId(), classEntity.id, WeeklySlotMask.of(schedule));
+            counters.increment(Counter.ACTIVE_CLASSES_BY_PROFESSOR, assignment.professorId());
+            counters.increment(Counter.ACTIVE_CLASSES_BY_COURSE, section.courseId());
+            classCatalog.changedAfterCommit(classEntity.id);
+            result.add(plannedClass(classEntity.id, classEntity.code, section, assignment));
+        }
+        return result;
+    }
+
+    private List<PlannedClass> preview(String semester, Input input, ClassPlan plan) {
+        List<String> codes = QuarkusTransaction.requiringNew().call(() -> codes(semester, input, plan));
+        List<PlannedClass> result = new ArrayList<>(codes.size());
+        for (int i = 0; i < plan.assignments().size(); i++) {
+            ClassPlan.Assignment assignment = plan.assignments().get(i);
+            result.add(plannedClass(null, codes.get(i), input.problem().sections().get(assignment.section()), assignment));
+        }
+        return result;
+    }
+
+    /**
+     * Códigos no padrão das turmas existentes (DISCIPLINA-A-SEMESTRE), pulando os já usados.
+     */
+    private List<String> codes(String semester, Input input, ClassPlan plan) {
+        String suffix = "-" + semester;
+        Set<String> taken = new HashSet<>(classRepository.findCodesEndingWith(suffix));
+        Map<Long, Integer> nextSection = new HashMap<>();
+
+        List<String> codes = new ArrayList<>(plan.assignments().size());
+        for (ClassPlan.Assignment assignment : plan.assignments()) {
+            Long subjectId = input.problem().sections().get(assignment.section()).subjectId();
+            String subjectCode = input.subjects().get(subjectId).code;
+            String code;
+            do {
+                int section = nextSection.merge(subjectId, 1, Integer::sum) - 1;
+                code = subjectCode + "-" + sectionLabel(section) + suffix;
+            } while (!taken.add(code));
+            codes.add(code);
+        }
+        return codes;
+    }
+
+    /**
+     * Turmas necessárias para a demanda (alunos / capacidade, arredondando para cima).
+     */
+    private static int sectionCount(ClassPlanRequest.Demand demand) {
+        return (demand.students + demand.classCapacity - 1) / demand.classCapacity;
+    }
+
+    /**
+     * A, B, ..., Z, AA, AB, ...
+     */
+    private static String sectionLabel(int index) {
+        StringBuilder label = new StringBuilder();
+        int value = index + 1;
+        while (value > 0) {
+            value--;
+            label.insert(0, SECTION_LETTERS.charAt(value % SECTION_LETTERS.length()));
+            value /= SECTION_LETTERS.length();
+        }
+        return label.toString();
+    }
+
+    private static PlannedClass plannedClass(Long id, String code, PlanningProblem.Section section,
+            ClassPlan.Assignment assignment) {
+        return new PlannedClass(id, code, section.courseId(), section.subjectId(),
+                assignment.professorId(), assignment.scheduleId(), section.capacity());
+    }
+
+    private static List<Unplaced> unplaced(Input input, ClassPlan plan) {
+        Map<List<Long>, Integer> counts = new LinkedHashMap<>();
+        for (int index : plan.unplaced()) {
+            PlanningProblem.Section section = input.problem().sections().get(index);
+            counts.merge(List.of(section.courseId(), section.subjectId()), 1, Integer::sum);
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new Unplaced(entry.getKey().get(0), entry.getKey().get(1), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Filtra a lista pelos IDs pedidos (todos, se nenhum for informado).
+     */
+    private static <T> Map<Long, T> select(List<T> all, Function<T, Long> id, List<Long> requested,
+            Function<Long, RuntimeException> notFound) {
+        Map<Long, T> byId = all.stream().collect(Collectors.toMap(id, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        if (requested == null || requested.isEmpty()) {
+            return byId;
+        }
+        Map<Long, T> selected = new LinkedHashMap<>();
+        for (Long requestedId : requested) {
+            T item = byId.get(requestedId);
+            if (item == null) {
+                throw notFound.apply(requestedId);
+            }
+            selected.put(requestedId, item);
+        }
+        return selected;
+    }
+
+    /**
+     * Problema montado a partir do pedido, com as entidades usadas para criar as turmas.
+     */
+    private record Input(
+            PlanningProblem problem,
+            Map<Long, Subject> subjects,
+            Map<Long, Professor> professors,
+            Map<Long, Schedule> schedules) {
+    }
+}
@@ -7,6 +7,17 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 
+import br.edu.unifor.application.catalog.CatalogSnapshot;
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.application.catalog.ClassCatalog.View;
+import br.edu.unifor.application.counter.ActivityCounters;
+import br.edu.unifor.application.counter.ActivityCounters.Counter;
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.event.DomainEvents;
+import br.edu.unifor.application.seat.SeatAllocator;
+import br.edu.unifor.application.seat.SeatFeed;
+import br.edu.unifor.application.timetable.ProfessorTimetableIndex;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
 import br.edu.unifor.domain.entity.Class;
 import br.edu.unifor.domain.entity.Class.ClassStatus;
 import br.edu.unifor.domain.entity.Course;
@@ -19,6 +30,7 @@ import br.edu.unifor.domain.repository.EnrollmentRepository;
 import br.edu.unifor.domain.repository.ProfessorRepository;
 import br.edu.unifor.domain.repository.ScheduleRepository;
 import br.edu.unifor.domain.repository.SubjectRepository;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
 import br.edu.unifor.infrastructure.exception.ClassHasEnrollmentsException;
 import br.edu.unifor.infrastructure.exception.ClassNotFoundException;
 import br.edu.unifor.infrastructure.exception.CourseNotFoundException;
@@ -46,6 +58,27 @@ public class ClassService {
     @Inject
     EnrollmentRepository enrollmentRepository;
 
+    @Inject
+    SeatAllocator seatAllocator;
+
+    @Inject
+    StudentTimetableIndex studentTimetableIndex;
+
+    @Inject
+    ProfessorTimetableIndex professorTimetableIndex;
+
+    @Inject
+    ActivityCounters counters;
+
+    @Inject
+    DomainEvents domainEvents;
+
+    @Inject
+    ClassCatalog classCatalog;
+
+    @Inject
+    SeatFeed seatFeed;
+
     /**
      * Cria uma nova turma.
      * 
@@ -77,8 +110,9 @@ public class ClassService {
         Course course = courseRepository.findByIdOptional(classEntity.course.id)
                 .orElseThrow(() -> new CourseNotFoundException(classEntity.course.id));
 
-        // Validar conflito de horário do professor
-        if (classRepository.hasProfessorScheduleConflict(professor.id, schedule.id, null)) {
+        // Validar conflito de horário do professor (em memória)
+        WeeklySlotMask slots = WeeklySlotMask.of(schedule);
+        if (professorTimetableIndex.hasConflict(professor.id, slots, null)) {
             String scheduleInfo = schedule.dayOfWeek + " às " + schedule.startTime;
             throw new ProfessorScheduleConflictException(professor.name, scheduleInfo);
         }
@@ -92,53 +126,76 @@ public class ClassService {
         classEntity.enrolledStudents = 0;
 
         classRepository.persist(classEntity);
+        professorTimetableIndex.occupy(professor.id, classEntity.id, slots);
+        counters.increment(Counter.ACTIVE_CLASSES_BY_PROFESSOR, professor.id);
+        counters.increment(Counter.ACTIVE_CLASSES_BY_COURSE, course.id);
+        classCatalog.changedAfterCommit(classEntity.id);
         return classEntity;
     }
 
-    public List<Class> getAllClasses() {
-        return classRepository.listAll();
+    // Leituras retornam projeções montadas em uma única consulta (sem N+1
+    // sobre subject/professor/schedule/course).
+
+    public List<ClassResponse> getAllClasses() {
+        return classRepository.findAllResponses();
     }
 
-    public List<Class> getActiveClasses() {
-        return classRepository.findAllActive();
+    /**
+     * Turmas ativas, já serializadas (catálogo compartilhado entre os alunos).
+     */
+    public CatalogSnapshot getActiveCatalog() {
+        return classCatalog.snapshot(View.ACTIVE);
     }
 
-    public Class findById(Long id) {
-        return classRepository.findByIdOptional(id)
+    public ClassResponse findById(Long id) {
+        return classRepository.findResponseById(id)
                 .orElseThrow(() -> new ClassNotFoundException(id));
     }
 
-    public Class findByCode(String code) {
-        return classRepository.findByCode(code)
+    public ClassResponse findByCode(String code) {
+        return classRepository.findResponseByCode(code)
                 .orElseThrow(() -> new ClassNotFoundException("Turma não encontrada: " + code));
     }
 
-    public List<Class> findBySubject(Long subjectId) {
-        return classRepository.findBySubject(subjectId);
+    public List<ClassResponse> findBySubject(Long subjectId) {
+        return classRepository.findResponsesBySubject(subjectId);
     }
 
-    public List<Class> findByProfessor(Long professorId) {
-        return classRepository.findByProfessor(professorId);
+    public List<ClassResponse> findByProfessor(Long professorId) {
+        return classRepository.findResponsesByProfessor(professorId);
     }
 
-    public List<Class> findByCourse(Long courseId) {
-        return classRepository.findByCourse(courseId);
+    public List<ClassResponse> findByCourse(Long courseId) {
+        return classRepository.findResponsesByCourse(courseId);
     }
 
-    public List<Class> findActiveByCourse(Long courseId) {
-        return classRepository.findActiveByCourse(courseId);
+    public List<ClassResponse> findActiveByCourse(Long courseId) {
+        return classRepository.findActiveResponsesByCourse(courseId);
+    }
+
+    public List<ClassResponse> findBySemester(String semester) {
+        return classRepository.findResponsesBySemester(semester);
+    }
+
+    /**
+     * Turmas ativas com vagas, já serializadas.
+     */
+    public CatalogSnapshot getAvailableCatalog() {
+        return classCatalog.snapshot(View.AVAILABLE);
     }
 
-    public List<Class> findBySemester(String semester) {
-        return classRepository.findBySemester(semester);
+    public List<ClassResponse> findClassesByCourseWithSlots(Long courseId) {
+        return classRepository.findActiveResponsesByCourseWithSlots(courseId);
     }
 
-    public List<Class> findClassesWithAvailableSlots() {
-        return classRepository.findActiveWithAvailableSlots();
+    private Class loadClass(Long id) {
+        return classRepository.findByIdOptional(id)
+                .orElseThrow(() -> new ClassNotFoundException(id));
     }
 
-    public List<Class> findClassesByCourseWithSlots(Long courseId) {
-        return classRepository.findActiveByCourseWithSlots(courseId);
+    private Class loadClassDetail(Long id) {
+        return classRepository.findDetailById(id)
+                .orElseThrow(() -> new ClassNotFoundException(id));
     }
 
     /**
@@ -150,36 +207,51 @@ public class ClassService {
      */
     @Transactional
     public Class update(Long id, Class classAtualizado) {
-        Class classEntity = findById(id);
+        Class classEntity = loadClassDetail(id);
+
+        Professor professor = classEntity.professor;
+        Schedule schedule = classEntity.schedule;
+        boolean professorChanged = !professor.id.equals(classAtualizado.professor.id);
+        boolean scheduleChanged = !schedule.id.equals(classAtualizado.schedule.id);
 
         // Validar professor se mudou
-        if (!classEntity.professor.id.equals(classAtualizado.professor.id)) {
-            Professor professor = professorRepository.findByIdOptional(classAtualizado.professor.id)
+        if (professorChanged) {
+            professor = professorRepository.findByIdOptional(classAtualizado.professor.id)
                     .orElseThrow(() -> new ProfessorNotFoundException(classAtualizado.professor.id));
-
-            // Validar conflito de horário
-            if (classRepository.hasProfessorScheduleConflict(
-                    professor.id, classAtualizado.schedule.id, id)) {
-                String scheduleInfo = classAtualizado.schedule.dayOfWeek + " às " + classAtualizado.schedule.startTime;
-                throw new ProfessorScheduleConflictException(professor.name, scheduleInfo);
-            }
-
-            classEntity.professor = professor;
         }
 
         // Validar horário se mudou
-        if (!classEntity.schedule.id.equals(classAtualizado.schedule.id)) {
-            Schedule schedule = scheduleRepository.findByIdOptional(classAtualizado.schedule.id)
+        if (scheduleChanged) {
+            schedule = scheduleRepository.findByIdOptional(classAtualizado.schedule.id)
                     .orElseThrow(() -> new RuntimeException("Horário não encontrado"));
+        }
 
-            // Validar conflito
-            if (classRepository.hasProfessorScheduleConflict(
-                    classEntity.professor.id, schedule.id, id)) {
+        // Validar conflito de horário do professor uma única vez (em memória)
+        if (professorChanged || scheduleChanged) {
+            WeeklySlotMask slots = WeeklySlotMask.of(schedule);
+            if (professorTimetableIndex.hasConflict(professor.id, slots, id)) {
                 String scheduleInfo = schedule.dayOfWeek + " às " + schedule.startTime;
-                throw new ProfessorScheduleConflictException(classEntity.professor.name, scheduleInfo);
+                throw new ProfessorScheduleConflictException(professor.name, scheduleInfo);
             }
 
+            if (classEntity.status == ClassStatus.ATIVA) {
+                professorTimetableIndex.release(classEntity.professor.id, id);
+                professorTimetableIndex.occupy(professor.id, id, slots);
+                if (professorChanged) {
+                    counters.decrement(Counter.ACTIVE_CLASSES_BY_PROFESSOR, classEntity.professor.id);
+                    counters.increment(Counter.ACTIVE_CLASSES_BY_PROFESSOR, professor.id);
+                }
+            }
+
+            classEntity.professor = professor;
             classEntity.schedule = schedule;
+            // Professor e horário aparecem na visão "minhas disciplinas" dos alunos da turma
+            domainEvents.classUpdated(classEntity);
+        }
+
+        if (scheduleChanged) {
+            // Agendas dos alunos matriculados mudaram
+            studentTimetableIndex.invalidateAll();
         }
 
         // Validar capacidade (não pode ser menor que alunos matriculados)
@@ -189,21 +261,37 @@ public class ClassService {
             );
         }
 
-        classEntity.maxCapacity = classAtualizado.maxCapacity;
+        if (!classEntity.maxCapacity.equals(classAtualizado.maxCapacity)) {
+            classEntity.maxCapacity = classAtualizado.maxCapacity;
+            seatAllocator.invalidate(id);
+            classRepository.advanceSeatVersion(classEntity);
+            seatFeed.publishAfterCommit(classEntity);
+        }
 
+        classCatalog.changedAfterCommit(id);
         return classEntity;
     }
 
     @Transactional
     public void cancel(Long id) {
-        Class classEntity = findById(id);
+        Class classEntity = loadClass(id);
+        deactivate(classEntity);
         classEntity.status = ClassStatus.CANCELADA;
+        professorTimetableIndex.release(classEntity.professor.id, id);
+        classCatalog.changedAfterCommit(id);
+        classRepository.advanceSeatVersion(classEntity);
+        seatFeed.closedAfterCommit(classEntity);
     }
 
     @Transactional
     public void complete(Long id) {
-        Class classEntity = findById(id);
+        Class classEntity = loadClass(id);
+        deactivate(classEntity);
         classEntity.status = ClassStatus.CONCLUIDA;
+        professorTimetableIndex.release(classEntity.professor.id, id);
+        classCatalog.changedAfterCommit(id);
+        classRepository.advanceSeatVersion(classEntity);
+        seatFeed.closedAfterCommit(classEntity);
     }
 
     /**
@@ -211,21 +299,38 @@ public class ClassService {
      */
     @Transactional
     public void delete(Long id) {
-        Class classEntity = findById(id);
+        Class classEntity = loadClass(id);
 
         long activeEnrollments = enrollmentRepository.countActiveByClass(id);
         if (activeEnrollments > 0) {
             throw new ClassHasEnrollmentsException(classEntity.code, (int) activeEnrollments);
         }
 
+        deactivate(classEntity);
+        // Antes do DELETE: depois dele não há mais linha para versionar
+        classRepository.advanceSeatVersion(classEntity);
         classRepository.delete(classEntity);
+        seatAllocator.invalidate(id);
+        professorTimetableIndex.release(classEntity.professor.id, id);
+        classCatalog.changedAfterCommit(id);
+        seatFeed.closedAfterCommit(classEntity);
+    }
+
+    /**
+     * Ajusta os contadores de turmas ativas quando uma turma ATIVA deixa de sê-lo.
+     */
+    private void deactivate(Class classEntity) {
+        if (classEntity.status == ClassStatus.ATIVA) {
+            counters.decrement(Counter.ACTIVE_CLASSES_BY_PROFESSOR, classEntity.professor.id);
+            counters.decrement(Counter.ACTIVE_CLASSES_BY_COURSE, classEntity.course.id);
+        }
     }
 
     public long countActiveByProfessor(Long professorId) {
-        return classRepository.countActiveByProfessor(professorId);
+        return counters.get(Counter.ACTIVE_CLASSES_BY_PROFESSOR, professorId);
     }
 
     public long countActiveByCourse(Long courseId) {
-        return classRepository.countActiveByCourse(courseId);
+        return counters.get(Counter.ACTIVE_CLASSES_BY_COURSE, courseId);
     }
 }
\ No newline at end of file
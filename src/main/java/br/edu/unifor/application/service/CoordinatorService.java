@@ -10,12 +10,14 @@ import br.edu.unifor.application.dto.request.coordinator.CreateCoordinatorReques
 import br.edu.unifor.application.dto.request.coordinator.UpdateCoordinatorRequest;
 import br.edu.unifor.domain.entity.Coordinator;
 import br.edu.unifor.domain.entity.Course;
+import br.edu.unifor.domain.registration.RegistrationKind;
 import br.edu.unifor.domain.repository.CoordinatorRepository;
 import br.edu.unifor.domain.repository.CourseRepository;
 import br.edu.unifor.infrastructure.exception.CoordinatorHasActiveCoursesException;
 import br.edu.unifor.infrastructure.exception.CoordinatorNotFoundException;
 import br.edu.unifor.infrastructure.exception.CourseNotFoundException;
 import br.edu.unifor.infrastructure.exception.EmailAlreadyExistException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 
 /**
  * Service responsável pela lógica de negócios relacionada aos coordenadores
@@ -46,8 +48,13 @@ public class CoordinatorService {
      * @return Coordenador criado com matrícula gerada
      */
 
-    @Transactional
     public Coordinator create(CreateCoordinatorRequest dto) {
+        // fora da transação do cadastro (ver RegistrationService.next)
+        String registration = registrationService.next(RegistrationKind.COORDINATOR);
+        return QuarkusTransaction.requiringNew().call(() -> create(dto, registration));
+    }
+
+    private Coordinator create(CreateCoordinatorRequest dto, String registration) {
 
         // Validar email duplicado
         if (coordinatorRepository.existsByEmail(dto.email)) {
@@ -60,9 +67,7 @@ public class CoordinatorService {
         coordinator.phone = dto.phone;
         coordinator.department = dto.department;
 
-        // Gerar matrícula única
-        coordinator.registration = registrationService.generateUnique(
-                coordinatorRepository::existsByRegistration);
+        coordinator.registration = registration;
 
         coordinator.active = true;
 
@@ -4,6 +4,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import br.edu.unifor.application.cache.ReferenceDataCache;
 import br.edu.unifor.application.dto.request.coordinator.CreateCourseRequest;
 import br.edu.unifor.application.mapper.CourseMapper;
 import br.edu.unifor.domain.entity.Course;
@@ -19,6 +20,9 @@ public class CourseService {
     @Inject
     CourseMapper mapper;
 
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
     @Transactional
     public Course create(CreateCourseRequest dto) {
         if (repository.existsByCode(dto.code())) {
@@ -26,6 +30,7 @@ public class CourseService {
         }
         Course course = mapper.toEntity(dto);
         repository.persist(course);
+        referenceDataCache.evictQueriesAfterCommit();
         return course;
     }
 }
@@ -1,27 +1,57 @@
 package br.edu.unifor.application.service;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.counter.ActivityCounters;
+import br.edu.unifor.application.counter.ActivityCounters.Counter;
+import br.edu.unifor.application.dto.request.KeysetPageRequest;
+import br.edu.unifor.application.dto.request.enrollment.BatchEnrollmentRequest;
 import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.application.event.DomainEvents;
+import br.edu.unifor.application.seat.SeatAllocator;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
 import br.edu.unifor.domain.entity.Class;
 import br.edu.unifor.domain.entity.Enrollment;
 import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
 import br.edu.unifor.domain.entity.Schedule;
 import br.edu.unifor.domain.entity.Student;
 import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentKey;
 import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.KeysetPage;
 import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.domain.repository.WaitlistRepository;
+import br.edu.unifor.domain.timetable.Timetable;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
 import br.edu.unifor.infrastructure.exception.AlreadyEnrolledException;
 import br.edu.unifor.infrastructure.exception.ClassFullException;
 import br.edu.unifor.infrastructure.exception.ClassNotFoundException;
 import br.edu.unifor.infrastructure.exception.EnrollmentNotFoundException;
 import br.edu.unifor.infrastructure.exception.StudentNotFoundException;
 import br.edu.unifor.infrastructure.exception.StudentScheduleConflictException;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 
 /**
  * Service para gerenciar matrículas.
@@ -30,8 +60,11 @@ import br.edu.unifor.infrastructure.exception.StudentScheduleConflictException;
  * - Aluno deve estar ativo
  * - Turma deve estar ativa e ter vagas
  * - Não permitir matrícula duplicada
- * - Validar conflito de horário do aluno
- * - Incrementar/decrementar contador da turma
+ * - Validar conflito de horário do aluno (via {@link StudentTimetableIndex})
+ * - Incrementar/decrementar contador da turma (via {@link SeatAllocator})
+ *
+ * Os demais efeitos (contadores pré-agregados, cache da visão do aluno) são
+ * aplicados pelos consumidores dos eventos gravados em {@link DomainEvents}.
  */
 @ApplicationScoped
 public class EnrollmentService {
@@ -45,23 +78,69 @@ public class EnrollmentService {
     @Inject
     ClassRepository classRepository;
 
+    @Inject
+    SeatAllocator seatAllocator;
+
+    @Inject
+    StudentTimetableIndex studentTimetableIndex;
+
+    @Inject
+    WaitlistRepository waitlistRepository;
+
+    @Inject
+    ActivityCounters counters;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @Inject
+    DomainEvents domainEvents;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "academic.pagination.default-limit")
+    int defaultPageLimit;
+
+    @ConfigProperty(name = "academic.pagination.max-limit")
+    int maxPageLimit;
+
+    @ConfigProperty(name = "academic.enrollment.export.fetch-size")
+    int exportFetchSize;
+
     /**
      * Cria uma nova matrícula.
      * 
      * VALIDAÇÕES IMPLEMENTADAS:
      * 1. Aluno deve existir e estar ativo
      * 2. Turma deve existir e estar ativa
-     * 3. Turma deve ter vagas disponíveis
-     * 4. Aluno não pode estar matriculado 2x na mesma turma
-     * 5. Aluno não pode ter conflito de horário
+     * 3. Aluno não pode ter outra matrícula na mesma turma (em qualquer status)
+     * 4. Aluno não pode ter conflito de horário
+     * 5. Turma sem alunos na lista de espera (as vagas liberadas são da fila)
+     * 6. Turma deve ter vagas disponíveis (reserva atômica, feita por último
+     *    para manter a linha da turma bloqueada pelo menor tempo possível)
      * 
      * @param enrollment Dados da matrícula
      * @return Matrícula criada
+     * @throws ClassFullException se a turma não tiver vagas ou tiver lista de espera
      */
     @Transactional
     public Enrollment create(CreateEnrollmentRequest dto) {
+        return create(dto, false);
+    }
 
-        Student student = studentRepository.findByIdOptional(dto.studentId)
+    /**
+     * Matricula o primeiro aluno da lista de espera da turma: as mesmas
+     * validações do {@link #create(CreateEnrollmentRequest)}, exceto a da fila.
+     */
+    @Transactional
+    public Enrollment createFromWaitlist(CreateEnrollmentRequest dto) {
+        return create(dto, true);
+    }
+
+    private Enrollment create(CreateEnrollmentRequest dto, boolean fromWaitlist) {
+
+        Student student = studentRepository.findDetailById(dto.studentId)
                 .orElseThrow(() -> new StudentNotFoundException(dto.studentId));
 
         if (!student.isActive) {
@@ -69,7 +148,7 @@ public class EnrollmentService {
                     "Não é possível matricular o aluno '" + student.name + "' pois ele está inativo.");
         }
 
-        Class classEntity = classRepository.findByIdOptional(dto.classId)
+        Class classEntity = classRepository.findDetailById(dto.classId)
                 .orElseThrow(() -> new ClassNotFoundException(dto.classId));
 
         if (classEntity.status != Class.ClassStatus.ATIVA) {
@@ -78,16 +157,15 @@ public class EnrollmentService {
                             "' pois ela não está ativa. Status atual: " + classEntity.status);
         }
 
-        if (!classEntity.hasAvailableSlots()) {
-            throw new ClassFullException(classEntity.code, classEntity.maxCapacity);
-        }
-
-        if (enrollmentRepository.isStudentEnrolledInClass(student.id, classEntity.id)) {
-            throw new AlreadyEnrolledException(student.name, classEntity.code);
-        }
+        enrollmentRepository.findStatus(student.id, classEntity.id).ifPresent(status -> {
+            throw status == EnrollmentStatus.ATIVA
+                    ? new AlreadyEnrolledException(student.name, classEntity.code)
+                    : new AlreadyEnrolledException(student.name, classEntity.code, status);
+        });
 
         Schedule schedule = classEntity.schedule;
-        if (enrollmentRepository.hasStudentScheduleConflict(student.id, schedule.id, null)) {
+        WeeklySlotMask slots = WeeklySlotMask.of(schedule);
+        if (studentTimetableIndex.hasConflict(student.id, slots, null)) {
             String scheduleInfo = String.format("%s às %s",
                     schedule.dayOfWeek, schedule.startTime);
             throw new StudentScheduleConflictException(student.name, scheduleInfo);
@@ -98,30 +176,141 @@ public class EnrollmentService {
         enrollment.classEntity = classEntity;
         enrollment.status = EnrollmentStatus.ATIVA;
 
-        classEntity.incrementEnrollment();
+        if (!fromWaitlist && waitlistRepository.hasEntries(classEntity.id)) {
+            throw ClassFullException.heldForWaitlist(classEntity.code);
+        }
+        seatAllocator.reserve(classEntity);
 
         enrollmentRepository.persist(enrollment);
+        studentTimetableIndex.occupy(student.id, classEntity.id, slots);
+        studentEnrollmentCache.invalidateAfterCommit(student.id);
+        domainEvents.enrollmentCreated(enrollment);
         return enrollment;
     }
 
+    /**
+     * Matricula o aluno em várias turmas em uma única transação: ou todas as
+     * matrículas são criadas, ou nenhuma.
+     *
+     * 1. Carrega as turmas (com horário) em uma consulta
+     * 2. Valida em memória as mesmas regras do create (matrículas existentes em
+     *    qualquer status vêm de uma única consulta), inclusive conflito de
+     *    horário entre as próprias turmas pedidas
+     * 3. Reserva as vagas em ordem crescente de ID da turma, para que lotes
+     *    concorrentes bloqueiem as linhas sempre na mesma ordem (sem deadlock)
+     * 4. Insere as matrículas e os eventos com um único flush (batching JDBC)
+     * 5. Devolve a visão do aluno das matrículas criadas, projetada ainda dentro
+     *    da transação (disciplina, professor e curso são LAZY)
+     *
+     * @throws ClassFullException se alguma turma não tiver vagas ou tiver lista de espera (nada é gravado)
+     */
+    @Transactional
+    public List<StudentEnrollmentResponse> createBatch(BatchEnrollmentRequest dto) {
+
+        Student student = studentRepository.findDetailById(dto.studentId)
+                .orElseThrow(() -> new StudentNotFoundException(dto.studentId));
+
+        if (!student.isActive) {
+            throw new IllegalStateException(
+                    "Não é possível matricular o aluno '" + student.name + "' pois ele está inativo.");
+        }
+
+        TreeSet<Long> classIds = new TreeSet<>(dto.classIds);
+        if (classIds.size() != dto.classIds.size()) {
+            throw new IllegalArgumentException("A mesma turma foi informada mais de uma vez");
+        }
+
+        Map<Long, Class> classes = classRepository.findWithScheduleByIds(classIds).stream()
+                .collect(Collectors.toMap(classEntity -> classEntity.id, Function.identity()));
+
+        Map<Long, EnrollmentStatus> existing = enrollmentRepository.findKeys(List.of(student.id), classIds).stream()
+                .collect(Collectors.toMap(EnrollmentKey::classId, EnrollmentKey::status));
+        Set<Long> waitlisted = waitlistRepository.findClassIdsWithEntries(classIds);
+
+        Timetable timetable = studentTimetableIndex.timetableOf(student.id);
+        Map<Class, WeeklySlotMask> accepted = new LinkedHashMap<>();
+        for (Long classId : classIds) {
+            Class classEntity = classes.get(classId);
+            if (classEntity == null) {
+                throw new ClassNotFoundException(classId);
+            }
+            if (classEntity.status != Class.ClassStatus.ATIVA) {
+                throw new IllegalStateException(
+                        "Não é possível matricular na turma '" + classEntity.code +
+                                "' pois ela não está ativa. Status atual: " + classEntity.status);
+            }
+            if (waitlisted.contains(classId)) {
+                throw ClassFullException.heldForWaitlist(classEntity.code);
+            }
+            EnrollmentStatus status = existing.get(classId);
+            if (status != null) {
+                throw status == EnrollmentStatus.ATIVA
+                        ? new AlreadyEnrolledException(student.name, classEntity.code)
+                        : new AlreadyEnrolledException(student.name, classEntity.code, status);
+            }
+
+            Schedule schedule = classEntity.schedule;
+            WeeklySlotMask slots = WeeklySlotMask.of(schedule);
+            if (timetable.conflictsWith(slots, null)) {
+                throw new StudentScheduleConflictException(student.name,
+                        String.format("%s às %s", schedule.dayOfWeek, schedule.startTime));
+            }
+            for (Map.Entry<Class, WeeklySlotMask> previous : accepted.entrySet()) {
+                if (previous.getValue().intersects(slots)) {
+                    throw new StudentScheduleConflictException(String.format(
+                            "Conflito de horário: as turmas '%s' e '%s' são no mesmo horário.",
+                            previous.getKey().code, classEntity.code));
+                }
+            }
+            accepted.put(classEntity, slots);
+        }
+
+        // Vagas em ordem de ID; uma turma cheia desfaz a transação inteira
+        for (Class classEntity : accepted.keySet()) {
+            seatAllocator.reserve(classEntity);
+        }
+
+        List<Enrollment> created = new ArrayList<>(accepted.size());
+        for (Map.Entry<Class, WeeklySlotMask> entry : accepted.entrySet()) {
+            Enrollment enrollment = new Enrollment(student, entry.getKey());
+            enrollmentRepository.persist(enrollment);
+            created.add(enrollment);
+            studentTimetableIndex.occupy(student.id, entry.getKey().id, entry.getValue());
+        }
+        enrollmentRepository.flush();
+        studentEnrollmentCache.invalidateAfterCommit(student.id);
+        domainEvents.enrollmentsCreated(created);
+        return enrollmentRepository.findStudentView(student.id,
+                created.stream().map(enrollment -> enrollment.id).toList());
+    }
+
     /**
      * Lista todas as matrículas.
      */
-    public List<Enrollment> getAllEnrollments() {
-        return enrollmentRepository.listAll();
+    public KeysetPage<Enrollment> getAllEnrollments(KeysetPageRequest page) {
+        return enrollmentRepository.findAll(page.after, limitOf(page));
     }
 
     /**
      * Lista matrículas ativas.
      */
-    public List<Enrollment> getActiveEnrollments() {
-        return enrollmentRepository.findAllActive();
+    public KeysetPage<Enrollment> getActiveEnrollments(KeysetPageRequest page) {
+        return enrollmentRepository.findAllActive(page.after, limitOf(page));
     }
 
     /**
      * Busca matrícula por ID.
      */
     public Enrollment findById(Long id) {
+        return enrollmentRepository.findDetailById(id)
+                .orElseThrow(() -> new EnrollmentNotFoundException(id));
+    }
+
+    /**
+     * Carrega a matrícula sem as associações, para as operações que só
+     * precisam dos ids de aluno e turma.
+     */
+    private Enrollment loadEnrollment(Long id) {
         return enrollmentRepository.findByIdOptional(id)
                 .orElseThrow(() -> new EnrollmentNotFoundException(id));
     }
@@ -129,44 +318,80 @@ public class EnrollmentService {
     /**
      * Busca matrículas de um aluno.
      */
-    public List<Enrollment> findByStudent(Long studentId) {
-        return enrollmentRepository.findByStudent(studentId);
+    public KeysetPage<StudentEnrollmentResponse> findByStudent(Long studentId, KeysetPageRequest page) {
+        return enrollmentRepository.findStudentView(studentId, null, page.after, limitOf(page));
     }
 
     /**
      * Busca matrículas ativas de um aluno.
      * Requisito: listar disciplinas em que o aluno está matriculado.
      */
-    public List<Enrollment> findActiveByStudent(Long studentId) {
-        return enrollmentRepository.findActiveByStudent(studentId);
+    public KeysetPage<StudentEnrollmentResponse> findActiveByStudent(Long studentId, KeysetPageRequest page) {
+        List<StudentEnrollmentResponse> active = studentEnrollmentCache.activeEnrollments(studentId,
+                () -> enrollmentRepository.findStudentView(studentId, EnrollmentStatus.ATIVA));
+        return KeysetPage.slice(active, page.after, limitOf(page), StudentEnrollmentResponse::getEnrollmentId);
     }
 
     /**
      * Busca matrículas de uma turma.
      */
-    public List<Enrollment> findByClass(Long classId) {
-        return enrollmentRepository.findByClass(classId);
+    public KeysetPage<Enrollment> findByClass(Long classId, KeysetPageRequest page) {
+        return enrollmentRepository.findByClass(classId, page.after, limitOf(page));
     }
 
     /**
      * Busca matrículas ativas de uma turma.
      */
-    public List<Enrollment> findActiveByClass(Long classId) {
-        return enrollmentRepository.findActiveByClass(classId);
+    public KeysetPage<Enrollment> findActiveByClass(Long classId, KeysetPageRequest page) {
+        return enrollmentRepository.findActiveByClass(classId, page.after, limitOf(page));
     }
 
     /**
      * Busca matrículas por status.
      */
-    public List<Enrollment> findByStatus(EnrollmentStatus status) {
-        return enrollmentRepository.findByStatus(status);
+    public KeysetPage<Enrollment> findByStatus(EnrollmentStatus status, KeysetPageRequest page) {
+        return enrollmentRepository.findByStatus(status, page.after, limitOf(page));
     }
 
     /**
      * Busca matrículas de um curso.
      */
-    public List<Enrollment> findByCourse(Long courseId) {
-        return enrollmentRepository.findByCourse(courseId);
+    public KeysetPage<Enrollment> findByCourse(Long courseId, KeysetPageRequest page) {
+        return enrollmentRepository.findByCourse(courseId, page.after, limitOf(page));
+    }
+
+    /**
+     * Exporta matrículas em NDJSON (um JSON por linha), escrevendo cada
+     * registro assim que é lido do banco. A memória usada é constante,
+     * independente do tamanho do resultado.
+     *
+     * @param status   filtro opcional por status
+     * @param courseId filtro opcional por curso
+     */
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = "academic.enrollment.export.transaction-timeout")
+    public void exportNdjson(EnrollmentStatus status, Long courseId, OutputStream output) {
+        OutputStream buffered = new BufferedOutputStream(output);
+        enrollmentRepository.scroll(status, courseId, exportFetchSize, enrollment -> {
+            try {
+                buffered.write(objectMapper.writeValueAsBytes(enrollment));
+                buffered.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            buffered.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int limitOf(KeysetPageRequest page) {
+        if (page.limit == null || page.limit <= 0) {
+            return defaultPageLimit;
+        }
+        return Math.min(page.limit, maxPageLimit);
     }
 
     /**
@@ -178,16 +403,20 @@ public class EnrollmentService {
      */
     @Transactional
     public void cancel(Long id, String reason) {
-        Enrollment enrollment = findById(id);
+        Enrollment enrollment = loadEnrollment(id);
 
         if (enrollment.status == EnrollmentStatus.CANCELADA) {
             throw new IllegalStateException("Matrícula já está cancelada");
         }
 
+        boolean wasActive = enrollment.status == EnrollmentStatus.ATIVA;
+
         // Cancelar matrícula
         enrollment.cancel(reason);
-        Class classEntity = enrollment.classEntity;
-        classEntity.decrementEnrollment();
+        seatAllocator.release(enrollment.classEntity);
+        studentTimetableIndex.release(enrollment.student.id, enrollment.classEntity.id);
+        studentEnrollmentCache.invalidateAfterCommit(enrollment.student.id);
+        domainEvents.enrollmentCancelled(enrollment, wasActive);
     }
 
     /**
@@ -199,13 +428,18 @@ public class EnrollmentService {
      */
     @Transactional
     public void complete(Long id, BigDecimal grade, BigDecimal attendance) {
-        Enrollment enrollment = findById(id);
+        Enrollment enrollment = loadEnrollment(id);
 
         if (enrollment.status == EnrollmentStatus.CONCLUIDA) {
             throw new IllegalStateException("Matrícula já está concluída");
         }
 
+        boolean wasActive = enrollment.status == EnrollmentStatus.ATIVA;
+
         enrollment.complete(grade, attendance);
+        studentTimetableIndex.release(enrollment.student.id, enrollment.classEntity.id);
+        studentEnrollmentCache.invalidateAfterCommit(enrollment.student.id);
+        domainEvents.enrollmentCompleted(enrollment, wasActive);
     }
 
     /**
@@ -233,34 +467,37 @@ public class EnrollmentService {
      */
     @Transactional
     public void delete(Long id) {
-        Enrollment enrollment = findById(id);
+        Enrollment enrollment = loadEnrollment(id);
 
-        if (enrollment.status == EnrollmentStatus.ATIVA) {
-            Class classEntity = enrollment.classEntity;
-            classEntity.decrementEnrollment();
+        boolean wasActive = enrollment.status == EnrollmentStatus.ATIVA;
+        if (wasActive) {
+            seatAllocator.release(enrollment.classEntity);
+            studentTimetableIndex.release(enrollment.student.id, enrollment.classEntity.id);
         }
 
+        studentEnrollmentCache.invalidateAfterCommit(enrollment.student.id);
+        domainEvents.enrollmentDeleted(enrollment, wasActive);
         enrollmentRepository.delete(enrollment);
     }
 
     /**
-     * Conta matrículas ativas de um aluno.
+     * Conta matrículas ativas de um aluno (contador pré-agregado).
      */
     public long countActiveByStudent(Long studentId) {
-        return enrollmentRepository.countActiveByStudent(studentId);
+        return counters.get(Counter.ACTIVE_ENROLLMENTS_BY_STUDENT, studentId);
     }
 
     /**
-     * Conta matrículas ativas de uma turma.
+     * Conta matrículas ativas de uma turma (contador pré-agregado).
      */
     public long countActiveByClass(Long classId) {
-        return enrollmentRepository.countActiveByClass(classId);
+        return counters.get(Counter.ACTIVE_ENROLLMENTS_BY_CLASS, classId);
     }
 
     /**
-     * Conta total de matrículas de um curso.
+     * Conta total de matrículas de um curso (contador pré-agregado).
      */
     public long countByCourse(Long courseId) {
-        return enrollmentRepository.countByCourse(courseId);
+        return counters.get(Counter.ENROLLMENTS_BY_COURSE, courseId);
     }
 }
\ No newline at end of file
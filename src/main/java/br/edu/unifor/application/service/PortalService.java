@@ -0,0 +1,70 @@
+package br.edu.unifor.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.dto.request.KeysetPageRequest;
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.repository.KeysetPage;
+import br.edu.unifor.domain.repository.ReactiveClassRepository;
+import br.edu.unifor.domain.repository.ReactiveEnrollmentRepository;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Leituras do portal do aluno em pilha não bloqueante.
+ *
+ * Mesmo contrato de {@link EnrollmentService#findActiveByStudent} e
+ * {@link ClassService#findClassesByCourseWithSlots}, mas servido pelo event
+ * loop: nenhuma thread fica presa esperando o banco, então poucos núcleos
+ * atendem muitos alunos consultando o portal ao mesmo tempo.
+ */
+@ApplicationScoped
+public class PortalService {
+
+    @Inject
+    ReactiveEnrollmentRepository enrollmentRepository;
+
+    @Inject
+    ReactiveClassRepository classRepository;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @ConfigProperty(name = "academic.pagination.default-limit")
+    int defaultPageLimit;
+
+    @ConfigProperty(name = "academic.pagination.max-limit")
+    int maxPageLimit;
+
+    /**
+     * Compartilha o {@link StudentEnrollmentCache} com a versão bloqueante.
+     */
+    public Uni<KeysetPage<StudentEnrollmentResponse>> findActiveByStudent(Long studentId, KeysetPageRequest page) {
+        int limit = limitOf(page);
+        return studentEnrollmentCache
+                .activeEnrollmentsAsync(studentId,
+                        () -> enrollmentRepository.findStudentView(studentId, EnrollmentStatus.ATIVA))
+                .map(active -> KeysetPage.slice(active, page.after, limit, StudentEnrollmentResponse::getEnrollmentId));
+    }
+
+    public Multi<ClassResponse> findClassesByCourseWithSlots(Long courseId) {
+        return classRepository.findActiveResponsesByCourseWithSlots(courseId);
+    }
+
+    public Multi<ClassResponse> findClassesWithAvailableSlots() {
+        return classRepository.findActiveResponsesWithAvailableSlots();
+    }
+
+    private int limitOf(KeysetPageRequest page) {
+        if (page.limit == null || page.limit <= 0) {
+            return defaultPageLimit;
+        }
+        return Math.min(page.limit, maxPageLimit);
+    }
+}
@@ -6,12 +6,17 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import br.edu.unifor.application.cache.ReferenceDataCache;
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.catalog.ClassCatalog;
 import br.edu.unifor.application.dto.request.professor.CreateProfessorRequest;
 import br.edu.unifor.application.dto.request.professor.UpdateProfessorRequest;
 import br.edu.unifor.domain.entity.Professor;
+import br.edu.unifor.domain.registration.RegistrationKind;
 import br.edu.unifor.domain.repository.ProfessorRepository;
 import br.edu.unifor.infrastructure.exception.EmailAlreadyExistException;
 import br.edu.unifor.infrastructure.exception.ProfessorNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 
 @ApplicationScoped
 public class ProfessorService {
@@ -22,12 +27,26 @@ public class ProfessorService {
     @Inject
     RegistrationService registrationService;
 
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @Inject
+    ClassCatalog classCatalog;
+
     /**
      * Cria um novo professor no sistema.
      * Gera matrícula automaticamente e valida email único.
      */
-    @Transactional
     public Professor create(CreateProfessorRequest dto) {
+        // fora da transação do cadastro (ver RegistrationService.next)
+        String registration = registrationService.next(RegistrationKind.PROFESSOR);
+        return QuarkusTransaction.requiringNew().call(() -> create(dto, registration));
+    }
+
+    private Professor create(CreateProfessorRequest dto, String registration) {
 
         if (professorRepository.existsByEmail(dto.email)) {
             throw new EmailAlreadyExistException(dto.email);
@@ -39,8 +58,7 @@ public class ProfessorService {
         professor.title = dto.title;
         professor.department = dto.department;
 
-        professor.registration = registrationService.generateUnique(
-                professorRepository::existsByRegistration);
+        professor.registration = registration;
 
         professorRepository.persist(professor);
         return professor;
@@ -105,6 +123,9 @@ public class ProfessorService {
         professor.title = dto.title;
         professor.department = dto.department;
 
+        referenceDataCache.evictAfterCommit(Professor.class, id);
+        studentEnrollmentCache.invalidateAllAfterCommit();
+        classCatalog.reloadAfterCommit();
         return professor;
     }
 
@@ -116,6 +137,7 @@ public class ProfessorService {
     public void delete(Long id) {
         Professor professor = findById(id);
         professorRepository.delete(professor);
+        referenceDataCache.evictAfterCommit(Professor.class, id);
     }
 
 }
\ No newline at end of file
@@ -1,29 +1,145 @@
 package br.edu.unifor.application.service;
 
 import java.time.Year;
-import java.util.Random;
-import java.util.function.Predicate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.domain.registration.RegistrationKind;
+import br.edu.unifor.domain.repository.RegistrationSequenceRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+/**
+ * Gera matrículas no formato YYXXXXX (ano + sufixo de 5 dígitos).
+ *
+ * Cada tipo de cadastro reserva no banco faixas de {@code block-size}
+ * sufixos consecutivos (tabela registration_sequences) e as distribui da
+ * memória. Matrículas já gravadas dentro da faixa são descartadas com uma
+ * única consulta por faixa, então a geração não faz nenhuma consulta por
+ * matrícula. Sufixos de uma faixa não usada (ex.: reinício da aplicação)
+ * são simplesmente pulados.
+ */
 @ApplicationScoped
 public class RegistrationService {
 
-    private final Random random = new Random();
+    private static final int LAST_SUFFIX = 99999;
+
+    @Inject
+    RegistrationSequenceRepository sequenceRepository;
+
+    @ConfigProperty(name = "academic.registration.block-size")
+    int blockSize;
+
+    private final Map<RegistrationKind, AtomicReference<Block>> blocks = new EnumMap<>(RegistrationKind.class);
+    // ReentrantLock em vez de synchronized: a troca de faixa consulta o banco e
+    // não deve prender a carrier thread das virtual threads
+    private final Map<RegistrationKind, ReentrantLock> refillLocks = new EnumMap<>(RegistrationKind.class);
+
+    public RegistrationService() {
+        for (RegistrationKind kind : RegistrationKind.values()) {
+            blocks.put(kind, new AtomicReference<>());
+            refillLocks.put(kind, new ReentrantLock());
+        }
+    }
 
     /**
-     * Gera uma matrícula única baseada no ano atual + 5 dígitos.
+     * Próxima matrícula livre para o tipo de cadastro, no ano corrente.
+     *
+     * Chamar fora da transação do cadastro: quando a faixa se esgota, a reserva
+     * da próxima abre uma transação própria, e por dentro de outra ela ocuparia
+     * uma segunda conexão do pool que o {@code @Bulkheaded} não contabiliza.
+     *
+     * @throws IllegalStateException se os 90.000 sufixos do ano já foram reservados
      */
-    public String generateUnique(Predicate<String> existsCheck) {
+    public String next(RegistrationKind kind) {
+        String yearPrefix = String.valueOf(currentYear().getValue()).substring(2);
+        AtomicReference<Block> current = blocks.get(kind);
 
-        String yearPrefix = String.valueOf(Year.now().getValue()).substring(2);
-        String registration;
+        while (true) {
+            Block block = current.get();
+            if (block != null && block.yearPrefix.equals(yearPrefix)) {
+                String registration = block.next();
+                if (registration != null) {
+                    return registration;
+                }
+            }
+            refill(kind, current, block, yearPrefix);
+        }
+    }
+
+    private void refill(RegistrationKind kind, AtomicReference<Block> current, Block exhausted, String yearPrefix) {
+        ReentrantLock lock = refillLocks.get(kind);
+        lock.lock();
+        try {
+            // outra thread já trocou a faixa enquanto esta esperava
+            if (current.get() != exhausted) {
+                return;
+            }
+            current.set(inNewTransaction(() -> allocate(kind, yearPrefix)));
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        do {
-            int randomPart = random.nextInt(90000) + 10000; // Gera um número aleatório de 5 dígitos
-            registration = yearPrefix + randomPart;
-        } while (existsCheck.test(registration));
-        return registration;
+    /**
+     * Ano das matrículas geradas; ao virar o ano, a faixa em uso é abandonada.
+     */
+    protected Year currentYear() {
+        return Year.now();
     }
 
+    /**
+     * Reserva e leitura das matrículas já gravadas na mesma transação, própria:
+     * a faixa continua reservada mesmo que o cadastro que a pediu seja desfeito
+     * (a matrícula vira apenas uma lacuna).
+     */
+    protected <T> T inNewTransaction(Callable<T> work) {
+        return QuarkusTransaction.requiringNew().call(work);
+    }
+
+    private Block allocate(RegistrationKind kind, String yearPrefix) {
+        int start = sequenceRepository.reserve(kind, yearPrefix, blockSize);
+        if (start > LAST_SUFFIX) {
+            throw new IllegalStateException(
+                    "Não há mais matrículas disponíveis para " + kind + " no ano de 20" + yearPrefix);
+        }
+        int end = Math.min(start + blockSize - 1, LAST_SUFFIX);
+
+        Set<String> taken = sequenceRepository.findTaken(kind, yearPrefix + start, yearPrefix + end);
+        String[] registrations = IntStream.rangeClosed(start, end)
+                .mapToObj(suffix -> yearPrefix + suffix)
+                .filter(registration -> !taken.contains(registration))
+                .toArray(String[]::new);
+        return new Block(yearPrefix, registrations);
+    }
+
+    /**
+     * Faixa reservada; entregue sem bloqueio, por incremento atômico do cursor.
+     */
+    private static final class Block {
+
+        private final String yearPrefix;
+        private final String[] registrations;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private Block(String yearPrefix, String[] registrations) {
+            this.yearPrefix = yearPrefix;
+            this.registrations = registrations;
+        }
+
+        private String next() {
+            int index = cursor.getAndIncrement();
+            return index < registrations.length ? registrations[index] : null;
+        }
+    }
 }
@@ -9,9 +9,15 @@ import jakarta.transaction.Transactional;
 
 import br.edu.unifor.application.dto.request.schedule.CreateScheduleRequest;
 import br.edu.unifor.application.dto.request.schedule.UpdateScheduleRequest;
+import br.edu.unifor.application.cache.ReferenceDataCache;
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.application.timetable.ProfessorTimetableIndex;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
 import br.edu.unifor.domain.entity.Schedule;
 import br.edu.unifor.domain.entity.Schedule.Period;
 import br.edu.unifor.domain.repository.ScheduleRepository;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
 
 @ApplicationScoped
 public class ScheduleService {
@@ -19,11 +25,26 @@ public class ScheduleService {
     @Inject
     ScheduleRepository scheduleRepository;
 
+    @Inject
+    StudentTimetableIndex studentTimetableIndex;
+
+    @Inject
+    ProfessorTimetableIndex professorTimetableIndex;
+
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @Inject
+    ClassCatalog classCatalog;
+
     /**
      * Lista todos os horários disponíveis
      */
     public List<Schedule> getAllSchedules() {
-        return scheduleRepository.listAll();
+        return scheduleRepository.listAllCached();
     }
 
     /**
@@ -65,6 +86,8 @@ public class ScheduleService {
 
     @Transactional
     public Schedule create(CreateScheduleRequest dto) {
+        WeeklySlotMask.requireOnGrid(dto.startTime, dto.endTime);
+
         Schedule schedule = new Schedule();
         schedule.dayOfWeek = dto.dayOfWeek;
         schedule.startTime = dto.startTime;
@@ -72,11 +95,14 @@ public class ScheduleService {
         schedule.period = dto.period;
 
         scheduleRepository.persist(schedule);
+        referenceDataCache.evictQueriesAfterCommit();
         return schedule;
     }
 
     @Transactional
     public Schedule update(Long id, UpdateScheduleRequest dto) {
+        WeeklySlotMask.requireOnGrid(dto.startTime, dto.endTime);
+
         Schedule schedule = findById(id);
         schedule.dayOfWeek = dto.dayOfWeek;
         schedule.startTime = dto.startTime;
@@ -84,6 +110,11 @@ public class ScheduleService {
         schedule.period = dto.period;
 
         scheduleRepository.persist(schedule);
+        studentTimetableIndex.invalidateAll();
+        professorTimetableIndex.invalidateAll();
+        referenceDataCache.evictAfterCommit(Schedule.class, id);
+        studentEnrollmentCache.invalidateAllAfterCommit();
+        classCatalog.reloadAfterCommit();
         return schedule;
     }
 }
\ No newline at end of file
@@ -6,10 +6,13 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import br.edu.unifor.application.counter.ActivityCounters;
+import br.edu.unifor.application.counter.ActivityCounters.Counter;
 import br.edu.unifor.application.dto.request.student.CreateStudentRequest;
 import br.edu.unifor.application.dto.request.student.UpdateStudentRequest;
 import br.edu.unifor.domain.entity.Course;
 import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.registration.RegistrationKind;
 import br.edu.unifor.domain.repository.CourseRepository;
 import br.edu.unifor.domain.repository.EnrollmentRepository;
 import br.edu.unifor.domain.repository.StudentRepository;
@@ -18,6 +21,7 @@ import br.edu.unifor.infrastructure.exception.CpfAlreadyExistsException;
 import br.edu.unifor.infrastructure.exception.EmailAlreadyExistException;
 import br.edu.unifor.infrastructure.exception.StudentHasActiveEnrollmentsException;
 import br.edu.unifor.infrastructure.exception.StudentNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 
 @ApplicationScoped
 public class StudentService {
@@ -34,6 +38,9 @@ public class StudentService {
     @Inject
     EnrollmentRepository enrollmentRepository;
 
+    @Inject
+    ActivityCounters counters;
+
     /**
      * Cria um novo aluno no sistema.
      * 
@@ -50,8 +57,15 @@ public class StudentService {
      * @throws CourseNotFoundException    se curso não existir
      */
 
-    @Transactional
     public Student create(CreateStudentRequest dto) {
+        // Matrícula obtida antes da transação do cadastro: a troca de faixa do
+        // RegistrationService abre a própria transação (e conexão). Se o cadastro
+        // for recusado, a matrícula vira apenas uma lacuna.
+        String registration = registrationService.next(RegistrationKind.STUDENT);
+        return QuarkusTransaction.requiringNew().call(() -> create(dto, registration));
+    }
+
+    private Student create(CreateStudentRequest dto, String registration) {
 
         if (studentRepository.existsByEmail(dto.email)) {
             throw new EmailAlreadyExistException(dto.email);
@@ -71,12 +85,12 @@ public class StudentService {
         student.phone = dto.phone;
         student.course = course;
 
-        student.registration = registrationService.generateUnique(
-                studentRepository::existsByRegistration);
+        student.registration = registration;
 
         student.isActive = true;
 
         studentRepository.persist(student);
+        counters.increment(Counter.ACTIVE_STUDENTS_BY_COURSE, course.id);
         return student;
     }
 
@@ -84,7 +98,7 @@ public class StudentService {
      * Lista todos os alunos cadastrados (ativos e inativos).
      */
     public List<Student> getAllStudents() {
-        return studentRepository.listAll();
+        return studentRepository.listAllWithCourse();
     }
 
     /**
@@ -102,6 +116,11 @@ public class StudentService {
      * @throws StudentNotFoundException se aluno não existir
      */
     public Student findById(Long id) {
+        return studentRepository.findDetailById(id)
+                .orElseThrow(() -> new StudentNotFoundException(id));
+    }
+
+    private Student loadStudent(Long id) {
         return studentRepository.findByIdOptional(id)
                 .orElseThrow(() -> new StudentNotFoundException(id));
     }
@@ -187,6 +206,10 @@ public class StudentService {
         student.email = dto.email;
         student.cpf = dto.cpf;
         student.phone = dto.phone;
+        if (student.isActive && !student.course.id.equals(course.id)) {
+            counters.decrement(Counter.ACTIVE_STUDENTS_BY_COURSE, student.course.id);
+            counters.increment(Counter.ACTIVE_STUDENTS_BY_COURSE, course.id);
+        }
         student.course = course;
 
         return student;
@@ -201,7 +224,10 @@ public class StudentService {
      */
     @Transactional
     public void inactivate(Long id) {
-        Student student = findById(id);
+        Student student = loadStudent(id);
+        if (student.isActive) {
+            counters.decrement(Counter.ACTIVE_STUDENTS_BY_COURSE, student.course.id);
+        }
         student.isActive = false;
     }
 
@@ -213,7 +239,10 @@ public class StudentService {
      */
     @Transactional
     public void activate(Long id) {
-        Student student = findById(id);
+        Student student = loadStudent(id);
+        if (!student.isActive) {
+            counters.increment(Counter.ACTIVE_STUDENTS_BY_COURSE, student.course.id);
+        }
         student.isActive = true;
     }
 
@@ -225,11 +254,14 @@ public class StudentService {
      */
     @Transactional
     public void delete(Long id) {
-        Student student = findById(id);
+        Student student = loadStudent(id);
         long activeEnrollments = enrollmentRepository.countActiveByStudent(student.id);
         if (activeEnrollments > 0) {
             throw new StudentHasActiveEnrollmentsException(student.name, activeEnrollments);
         }
+        if (student.isActive) {
+            counters.decrement(Counter.ACTIVE_STUDENTS_BY_COURSE, student.course.id);
+        }
         studentRepository.delete(student);
     }
 
@@ -240,7 +272,7 @@ public class StudentService {
      * @return Número de alunos ativos no curso
      */
     public long countActiveByCourse(Long courseId) {
-        return studentRepository.countActiveByCourse(courseId);
+        return counters.get(Counter.ACTIVE_STUDENTS_BY_COURSE, courseId);
     }
 
 }
@@ -6,6 +6,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import br.edu.unifor.application.cache.ReferenceDataCache;
+import br.edu.unifor.application.cache.StudentEnrollmentCache;
+import br.edu.unifor.application.catalog.ClassCatalog;
 import br.edu.unifor.application.dto.request.subject.CreateSubjectRequest;
 import br.edu.unifor.application.dto.request.subject.UpdateSubjectRequest;
 import br.edu.unifor.domain.entity.Subject;
@@ -30,6 +33,15 @@ public class SubjectService {
     @Inject
     ClassRepository classRepository;
 
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
+    @Inject
+    StudentEnrollmentCache studentEnrollmentCache;
+
+    @Inject
+    ClassCatalog classCatalog;
+
     /**
      * Cria uma nova disciplina.
      */
@@ -49,6 +61,7 @@ public class SubjectService {
                 dto.description);
 
         subjectRepository.persist(subject);
+        referenceDataCache.evictQueriesAfterCommit();
         return subject;
     }
 
@@ -104,6 +117,9 @@ public class SubjectService {
         subject.credits = dto.credits;
         subject.description = dto.description;
 
+        referenceDataCache.evictAfterCommit(Subject.class, id);
+        studentEnrollmentCache.invalidateAllAfterCommit();
+        classCatalog.reloadAfterCommit();
         return subject;
     }
 
@@ -122,6 +138,7 @@ public class SubjectService {
         }
 
         subjectRepository.delete(subject);
+        referenceDataCache.evictAfterCommit(Subject.class, id);
     }
 
     /**
@@ -0,0 +1,133 @@
+package br.edu.unifor.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.application.dto.request.student.TimetableOptionsRequest;
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.application.dto.response.ScheduleResponse;
+import br.edu.unifor.application.dto.response.TimetableOptionsResponse;
+import br.edu.unifor.application.timetable.StudentTimetableIndex;
+import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.domain.timetable.Timetable;
+import br.edu.unifor.domain.timetable.TimetableCandidate;
+import br.edu.unifor.domain.timetable.TimetableOptionFinder;
+import br.edu.unifor.domain.timetable.TimetableOptions;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+import br.edu.unifor.infrastructure.exception.StudentNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+/**
+ * Service que sugere grades sem conflito para as disciplinas que o aluno quer cursar.
+ *
+ * Tudo é lido uma única vez e a busca roda só em memória:
+ * 1. Aluno (ativo) em uma transação curta
+ * 2. Agenda atual do StudentTimetableIndex (matrículas ativas)
+ * 3. Turmas ativas do curso do aluno no ClassCatalog; ficam como candidatas as
+ *    das disciplinas pedidas, com vagas, em que ele ainda não está matriculado
+ *    e sem conflito com a agenda atual
+ * 4. {@link TimetableOptionFinder} com limite de tempo (academic.timetable.options.time-budget)
+ *
+ * As sugestões não reservam vagas: a matrícula continua passando por POST /enrollments.
+ */
+@ApplicationScoped
+public class TimetableOptionsService {
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    StudentTimetableIndex studentTimetableIndex;
+
+    @Inject
+    ClassCatalog classCatalog;
+
+    @ConfigProperty(name = "academic.timetable.options.time-budget")
+    Duration timeBudget;
+
+    @ConfigProperty(name = "academic.timetable.options.default-limit")
+    int defaultLimit;
+
+    @ConfigProperty(name = "academic.timetable.options.max-limit")
+    int maxLimit;
+
+    public TimetableOptionsResponse options(Long studentId, TimetableOptionsRequest request) {
+        Long courseId = QuarkusTransaction.requiringNew().call(() -> courseOf(studentId));
+        Timetable timetable = studentTimetableIndex.timetableOf(studentId);
+
+        Map<Long, List<ClassResponse>> bySubject = new LinkedHashMap<>();
+        new LinkedHashSet<>(request.subjectIds).forEach(subjectId -> bySubject.put(subjectId, new ArrayList<>()));
+        Map<Long, ClassResponse> classes = new HashMap<>();
+        Map<Long, WeeklySlotMask> masks = new HashMap<>();
+
+        for (ClassResponse candidate : classCatalog.activeByCourse(courseId)) {
+            List<ClassResponse> group = candidate.getSubject() == null ? null
+                    : bySubject.get(candidate.getSubject().getId());
+            if (group == null
+                    || candidate.getSchedule() == null
+                    || candidate.getAvailableSlots() == null || candidate.getAvailableSlots() <= 0
+                    || timetable.getClasses().containsKey(candidate.getId())) {
+                continue;
+            }
+            WeeklySlotMask mask = maskOf(candidate.getSchedule());
+            if (timetable.getOccupied().intersects(mask)) {
+                continue;
+            }
+            group.add(candidate);
+            classes.put(candidate.getId(), candidate);
+            masks.put(candidate.getId(), mask);
+        }
+
+        List<Long> unavailable = bySubject.entrySet().stream()
+                .filter(entry -> entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!unavailable.isEmpty()) {
+            return new TimetableOptionsResponse(List.of(), true, 0, unavailable);
+        }
+
+        List<List<TimetableCandidate>> candidates = bySubject.values().stream()
+                .map(group -> group.stream()
+                        .map(c -> new TimetableCandidate(c.getId(), masks.get(c.getId()), c.getAvailableSlots()))
+                        .toList())
+                .toList();
+        int limit = Math.min(request.limit != null ? request.limit : defaultLimit, maxLimit);
+        TimetableOptions found = new TimetableOptionFinder(candidates, timetable.getOccupied())
+                .find(limit, timeBudget.toNanos());
+
+        List<TimetableOptionsResponse.Option> options = found.options().stream()
+                .map(option -> new TimetableOptionsResponse.Option(
+                        option.days(),
+                        option.idleMinutes(),
+                        option.minAvailableSlots(),
+                        option.classIds().stream().map(classes::get).toList()))
+                .toList();
+        return new TimetableOptionsResponse(options, found.complete(), found.explored(), List.of());
+    }
+
+    private Long courseOf(Long studentId) {
+        Student student = studentRepository.findDetailById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        if (!student.isActive) {
+            throw new IllegalStateException(
+                    "Não é possível sugerir grades para o aluno '" + student.name + "' pois ele está inativo.");
+        }
+        return student.course.id;
+    }
+
+    private static WeeklySlotMask maskOf(ScheduleResponse schedule) {
+        return WeeklySlotMask.of(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime());
+    }
+}
@@ -0,0 +1,305 @@
+package br.edu.unifor.application.service;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.exception.JDBCConnectionException;
+import org.jboss.logging.Logger;
+
+import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.application.dto.response.WaitlistEntryResponse;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.entity.WaitlistEntry;
+import br.edu.unifor.domain.event.DomainEvent;
+import br.edu.unifor.domain.event.DomainEventBatch;
+import br.edu.unifor.domain.event.DomainEventType;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import br.edu.unifor.domain.repository.WaitlistRepository;
+import br.edu.unifor.infrastructure.exception.AlreadyEnrolledException;
+import br.edu.unifor.infrastructure.exception.AlreadyWaitlistedException;
+import br.edu.unifor.infrastructure.exception.ClassFullException;
+import br.edu.unifor.infrastructure.exception.ClassNotFoundException;
+import br.edu.unifor.infrastructure.exception.DatabaseBusyException;
+import br.edu.unifor.infrastructure.exception.StudentNotFoundException;
+import br.edu.unifor.infrastructure.exception.StudentScheduleConflictException;
+import br.edu.unifor.infrastructure.exception.WaitlistEntryNotFoundException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.narayana.jta.QuarkusTransactionException;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Service da lista de espera das turmas cheias.
+ *
+ * Em vez de repetir POST /enrollments até uma vaga abrir, o aluno entra na
+ * fila da turma. Quando um cancelamento ou remoção de matrícula ATIVA libera
+ * uma vaga (evento do outbox, entregue a todas as instâncias), o primeiro da
+ * fila é matriculado por
+ * {@link EnrollmentService#createFromWaitlist}, com as mesmas validações de uma
+ * matrícula comum. Enquanto houver fila, as vagas liberadas são dela: a
+ * matrícula direta, o lote e a importação recusam a turma como cheia. Uma
+ * varredura periódica promove as filas de turmas que ganharam vagas sem evento
+ * (aumento de capacidade) ou cuja promoção falhou por indisponibilidade do banco.
+ *
+ * Várias instâncias podem promover a mesma fila ao mesmo tempo: cada
+ * promoção bloqueia a linha da entrada antes de matricular, e quem chega
+ * depois encontra a entrada já removida e segue para a próxima.
+ *
+ * Quem não puder mais ser matriculado (conflito de horário, já
+ * matriculado, aluno ou turma inativos, ou qualquer outra recusa que não seja
+ * passageira) sai da fila e a vaga vai para o próximo: uma entrada nunca
+ * bloqueia a fila da turma.
+ */
+@ApplicationScoped
+public class WaitlistService {
+
+    private static final Logger LOG = Logger.getLogger(WaitlistService.class);
+
+    @Inject
+    WaitlistRepository waitlistRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    @Inject
+    EnrollmentService enrollmentService;
+
+    // Uma promoção por turma de cada vez nesta instância
+    private final Map<Long, ReentrantLock> promotions = new ConcurrentHashMap<>();
+
+    /**
+     * Coloca o aluno no fim da fila da turma.
+     *
+     * Só aceita turmas ativas e sem vagas, ou cujas vagas já estão reservadas
+     * para a fila: com vaga livre, a matrícula deve ser feita diretamente.
+     */
+    @Transactional
+    public WaitlistEntryResponse join(Long classId, Long studentId) {
+        Student student = studentRepository.findByIdOptional(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+
+        if (!student.isActive) {
+            throw new IllegalStateException(
+                    "Não é possível incluir o aluno '" + student.name + "' na lista de espera pois ele está inativo.");
+        }
+
+        Class classEntity = classRepository.findByIdOptional(classId)
+                .orElseThrow(() -> new ClassNotFoundException(classId));
+
+        if (classEntity.status != Class.ClassStatus.ATIVA) {
+            throw new IllegalStateException(
+                    "A turma '" + classEntity.code + "' não está ativa. Status atual: " + classEntity.status);
+        }
+
+        if (classEntity.hasAvailableSlots() && !waitlistRepository.hasEntries(classEntity.id)) {
+            throw new IllegalStateException(
+                    "A turma '" + classEntity.code + "' tem vagas disponíveis: faça a matrícula diretamente.");
+        }
+
+        enrollmentRepository.findStatus(student.id, classEntity.id).ifPresent(status -> {
+            throw status == EnrollmentStatus.ATIVA
+                    ? new AlreadyEnrolledException(student.name, classEntity.code)
+                    : new AlreadyEnrolledException(student.name, classEntity.code, status);
+        });
+
+        if (waitlistRepository.isWaiting(student.id, classEntity.id)) {
+            throw new AlreadyWaitlistedException(student.name, classEntity.code);
+        }
+
+        WaitlistEntry entry = new WaitlistEntry(student, classEntity);
+        waitlistRepository.persist(entry);
+        return toResponse(entry, waitlistRepository.positionOf(entry));
+    }
+
+    /**
+     * Fila da turma em ordem de atendimento.
+     */
+    public List<WaitlistEntryResponse> findByClass(Long classId) {
+        List<WaitlistEntry> entries = waitlistRepository.findByClass(classId);
+        List<WaitlistEntryResponse> responses = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            responses.add(toResponse(entries.get(i), i + 1));
+        }
+        return responses;
+    }
+
+    /**
+     * Retira o aluno da fila da turma.
+     */
+    @Transactional
+    public void leave(Long classId, Long studentId) {
+        if (waitlistRepository.deleteByStudentAndClass(studentId, classId) == 0) {
+            throw new WaitlistEntryNotFoundException(studentId, classId);
+        }
+    }
+
+    /**
+     * Promove alunos das turmas em que uma matrícula ativa foi cancelada ou removida.
+     */
+    void onDomainEvents(@Observes DomainEventBatch batch) {
+        Set<Long> freed = new LinkedHashSet<>();
+        for (DomainEvent event : batch.events()) {
+            if (event.wasActive() && (event.type() == DomainEventType.ENROLLMENT_CANCELLED
+                    || event.type() == DomainEventType.ENROLLMENT_DELETED)) {
+                freed.add(event.classId());
+            }
+        }
+        promoteAll(freed);
+    }
+
+    /**
+     * Promove as filas de turmas com vagas livres que nenhum evento de
+     * cancelamento anunciou, ou cuja promoção anterior não terminou.
+     */
+    @Scheduled(every = "{academic.waitlist.sweep-interval}",
+            delayed = "{academic.waitlist.sweep-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void sweep() {
+        promoteAll(QuarkusTransaction.requiringNew().call(waitlistRepository::findClassIdsPendingPromotion));
+    }
+
+    private void promoteAll(Collection<Long> classIds) {
+        for (Long classId : classIds) {
+            try {
+                promote(classId);
+            } catch (RuntimeException e) {
+                LOG.errorf(e, "Falha ao promover a lista de espera da turma %d", classId);
+            }
+        }
+    }
+
+    /**
+     * Matricula alunos da fila, em ordem, enquanto a turma tiver vagas.
+     */
+    public void promote(Long classId) {
+        ReentrantLock lock = promotions.computeIfAbsent(classId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            while (promoteNext(classId)) {
+                // próximo da fila
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tenta matricular o primeiro da fila, cada tentativa em sua própria transação.
+     *
+     * @return true se a fila andou e vale tentar o próximo
+     */
+    private boolean promoteNext(Long classId) {
+        WaitlistEntry next = inNewTransaction(() -> waitlistRepository.findNext(classId).orElse(null));
+        if (next == null) {
+            return false;
+        }
+
+        CreateEnrollmentRequest request = new CreateEnrollmentRequest();
+        request.studentId = next.student.id;
+        request.classId = classId;
+
+        try {
+            boolean promoted = inNewTransaction(() -> {
+                if (!waitlistRepository.lock(next.id)) {
+                    // Já promovida (ou removida) por outra instância
+                    return false;
+                }
+                enrollmentService.createFromWaitlist(request);
+                return waitlistRepository.deleteById(next.id);
+            });
+            if (!promoted) {
+                return true;
+            }
+            LOG.infof("Aluno %d matriculado pela lista de espera da turma %d", request.studentId, classId);
+            return true;
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof QuarkusTransactionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ClassFullException) {
+                // Vaga já ocupada por outra matrícula: o aluno continua na fila
+                return false;
+            }
+            if (isTransient(cause)) {
+                // Banco ocupado ou indisponível: a entrada continua na fila para a próxima vaga
+                throw e;
+            }
+            inNewTransaction(() -> waitlistRepository.deleteById(next.id));
+            if (isIneligible(cause)) {
+                LOG.infof("Aluno %d retirado da lista de espera da turma %d: %s",
+                        request.studentId, classId, cause.getMessage());
+            } else {
+                LOG.warnf(cause, "Aluno %d retirado da lista de espera da turma %d após falha inesperada",
+                        request.studentId, classId);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Cada passo da promoção confirma sozinho: a matrícula de um aluno não
+     * depende da do próximo da fila.
+     */
+    protected <T> T inNewTransaction(Callable<T> work) {
+        return QuarkusTransaction.requiringNew().call(work);
+    }
+
+    /**
+     * Recusas de {@link EnrollmentService#createFromWaitlist} que não mudam esperando mais.
+     */
+    private static boolean isIneligible(Throwable e) {
+        return e instanceof AlreadyEnrolledException
+                || e instanceof StudentScheduleConflictException
+                || e instanceof StudentNotFoundException
+                || e instanceof ClassNotFoundException
+                || e instanceof IllegalStateException;
+    }
+
+    /**
+     * Falhas de infraestrutura que podem passar sozinhas (bulkhead, timeout de
+     * lock ou de consulta, conexão); as demais retiram o aluno da fila.
+     */
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseBusyException
+                    || cause instanceof PessimisticLockException
+                    || cause instanceof LockTimeoutException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof JDBCConnectionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static WaitlistEntryResponse toResponse(WaitlistEntry entry, long position) {
+        return new WaitlistEntryResponse(entry.id, entry.classEntity.id, entry.student.id,
+                entry.student.name, position, entry.createdAt);
+    }
+}
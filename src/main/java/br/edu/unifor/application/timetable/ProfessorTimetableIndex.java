@@ -0,0 +1,81 @@
+package br.edu.unifor.application.timetable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.timetable.ClassSlot;
+import br.edu.unifor.domain.timetable.Timetable;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Índice em memória da ocupação semanal dos professores (turmas ativas).
+ *
+ * Carregado por completo na inicialização e mantido pelo ClassService
+ * (createClass/update/cancel/complete/delete). Um job periódico recarrega
+ * o índice a partir da tabela classes para corrigir divergências
+ * (ex.: alterações feitas direto no banco ou por outra instância).
+ */
+@ApplicationScoped
+public class ProfessorTimetableIndex extends TimetableIndex {
+
+    private static final Logger LOG = Logger.getLogger(ProfessorTimetableIndex.class);
+
+    @Inject
+    ClassRepository classRepository;
+
+    void onStart(@Observes StartupEvent event) {
+        resync();
+    }
+
+    @Scheduled(every = "{academic.timetable.professor-resync-interval}",
+            delayed = "{academic.timetable.professor-resync-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledResync() {
+        resync();
+    }
+
+    /**
+     * Recarrega todas as agendas de professores a partir do banco.
+     */
+    public void resync() {
+        long loadedAt = currentGeneration();
+        List<ClassSlot> slots = QuarkusTransaction.requiringNew().call(classRepository::findActiveSlots);
+
+        Map<Long, Timetable> snapshot = new HashMap<>();
+        slots.stream()
+                .collect(Collectors.groupingBy(ClassSlot::ownerId))
+                .forEach((professorId, professorSlots) -> snapshot.put(professorId, build(professorSlots)));
+
+        long divergent = snapshot.entrySet().stream()
+                .filter(entry -> !sameClasses(timetables().get(entry.getKey()), entry.getValue()))
+                .count();
+
+        if (!replaceAll(snapshot, loadedAt)) {
+            LOG.debug("Agenda de professores alterada durante a re-sincronização; nova tentativa no próximo ciclo");
+            return;
+        }
+        if (divergent > 0) {
+            LOG.infof("Agenda de professores re-sincronizada: %d professor(es) divergente(s)", divergent);
+        }
+    }
+
+    @Override
+    protected List<ClassSlot> loadSlots(Long professorId) {
+        return classRepository.findActiveSlotsByProfessor(professorId);
+    }
+
+    private static boolean sameClasses(Timetable current, Timetable loaded) {
+        return current != null && current.getClasses().equals(loaded.getClasses());
+    }
+}
@@ -0,0 +1,43 @@
+package br.edu.unifor.application.timetable;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.timetable.ClassSlot;
+
+/**
+ * Índice em memória da agenda semanal de cada aluno (matrículas ativas).
+ *
+ * A agenda de um aluno é carregada com uma única consulta no primeiro acesso
+ * e depois mantida pelo EnrollmentService (create/cancel/complete/delete).
+ * Matrículas feitas por outra instância não chegam a este índice; a agenda é
+ * relida do banco quando tem mais de {@code academic.timetable.student-max-age},
+ * o que limita por quanto tempo um conflito assim pode passar despercebido.
+ * A verificação de conflito é um AND entre bitsets e considera sobreposição
+ * real de horários, não apenas o mesmo schedule_id.
+ */
+@ApplicationScoped
+public class StudentTimetableIndex extends TimetableIndex {
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    @ConfigProperty(name = "academic.timetable.student-max-age")
+    Duration maxAge;
+
+    @Override
+    protected Duration maxAge() {
+        return maxAge;
+    }
+
+    @Override
+    protected List<ClassSlot> loadSlots(Long studentId) {
+        return enrollmentRepository.findActiveSlotsByStudent(studentId);
+    }
+}
@@ -0,0 +1,172 @@
+package br.edu.unifor.application.timetable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import jakarta.inject.Inject;
+
+import br.edu.unifor.domain.timetable.ClassSlot;
+import br.edu.unifor.domain.timetable.Timetable;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * Base dos índices de ocupação semanal (aluno e professor).
+ *
+ * Mantém uma {@link Timetable} por dono em memória. As alterações só são
+ * aplicadas após o commit da transação, e a carga de um dono feita em paralelo
+ * a uma alteração desse mesmo dono (ou a um descarte do índice inteiro) não é
+ * guardada, evitando que uma leitura antiga sobrescreva o estado mais novo.
+ * A versão é por dono: commits de outros alunos ou professores não descartam
+ * a carga em andamento.
+ *
+ * Alterações feitas por outra instância (ou direto no banco) não passam por
+ * aqui; por isso cada subclasse limita a divergência, relendo a agenda após
+ * {@link #maxAge()} ou re-sincronizando o índice inteiro periodicamente.
+ */
+public abstract class TimetableIndex {
+
+    private final Map<Long, Timetable> timetables = new ConcurrentHashMap<>();
+    // Início da carga de cada agenda (System.nanoTime), para a idade máxima
+    private final Map<Long, Long> loadStarts = new ConcurrentHashMap<>();
+    // Alterações aplicadas por dono, desde o último descarte do índice
+    private final Map<Long, Long> ownerVersions = new ConcurrentHashMap<>();
+    // Muda a cada descarte ou substituição do índice inteiro
+    private final AtomicLong epoch = new AtomicLong();
+    // Muda a cada alteração de qualquer dono (controle da re-sincronização completa)
+    private final AtomicLong generation = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    @Inject
+    TransactionHooks transactionHooks;
+
+    /**
+     * Carrega do banco as turmas ativas de um dono da agenda.
+     */
+    protected abstract List<ClassSlot> loadSlots(Long ownerId);
+
+    /**
+     * Tempo que a agenda de um dono é usada antes de ser relida do banco;
+     * nulo mantém a agenda até o próximo descarte ou re-sincronização.
+     */
+    protected Duration maxAge() {
+        return null;
+    }
+
+    /**
+     * Verifica conflito de horário consultando apenas a memória
+     * (ou uma única consulta, na primeira vez que o dono é acessado).
+     */
+    public boolean hasConflict(Long ownerId, WeeklySlotMask mask, Long excludeClassId) {
+        return timetableOf(ownerId).conflictsWith(mask, excludeClassId);
+    }
+
+    public Timetable timetableOf(Long ownerId) {
+        Timetable timetable = timetables.get(ownerId);
+        if (timetable != null && !isExpired(ownerId)) {
+            return timetable;
+        }
+
+        long epochAt = epoch.get();
+        long versionAt = ownerVersions.getOrDefault(ownerId, 0L);
+        long startedAt = System.nanoTime();
+        timetable = build(loadSlots(ownerId));
+        synchronized (writeLock) {
+            if (epoch.get() == epochAt && ownerVersions.getOrDefault(ownerId, 0L) == versionAt) {
+                timetables.put(ownerId, timetable);
+                loadStarts.put(ownerId, startedAt);
+            }
+        }
+        return timetable;
+    }
+
+    /**
+     * Registra uma turma na agenda após o commit.
+     */
+    public void occupy(Long ownerId, Long classId, WeeklySlotMask mask) {
+        transactionHooks.afterCommit(() -> update(ownerId, timetable -> timetable.with(classId, mask)));
+    }
+
+    /**
+     * Remove uma turma da agenda após o commit.
+     */
+    public void release(Long ownerId, Long classId) {
+        transactionHooks.afterCommit(() -> update(ownerId, timetable -> timetable.without(classId)));
+    }
+
+    /**
+     * Descarta todo o índice após o commit (ex.: mudança em um horário).
+     */
+    public void invalidateAll() {
+        transactionHooks.afterCommit(this::clear);
+    }
+
+    protected void clear() {
+        synchronized (writeLock) {
+            generation.incrementAndGet();
+            epoch.incrementAndGet();
+            timetables.clear();
+            loadStarts.clear();
+            ownerVersions.clear();
+        }
+    }
+
+    /**
+     * Substitui o índice inteiro por um snapshot carregado do banco.
+     *
+     * @param loadedAt geração observada antes da carga
+     * @return false se houve alteração durante a carga (snapshot descartado)
+     */
+    protected boolean replaceAll(Map<Long, Timetable> snapshot, long loadedAt) {
+        synchronized (writeLock) {
+            if (generation.get() != loadedAt) {
+                return false;
+            }
+            generation.incrementAndGet();
+            epoch.incrementAndGet();
+            long now = System.nanoTime();
+            timetables.keySet().retainAll(snapshot.keySet());
+            timetables.putAll(snapshot);
+            loadStarts.keySet().retainAll(snapshot.keySet());
+            snapshot.keySet().forEach(ownerId -> loadStarts.put(ownerId, now));
+            return true;
+        }
+    }
+
+    protected long currentGeneration() {
+        return generation.get();
+    }
+
+    protected Map<Long, Timetable> timetables() {
+        return timetables;
+    }
+
+    private boolean isExpired(Long ownerId) {
+        Duration maxAge = maxAge();
+        if (maxAge == null) {
+            return false;
+        }
+        Long startedAt = loadStarts.get(ownerId);
+        return startedAt == null || System.nanoTime() - startedAt >= maxAge.toNanos();
+    }
+
+    private void update(Long ownerId, UnaryOperator<Timetable> change) {
+        synchronized (writeLock) {
+            generation.incrementAndGet();
+            ownerVersions.merge(ownerId, 1L, Long::sum);
+            timetables.computeIfPresent(ownerId, (id, timetable) -> change.apply(timetable));
+        }
+    }
+
+    protected static Timetable build(List<ClassSlot> slots) {
+        Timetable timetable = Timetable.EMPTY;
+        for (ClassSlot slot : slots) {
+            timetable = timetable.with(slot.classId(), slot.toMask());
+        }
+        return timetable;
+    }
+}
@@ -4,37 +4,61 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 /**
  * Entidade Class (Turma/Matriz Curricular).
+ *
+ * O contador enrolledStudents é alterado apenas por UPDATE condicional
+ * (ver SeatAllocator). Por isso a entidade usa DynamicUpdate: alterações
+ * em outros campos não sobrescrevem o contador com um valor desatualizado.
+ *
+ * Todas as associações são LAZY; quem precisa delas carregadas usa o
+ * grafo {@link #DETAIL_GRAPH} (ver ClassRepository).
  */
 @Entity
+@DynamicUpdate
 @Table(name = "classes")
+@NamedEntityGraph(name = Class.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("subject"),
+        @NamedAttributeNode("professor"),
+        @NamedAttributeNode("schedule"),
+        @NamedAttributeNode("course")
+})
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Class extends PanacheEntity {
 
+    public static final String DETAIL_GRAPH = "Class.detail";
+
     @NotNull(message = "O código da turma é obrigatório")
     @Column(nullable = false, unique = true, length = 30)
     public String code;
 
     @NotNull(message = "A disciplina é obrigatória")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subject_id", nullable = false)
     public Subject subject;
 
     @NotNull(message = "O professor é obrigatório")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professor_id", nullable = false)
     public Professor professor;
 
     @NotNull(message = "O horário é obrigatório")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "schedule_id", nullable = false)
     public Schedule schedule;
 
@@ -43,7 +67,7 @@ public class Class extends PanacheEntity {
      * REGRA: Alunos só podem se matricular em turmas do seu curso.
      */
     @NotNull(message = "O curso é obrigatório")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     public Course course;
 
@@ -62,6 +86,13 @@ public class Class extends PanacheEntity {
     @Column(nullable = false, length = 20)
     public ClassStatus status = ClassStatus.ATIVA;
 
+    /**
+     * Versão das vagas, incrementada pelo banco a cada mudança (ver
+     * ClassRepository); nunca gravada a partir da entidade.
+     */
+    @Column(name = "seat_version", nullable = false, insertable = false, updatable = false)
+    public long seatVersion;
+
     public Class() {
     }
 
@@ -117,9 +148,9 @@ public class Class extends PanacheEntity {
         return "Class{" +
                 "id=" + id +
                 ", code='" + code + '\'' +
-                ", subject=" + (subject != null ? subject.code : "null") +
-                ", professor=" + (professor != null ? professor.name : "null") +
-                ", course=" + (course != null ? course.code : "null") +
+                ", subjectId=" + (subject != null ? subject.id : "null") +
+                ", professorId=" + (professor != null ? professor.id : "null") +
+                ", courseId=" + (course != null ? course.id : "null") +
                 ", maxCapacity=" + maxCapacity +
                 ", enrolledStudents=" + enrolledStudents +
                 ", status=" + status +
@@ -1,5 +1,6 @@
 package br.edu.unifor.domain.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -7,10 +8,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 @Entity
+@Cacheable
 @Table(name = "courses")
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Course extends PanacheEntity {
     
     @NotBlank(message = "O código do curso é obrigatório")
@@ -7,8 +7,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMax;
@@ -25,17 +29,37 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
  * - Turma deve estar ativa e com vagas disponíveis
  * - Aluno não pode se matricular 2x na mesma turma
  * - Aluno não pode ter 2 turmas no mesmo horário (conflito de horário)
+ *
+ * Aluno e turma são LAZY. O grafo {@link #DETAIL_GRAPH} carrega a matrícula
+ * completa (aluno + curso, turma + disciplina/professor/horário/curso) em
+ * uma única consulta, para os endpoints que devolvem a entidade.
  */
 @Entity
 @Table(name = "enrollments")
+@NamedEntityGraph(name = Enrollment.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "student", subgraph = "student"),
+                @NamedAttributeNode(value = "classEntity", subgraph = "classEntity")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "student", attributeNodes = @NamedAttributeNode("course")),
+                @NamedSubgraph(name = "classEntity", attributeNodes = {
+                        @NamedAttributeNode("subject"),
+                        @NamedAttributeNode("professor"),
+                        @NamedAttributeNode("schedule"),
+                        @NamedAttributeNode("course")
+                })
+        })
 public class Enrollment extends PanacheEntity {
 
+    public static final String DETAIL_GRAPH = "Enrollment.detail";
+
     /**
      * Aluno matriculado.
      * Relacionamento Many-to-One: um aluno pode ter várias matrículas.
      */
     @NotNull(message = "O aluno é obrigatório")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false) 
     public Student student; 
     /**
@@ -45,7 +69,7 @@ public class Enrollment extends PanacheEntity {
      * IMPORTANTE: Aluno se matricula em TURMA, não em disciplina diretamente.
      */
     @NotNull(message = "A turma é obrigatória")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "class_id", nullable = false) 
     public Class classEntity;  
 
@@ -0,0 +1,55 @@
+package br.edu.unifor.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import br.edu.unifor.domain.event.DomainEventType;
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+/**
+ * Evento de domínio pendente de publicação (padrão transactional outbox).
+ *
+ * Gravado na mesma transação da alteração que o originou. Depois do commit o
+ * dispatcher lhe atribui uma {@link #position}, e cada instância lê os eventos
+ * por posição crescente; a linha é removida após {@code academic.outbox.retention}.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent extends PanacheEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    public DomainEventType type;
+
+    /**
+     * JSON do {@link br.edu.unifor.domain.event.DomainEvent}.
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    public String payload;
+
+    @Column(name = "created_at", nullable = false)
+    public LocalDateTime createdAt;
+
+    /**
+     * Ordem de entrega, atribuída após o commit (nula até lá).
+     */
+    @Column(name = "position")
+    public Long position;
+
+    /**
+     * Construtor padrão (obrigatório para JPA)
+     */
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(DomainEventType type, String payload) {
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -3,6 +3,7 @@ package br.edu.unifor.domain.entity;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,6 +11,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 /**
@@ -18,7 +21,9 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
  */
 
 @Entity
+@Cacheable
 @Table(name = "schedules")
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Schedule extends PanacheEntity {
 
     /**
@@ -2,12 +2,17 @@ package br.edu.unifor.domain.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 /**
@@ -19,7 +24,11 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 @Entity
 @Table(name = "students")
+@NamedEntityGraph(name = Student.DETAIL_GRAPH, attributeNodes = @NamedAttributeNode("course"))
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Student extends PanacheEntity {
+
+    public static final String DETAIL_GRAPH = "Student.detail";
  
      /**
      * Matrícula do aluno, deve ser única e contém 7 dígitos.
@@ -63,7 +72,7 @@ public class Student extends PanacheEntity {
      * Curso ao qual o aluno está matriculado.
      * Relacionamento Many-to-One: vários alunos podem estar no mesmo curso.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     public Course course;
 
@@ -95,7 +104,7 @@ public class Student extends PanacheEntity {
                 ", name='" + name + '\'' +
                 ", email='" + email + '\'' +
                 ", cpf='" + cpf + '\'' +
-                ", course=" + (course != null ? course.name : "null") +
+                ", courseId=" + (course != null ? course.id : "null") +
                 ", isActive=" + isActive +
                 '}';
     }
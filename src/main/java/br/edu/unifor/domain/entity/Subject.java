@@ -1,11 +1,14 @@
 package br.edu.unifor.domain.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 
 /**
@@ -15,7 +18,9 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
  */
 
 @Entity
+@Cacheable
 @Table(name = "subjects")
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 
 public class Subject extends PanacheEntity {
 
@@ -0,0 +1,57 @@
+package br.edu.unifor.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+/**
+ * Aluno aguardando vaga em uma turma cheia.
+ *
+ * A ordem de atendimento é a de chegada ({@code createdAt}, desempatada
+ * pelo ID). Quando uma vaga é liberada, o primeiro aluno da fila é matriculado
+ * com as mesmas validações de uma matrícula comum e sai da lista.
+ */
+@Entity
+@Table(name = "waitlist_entries")
+public class WaitlistEntry extends PanacheEntity {
+
+    @NotNull(message = "A turma é obrigatória")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_id", nullable = false)
+    public Class classEntity;
+
+    @NotNull(message = "O aluno é obrigatório")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    public Student student;
+
+    @Column(name = "created_at", nullable = false)
+    public LocalDateTime createdAt;
+
+    /**
+     * Construtor padrão (obrigatório para JPA)
+     */
+    public WaitlistEntry() {
+    }
+
+    public WaitlistEntry(Student student, Class classEntity) {
+        this.student = student;
+        this.classEntity = classEntity;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.edu.unifor.domain.event;
+
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.entity.Enrollment;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Evento de domínio de matrícula ou turma.
+ *
+ * @param id           ID da linha no outbox (nulo até ser lido de volta pelo dispatcher)
+ * @param position     ordem de entrega no outbox (nula até ser lido de volta pelo dispatcher)
+ * @param type         tipo do evento
+ * @param enrollmentId matrícula (nulo em {@link DomainEventType#CLASS_UPDATED})
+ * @param studentId    aluno da matrícula (nulo em {@link DomainEventType#CLASS_UPDATED})
+ * @param classId      turma
+ * @param courseId     curso da turma
+ * @param wasActive    se a matrícula estava ATIVA antes da mudança
+ */
+@RegisterForReflection
+public record DomainEvent(
+        Long id,
+        Long position,
+        DomainEventType type,
+        Long enrollmentId,
+        Long studentId,
+        Long classId,
+        Long courseId,
+        boolean wasActive) {
+
+    public static DomainEvent of(DomainEventType type, Enrollment enrollment, boolean wasActive) {
+        Class classEntity = enrollment.classEntity;
+        return new DomainEvent(null, null, type, enrollment.id, enrollment.student.id, classEntity.id,
+                classEntity.course.id, wasActive);
+    }
+
+    public static DomainEvent classUpdated(Class classEntity) {
+        return new DomainEvent(null, null, DomainEventType.CLASS_UPDATED, null, null, classEntity.id,
+                classEntity.course.id, false);
+    }
+
+    public DomainEvent withOutboxRow(Long id, Long position) {
+        return new DomainEvent(id, position, type, enrollmentId, studentId, classId, courseId, wasActive);
+    }
+}
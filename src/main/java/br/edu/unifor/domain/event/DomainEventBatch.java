@@ -0,0 +1,9 @@
+package br.edu.unifor.domain.event;
+
+import java.util.List;
+
+/**
+ * Lote de eventos entregue de uma vez aos observadores, na ordem de posição do outbox.
+ */
+public record DomainEventBatch(List<DomainEvent> events) {
+}
@@ -0,0 +1,17 @@
+package br.edu.unifor.domain.event;
+
+/**
+ * Tipos de evento de domínio gravados no outbox.
+ */
+public enum DomainEventType {
+    /** Matrícula criada (sempre ATIVA). */
+    ENROLLMENT_CREATED,
+    /** Matrícula cancelada. */
+    ENROLLMENT_CANCELLED,
+    /** Matrícula concluída. */
+    ENROLLMENT_COMPLETED,
+    /** Matrícula removida do banco. */
+    ENROLLMENT_DELETED,
+    /** Professor ou horário da turma alterado (muda a visão dos alunos matriculados). */
+    CLASS_UPDATED
+}
@@ -0,0 +1,25 @@
+package br.edu.unifor.domain.registration;
+
+/**
+ * Tipos de cadastro que recebem matrícula no formato YYXXXXX.
+ * Cada tipo tem sua própria sequência por ano.
+ */
+public enum RegistrationKind {
+
+    STUDENT("students"),
+    PROFESSOR("professors"),
+    COORDINATOR("coordinators");
+
+    private final String table;
+
+    RegistrationKind(String table) {
+        this.table = table;
+    }
+
+    /**
+     * Tabela onde as matrículas deste tipo são gravadas.
+     */
+    public String getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,23 @@
+package br.edu.unifor.domain.repository;
+
+import org.hibernate.jpa.HibernateHints;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+
+/**
+ * Marca consultas sobre dados de referência (horários, disciplinas, cursos)
+ * para o cache de consultas do Hibernate, todas na mesma região.
+ */
+public final class CachedQueries {
+
+    public static final String REFERENCE_REGION = "reference-data-queries";
+
+    private CachedQueries() {
+    }
+
+    static <T> PanacheQuery<T> reference(PanacheQuery<T> query) {
+        return query
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .withHint(HibernateHints.HINT_CACHE_REGION, REFERENCE_REGION);
+    }
+}
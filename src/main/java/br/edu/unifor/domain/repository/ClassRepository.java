@@ -1,17 +1,45 @@
 package br.edu.unifor.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
 
+import org.hibernate.jpa.SpecHints;
+
+import br.edu.unifor.application.dto.response.ClassResponse;
 import br.edu.unifor.domain.entity.Class;
 import br.edu.unifor.domain.entity.Class.ClassStatus;
+import br.edu.unifor.domain.timetable.ClassSlot;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 
 @ApplicationScoped
 public class ClassRepository implements PanacheRepository<Class> {
 
+    private static final String ACTIVE_SLOTS_QUERY = """
+            SELECT new br.edu.unifor.domain.timetable.ClassSlot(
+                c.professor.id, c.id, s.dayOfWeek, s.startTime, s.endTime)
+            FROM Class c
+            JOIN c.schedule s
+            WHERE c.status = ?1""";
+
+    private static final String RESPONSE_QUERY = """
+            SELECT new br.edu.unifor.application.dto.response.ClassResponse(
+                c.id, c.code, c.maxCapacity, c.enrolledStudents, c.seatVersion, c.semester, c.status,
+                s.id, s.code, s.name, s.workload,
+                p.id, p.name, p.email, p.department,
+                sc.id, sc.dayOfWeek, sc.startTime, sc.endTime, sc.period,
+                co.id, co.code, co.name, co.department, co.duration, co.active)
+            FROM Class c
+            JOIN c.subject s
+            JOIN c.professor p
+            JOIN c.schedule sc
+            JOIN c.course co
+            """;
+
     // ========== BUSCAS BÁSICAS ==========
 
     public Optional<Class> findByCode(String code) {
@@ -22,6 +50,25 @@ public class ClassRepository implements PanacheRepository<Class> {
         return count("code", code) > 0;
     }
 
+    // ========== FETCH PLANS ==========
+
+    /**
+     * Turma com todas as associações (disciplina, professor, horário e curso),
+     * para os endpoints que devolvem a entidade.
+     */
+    public Optional<Class> findDetailById(Long id) {
+        return Optional.ofNullable(getEntityManager().find(Class.class, id,
+                Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, getEntityManager().getEntityGraph(Class.DETAIL_GRAPH))));
+    }
+
+    /**
+     * Turmas com o horário já carregado: é tudo de que a validação de
+     * matrícula em lote precisa.
+     */
+    public List<Class> findWithScheduleByIds(Collection<Long> ids) {
+        return list("SELECT c FROM Class c JOIN FETCH c.schedule WHERE c.id in ?1", ids);
+    }
+
     // ========== BUSCAS POR RELACIONAMENTO ==========
 
     public List<Class> findBySubject(Long subjectId) {
@@ -44,6 +91,13 @@ public class ClassRepository implements PanacheRepository<Class> {
         return list("semester", semester);
     }
 
+    public List<String> findCodesEndingWith(String suffix) {
+        return getEntityManager()
+                .createQuery("SELECT c.code FROM Class c WHERE c.code LIKE ?1", String.class)
+                .setParameter(1, "%" + suffix)
+                .getResultList();
+    }
+
     // ========== BUSCAS COM STATUS ==========
 
     public List<Class> findAllActive() {
@@ -65,23 +119,123 @@ public class ClassRepository implements PanacheRepository<Class> {
         );
     }
 
+    // ========== PROJEÇÕES (DTO em uma única consulta) ==========
+
+    public List<ClassResponse> findAllResponses() {
+        return findResponses("", new Object[0]);
+    }
+
+    public Optional<ClassResponse> findResponseById(Long id) {
+        return findResponses("WHERE c.id = ?1", id).stream().findFirst();
+    }
+
+    public List<ClassResponse> findResponsesByIds(Collection<Long> ids) {
+        return findResponses("WHERE c.id IN ?1", ids);
+    }
+
+    public Optional<ClassResponse> findResponseByCode(String code) {
+        return findResponses("WHERE c.code = ?1", code).stream().findFirst();
+    }
+
+    public List<ClassResponse> findResponsesBySubject(Long subjectId) {
+        return findResponses("WHERE s.id = ?1", subjectId);
+    }
+
+    public List<ClassResponse> findResponsesByProfessor(Long professorId) {
+        return findResponses("WHERE p.id = ?1", professorId);
+    }
+
+    public List<ClassResponse> findResponsesByCourse(Long courseId) {
+        return findResponses("WHERE co.id = ?1", courseId);
+    }
+
+    public List<ClassResponse> findResponsesBySemester(String semester) {
+        return findResponses("WHERE c.semester = ?1", semester);
+    }
+
+    public List<ClassResponse> findActiveResponses() {
+        return findResponses("WHERE c.status = ?1", ClassStatus.ATIVA);
+    }
+
+    public List<ClassResponse> findActiveResponsesByCourse(Long courseId) {
+        return findResponses("WHERE co.id = ?1 AND c.status = ?2", courseId, ClassStatus.ATIVA);
+    }
+
+    public List<ClassResponse> findActiveResponsesWithAvailableSlots() {
+        return findResponses("WHERE c.status = ?1 AND c.enrolledStudents < c.maxCapacity", ClassStatus.ATIVA);
+    }
+
+    public List<ClassResponse> findActiveResponsesByCourseWithSlots(Long courseId) {
+        return findResponses("WHERE co.id = ?1 AND c.status = ?2 AND c.enrolledStudents < c.maxCapacity",
+                courseId, ClassStatus.ATIVA);
+    }
+
+    private List<ClassResponse> findResponses(String where, Object... params) {
+        TypedQuery<ClassResponse> query = getEntityManager()
+                .createQuery(RESPONSE_QUERY + where + " ORDER BY c.id", ClassResponse.class);
+        for (int i = 0; i < params.length; i++) {
+            query.setParameter(i + 1, params[i]);
+        }
+        return query.getResultList();
+    }
+
     // ========== VALIDAÇÕES ==========
 
     /**
-     * Verifica se professor tem conflito de horário.
+     * Lista professor, turma e horário de todas as turmas ativas.
+     * Usado para montar o índice de agenda dos professores.
      */
-    public boolean hasProfessorScheduleConflict(Long professorId, Long scheduleId, Long excludeClassId) {
-        String query = "professor.id = ?1 and schedule.id = ?2 and status = ?3";
-        List<Class> conflicts;
-
-        if (excludeClassId != null) {
-            conflicts = list(query + " and id != ?4",
-                    professorId, scheduleId, ClassStatus.ATIVA, excludeClassId);
-        } else {
-            conflicts = list(query, professorId, scheduleId, ClassStatus.ATIVA);
-        }
+    public List<ClassSlot> findActiveSlots() {
+        return getEntityManager()
+                .createQuery(ACTIVE_SLOTS_QUERY, ClassSlot.class)
+                .setParameter(1, ClassStatus.ATIVA)
+                .getResultList();
+    }
 
-        return !conflicts.isEmpty();
+    /**
+     * Lista turma e horário das turmas ativas de um professor.
+     */
+    public List<ClassSlot> findActiveSlotsByProfessor(Long professorId) {
+        return getEntityManager()
+                .createQuery(ACTIVE_SLOTS_QUERY + " AND c.professor.id = ?2", ClassSlot.class)
+                .setParameter(1, ClassStatus.ATIVA)
+                .setParameter(2, professorId)
+                .getResultList();
+    }
+
+    // ========== VAGAS ==========
+
+    /**
+     * Reserva vagas com um único UPDATE condicional.
+     *
+     * @return quantidade de linhas alteradas (0 se não houver vagas suficientes)
+     */
+    public int reserveSeats(Long classId, int seats) {
+        return update("enrolledStudents = enrolledStudents + ?1, seatVersion = seatVersion + 1"
+                + " where id = ?2 and enrolledStudents + ?1 <= maxCapacity", seats, classId);
+    }
+
+    /**
+     * Libera vagas com um único UPDATE condicional.
+     *
+     * @return quantidade de linhas alteradas (0 se não houver matriculados)
+     */
+    public int releaseSeats(Long classId, int seats) {
+        return update("enrolledStudents = enrolledStudents - ?1, seatVersion = seatVersion + 1"
+                + " where id = ?2 and enrolledStudents >= ?1", seats, classId);
+    }
+
+    /**
+     * Incrementa a versão das vagas da turma e recarrega a entidade.
+     *
+     * O UPDATE mantém a linha bloqueada até o fim da transação, então a versão
+     * lida aqui só é superada por transações que confirmam depois desta, e as
+     * vagas lidas junto com ela não mudam antes do commit.
+     */
+    public void advanceSeatVersion(Class classEntity) {
+        flush();
+        update("seatVersion = seatVersion + 1 where id = ?1", classEntity.id);
+        getEntityManager().refresh(classEntity);
     }
 
     // ========== CONTADORES ==========
@@ -94,6 +248,22 @@ public class ClassRepository implements PanacheRepository<Class> {
         return count("course.id = ?1 and status = ?2", courseId, ClassStatus.ATIVA);
     }
 
+    public List<KeyCount> countActiveGroupedByProfessor() {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.KeyCount(c.professor.id, COUNT(c))
+                FROM Class c WHERE c.status = ?1 GROUP BY c.professor.id""", KeyCount.class)
+                .setParameter(1, ClassStatus.ATIVA)
+                .getResultList();
+    }
+
+    public List<KeyCount> countActiveGroupedByCourse() {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.KeyCount(c.course.id, COUNT(c))
+                FROM Class c WHERE c.status = ?1 GROUP BY c.course.id""", KeyCount.class)
+                .setParameter(1, ClassStatus.ATIVA)
+                .getResultList();
+    }
+
     public long countActiveBySubject(Long subjectId) {
         return count("subject.id = ?1 and status = ?2", subjectId, ClassStatus.ATIVA);
     }
@@ -16,7 +16,7 @@ public class CourseRepository implements PanacheRepository<Course> {
      */
 
     public List<Course> findAllActive() {
-        return list("active", true);
+        return CachedQueries.reference(find("active", true)).list();
     }
 
     /**
@@ -24,7 +24,7 @@ public class CourseRepository implements PanacheRepository<Course> {
      * Usado para validações e matrícula.
      */
     public Optional<Course> findActiveByCode(String code) {
-        return find("code = ?1 and active = true", code)
+        return CachedQueries.reference(find("code = ?1 and active = true", code))
                 .firstResultOptional();
     }
 
@@ -0,0 +1,9 @@
+package br.edu.unifor.domain.repository;
+
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+
+/**
+ * Matrícula existente de um aluno em uma turma, em qualquer status.
+ */
+public record EnrollmentKey(Long studentId, Long classId, EnrollmentStatus status) {
+}
@@ -1,47 +1,145 @@
 package br.edu.unifor.domain.repository;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.TypedQuery;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.SelectionQuery;
+
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
 import br.edu.unifor.domain.entity.Enrollment;
 import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.timetable.ClassSlot;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
 
 /**
  * Repository para gerenciar matrículas.
+ *
+ * Fetch plans: listagens e detalhe usam o grafo {@link Enrollment#DETAIL_GRAPH};
+ * a visão do aluno usa projeção; validações (cancelar, concluir, remover)
+ * usam findByIdOptional e só tocam os ids das associações, sem carregá-las.
  */
 @ApplicationScoped
 public class EnrollmentRepository implements PanacheRepository<Enrollment> {
 
+    private static final String ACTIVE_SLOTS_QUERY = """
+            SELECT new br.edu.unifor.domain.timetable.ClassSlot(
+                e.student.id, c.id, s.dayOfWeek, s.startTime, s.endTime)
+            FROM Enrollment e
+            JOIN e.classEntity c
+            JOIN c.schedule s
+            WHERE e.status = ?1""";
+
+    private static final String STUDENT_VIEW_QUERY = """
+            SELECT new br.edu.unifor.application.dto.response.StudentEnrollmentResponse(
+                e.id, sub.code, sub.name, p.name,
+                sc.dayOfWeek, sc.startTime, sc.endTime, sc.period,
+                c.code, e.enrollmentDate, e.status)
+            FROM Enrollment e
+            JOIN e.classEntity c
+            JOIN c.subject sub
+            JOIN c.professor p
+            JOIN c.schedule sc
+            WHERE e.student.id = ?1 AND e.id > ?2
+            """;
+
+    /**
+     * Matrícula completa (grafo {@link Enrollment#DETAIL_GRAPH}) em uma única consulta.
+     */
+    public Optional<Enrollment> findDetailById(Long id) {
+        return Optional.ofNullable(getEntityManager()
+                .find(Enrollment.class, id, Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())));
+    }
+
+    /**
+     * Lista todas as matrículas, paginadas por cursor.
+     */
+    public KeysetPage<Enrollment> findAll(Long after, int limit) {
+        return page("", after, limit);
+    }
+
+    /**
+     * Visão do aluno (disciplina, professor e horário) das suas matrículas,
+     * montada por projeção em uma única consulta.
+     *
+     * @param status filtro opcional por status
+     */
+    public KeysetPage<StudentEnrollmentResponse> findStudentView(Long studentId, EnrollmentStatus status,
+            Long after, int limit) {
+        String query = STUDENT_VIEW_QUERY + (status != null ? " AND e.status = ?3" : "") + " ORDER BY e.id";
+        TypedQuery<StudentEnrollmentResponse> typedQuery = getEntityManager()
+                .createQuery(query, StudentEnrollmentResponse.class)
+                .setParameter(1, studentId)
+                .setParameter(2, after != null ? after : 0L)
+                .setMaxResults(limit + 1);
+        if (status != null) {
+            typedQuery.setParameter(3, status);
+        }
+        return KeysetPage.of(typedQuery.getResultList(), limit, StudentEnrollmentResponse::getEnrollmentId);
+    }
+
     /**
-     * Busca matrículas de um aluno.
+     * Visão do aluno de todas as suas matrículas com o status informado, sem
+     * paginação (usada pelo cache de matrículas ativas, que pagina em memória).
      */
-    public List<Enrollment> findByStudent(Long studentId) {
-        return list("student.id", studentId);
+    public List<StudentEnrollmentResponse> findStudentView(Long studentId, EnrollmentStatus status) {
+        return getEntityManager()
+                .createQuery(STUDENT_VIEW_QUERY + " AND e.status = ?3 ORDER BY e.id", StudentEnrollmentResponse.class)
+                .setParameter(1, studentId)
+                .setParameter(2, 0L)
+                .setParameter(3, status)
+                .getResultList();
     }
 
     /**
-     * Busca matrículas ativas de um aluno.
-     * Requisito: listar disciplinas em que o aluno está matriculado.
+     * Visão do aluno das matrículas informadas (usada para responder a um lote
+     * recém-criado sem serializar entidades com associações LAZY).
      */
-    public List<Enrollment> findActiveByStudent(Long studentId) {
-        return list("student.id = ?1 and status = ?2", studentId, EnrollmentStatus.ATIVA);
+    public List<StudentEnrollmentResponse> findStudentView(Long studentId, Collection<Long> enrollmentIds) {
+        return getEntityManager()
+                .createQuery(STUDENT_VIEW_QUERY + " AND e.id IN ?3 ORDER BY e.id", StudentEnrollmentResponse.class)
+                .setParameter(1, studentId)
+                .setParameter(2, 0L)
+                .setParameter(3, enrollmentIds)
+                .getResultList();
+    }
+
+    /**
+     * IDs dos alunos com matrícula ativa na turma.
+     */
+    public List<Long> findActiveStudentIdsByClass(Long classId) {
+        return getEntityManager()
+                .createQuery("SELECT e.student.id FROM Enrollment e WHERE e.classEntity.id = ?1 AND e.status = ?2",
+                        Long.class)
+                .setParameter(1, classId)
+                .setParameter(2, EnrollmentStatus.ATIVA)
+                .getResultList();
     }
 
     /**
      * Busca matrículas de uma turma.
      */
-    public List<Enrollment> findByClass(Long classId) {
-        return list("classEntity.id", classId);
+    public KeysetPage<Enrollment> findByClass(Long classId, Long after, int limit) {
+        return page("classEntity.id = ?1", after, limit, classId);
     }
 
     /**
      * Busca matrículas ativas de uma turma.
      */
-    public List<Enrollment> findActiveByClass(Long classId) {
-        return list("classEntity.id = ?1 and status = ?2", classId, EnrollmentStatus.ATIVA);
+    public KeysetPage<Enrollment> findActiveByClass(Long classId, Long after, int limit) {
+        return page("classEntity.id = ?1 and status = ?2", after, limit, classId, EnrollmentStatus.ATIVA);
     }
 
     /**
@@ -54,39 +152,62 @@ public class EnrollmentRepository implements PanacheRepository<Enrollment> {
     }
 
     /**
-     * Verifica se aluno já está matriculado na turma.
-     * 
+     * Status da matrícula do aluno na turma, em qualquer status.
+     *
+     * A tabela aceita uma única linha por (aluno, turma)
+     * (enrollments_unique_student_class): matrículas canceladas ou concluídas
+     * também impedem uma nova.
+     *
      * @param studentId ID do aluno
      * @param classId ID da turma
-     * @return true se já existe matrícula ativa
+     * @return status da matrícula existente, vazio se não houver
      */
-    public boolean isStudentEnrolledInClass(Long studentId, Long classId) {
-        return count("student.id = ?1 and classEntity.id = ?2 and status = ?3", 
-                     studentId, classId, EnrollmentStatus.ATIVA) > 0;
+    public Optional<EnrollmentStatus> findStatus(Long studentId, Long classId) {
+        return getEntityManager()
+                .createQuery("SELECT e.status FROM Enrollment e WHERE e.student.id = ?1 AND e.classEntity.id = ?2",
+                        EnrollmentStatus.class)
+                .setParameter(1, studentId)
+                .setParameter(2, classId)
+                .getResultStream()
+                .findFirst();
     }
 
     /**
-     * Verifica conflito de horário do aluno.
-     * 
-     * Um aluno NÃO pode ter 2 turmas no mesmo horário.
-     * 
-     * @param studentId ID do aluno
-     * @param scheduleId ID do horário
-     * @param excludeEnrollmentId ID da matrícula a excluir (para updates)
-     * @return true se há conflito
-     */
-    public boolean hasStudentScheduleConflict(Long studentId, Long scheduleId, Long excludeEnrollmentId) {
-        String query = "student.id = ?1 and classEntity.schedule.id = ?2 and status = ?3";
-        List<Enrollment> conflicts;
-        
-        if (excludeEnrollmentId != null) {
-            conflicts = list(query + " and id != ?4", 
-                studentId, scheduleId, EnrollmentStatus.ATIVA, excludeEnrollmentId);
-        } else {
-            conflicts = list(query, studentId, scheduleId, EnrollmentStatus.ATIVA);
-        }
-        
-        return !conflicts.isEmpty();
+     * Lista turma e horário das matrículas ativas de um aluno.
+     * Usado para montar o índice de agenda do aluno (StudentTimetableIndex).
+     */
+    public List<ClassSlot> findActiveSlotsByStudent(Long studentId) {
+        return getEntityManager()
+                .createQuery(ACTIVE_SLOTS_QUERY + " AND e.student.id = ?2", ClassSlot.class)
+                .setParameter(1, EnrollmentStatus.ATIVA)
+                .setParameter(2, studentId)
+                .getResultList();
+    }
+
+    /**
+     * Lista turma e horário das matrículas ativas de vários alunos de uma vez.
+     * Usado pela importação em lote.
+     */
+    public List<ClassSlot> findActiveSlotsByStudents(Collection<Long> studentIds) {
+        return getEntityManager()
+                .createQuery(ACTIVE_SLOTS_QUERY + " AND e.student.id IN ?2", ClassSlot.class)
+                .setParameter(1, EnrollmentStatus.ATIVA)
+                .setParameter(2, studentIds)
+                .getResultList();
+    }
+
+    /**
+     * Matrículas (em qualquer status) entre os alunos e turmas informados.
+     * Usado nas matrículas em lote para recusar pares que já têm linha na
+     * tabela (enrollments_unique_student_class) antes do flush.
+     */
+    public List<EnrollmentKey> findKeys(Collection<Long> studentIds, Collection<Long> classIds) {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.EnrollmentKey(e.student.id, e.classEntity.id, e.status)
+                FROM Enrollment e WHERE e.student.id IN ?1 AND e.classEntity.id IN ?2""", EnrollmentKey.class)
+                .setParameter(1, studentIds)
+                .setParameter(2, classIds)
+                .getResultList();
     }
 
     /**
@@ -108,15 +229,15 @@ public class EnrollmentRepository implements PanacheRepository<Enrollment> {
     /**
      * Busca todas as matrículas ativas.
      */
-    public List<Enrollment> findAllActive() {
-        return list("status", EnrollmentStatus.ATIVA);
+    public KeysetPage<Enrollment> findAllActive(Long after, int limit) {
+        return page("status = ?1", after, limit, EnrollmentStatus.ATIVA);
     }
 
     /**
      * Busca matrículas por status.
      */
-    public List<Enrollment> findByStatus(EnrollmentStatus status) {
-        return list("status", status);
+    public KeysetPage<Enrollment> findByStatus(EnrollmentStatus status, Long after, int limit) {
+        return page("status = ?1", after, limit, status);
     }
 
     /**
@@ -129,8 +250,8 @@ public class EnrollmentRepository implements PanacheRepository<Enrollment> {
     /**
      * Busca matrículas de um curso (através das turmas).
      */
-    public List<Enrollment> findByCourse(Long courseId) {
-        return list("classEntity.course.id", courseId);
+    public KeysetPage<Enrollment> findByCourse(Long courseId, Long after, int limit) {
+        return page("classEntity.course.id = ?1", after, limit, courseId);
     }
 
     /**
@@ -139,4 +260,100 @@ public class EnrollmentRepository implements PanacheRepository<Enrollment> {
     public long countByCourse(Long courseId) {
         return count("classEntity.course.id", courseId);
     }
-}
\ No newline at end of file
+
+    // ========== CONTAGENS AGRUPADAS (reconstrução dos contadores) ==========
+
+    public List<KeyCount> countActiveGroupedByStudent() {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.KeyCount(e.student.id, COUNT(e))
+                FROM Enrollment e WHERE e.status = ?1 GROUP BY e.student.id""", KeyCount.class)
+                .setParameter(1, EnrollmentStatus.ATIVA)
+                .getResultList();
+    }
+
+    public List<KeyCount> countActiveGroupedByClass() {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.KeyCount(e.classEntity.id, COUNT(e))
+                FROM Enrollment e WHERE e.status = ?1 GROUP BY e.classEntity.id""", KeyCount.class)
+                .setParameter(1, EnrollmentStatus.ATIVA)
+                .getResultList();
+    }
+
+    public List<KeyCount> countGroupedByCourse() {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.KeyCount(c.course.id, COUNT(e))
+                FROM Enrollment e JOIN e.classEntity c GROUP BY c.course.id""", KeyCount.class)
+                .getResultList();
+    }
+
+    /**
+     * Percorre as matrículas com um cursor do banco (ScrollableResults),
+     * entregando uma a uma ao consumidor. O contexto de persistência é limpo
+     * a cada bloco, então a memória usada não depende do tamanho do resultado.
+     *
+     * Deve ser chamado dentro de uma transação.
+     *
+     * @param status   filtro opcional por status
+     * @param courseId filtro opcional por curso
+     */
+    public void scroll(EnrollmentStatus status, Long courseId, int fetchSize, Consumer<Enrollment> consumer) {
+        StringBuilder hql = new StringBuilder("""
+                SELECT e FROM Enrollment e
+                JOIN FETCH e.student st
+                JOIN FETCH st.course
+                JOIN FETCH e.classEntity c
+                JOIN FETCH c.subject
+                JOIN FETCH c.professor
+                JOIN FETCH c.schedule
+                JOIN FETCH c.course
+                WHERE 1 = 1
+                """);
+        if (status != null) {
+            hql.append(" AND e.status = :status");
+        }
+        if (courseId != null) {
+            hql.append(" AND c.course.id = :courseId");
+        }
+        hql.append(" ORDER BY e.id");
+
+        Session session = getSession();
+        SelectionQuery<Enrollment> query = session.createSelectionQuery(hql.toString(), Enrollment.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (courseId != null) {
+            query.setParameter("courseId", courseId);
+        }
+
+        try (ScrollableResults<Enrollment> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            int read = 0;
+            while (results.next()) {
+                consumer.accept(results.get());
+                if (++read % fetchSize == 0) {
+                    session.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Busca limit + 1 itens após o cursor para saber se existe próxima página.
+     */
+    private KeysetPage<Enrollment> page(String query, Long after, int limit, Object... params) {
+        Object[] allParams = Arrays.copyOf(params, params.length + 1);
+        allParams[params.length] = after != null ? after : 0L;
+        String keysetQuery = (query.isEmpty() ? "" : query + " and ") + "id > ?" + allParams.length;
+
+        List<Enrollment> fetched = find(keysetQuery, Sort.by("id"), allParams)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())
+                .range(0, limit)
+                .list();
+        return KeysetPage.of(fetched, limit, enrollment -> enrollment.id);
+    }
+
+    private EntityGraph<?> detailGraph() {
+        return getEntityManager().getEntityGraph(Enrollment.DETAIL_GRAPH);
+    }
+}
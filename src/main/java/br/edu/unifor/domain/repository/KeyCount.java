@@ -0,0 +1,7 @@
+package br.edu.unifor.domain.repository;
+
+/**
+ * Resultado de um COUNT agrupado por chave (ex.: matrículas ativas por aluno).
+ */
+public record KeyCount(Long key, Long count) {
+}
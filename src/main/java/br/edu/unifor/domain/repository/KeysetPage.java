@@ -0,0 +1,41 @@
+package br.edu.unifor.domain.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados paginada por chave (keyset/cursor).
+ *
+ * Em vez de OFFSET, cada página parte do último ID retornado pela anterior
+ * (WHERE id > :after ORDER BY id), mantendo o custo constante em qualquer
+ * posição da listagem.
+ *
+ * @param items      itens da página, ordenados por ID
+ * @param nextCursor valor de "after" para a próxima página, ou null se esta é a última
+ */
+public record KeysetPage<T>(List<T> items, Long nextCursor) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou limit + 1 itens:
+     * o item excedente indica que existe próxima página e é descartado.
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int limit, Function<T, Long> idOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items, idOf.apply(items.get(limit - 1)));
+    }
+
+    /**
+     * Monta a página a partir de uma lista completa já em memória, ordenada por ID.
+     */
+    public static <T> KeysetPage<T> slice(List<T> all, Long after, int limit, Function<T, Long> idOf) {
+        long from = after != null ? after : 0L;
+        List<T> fetched = all.stream()
+                .filter(item -> idOf.apply(item) > from)
+                .limit(limit + 1L)
+                .toList();
+        return of(fetched, limit, idOf);
+    }
+}
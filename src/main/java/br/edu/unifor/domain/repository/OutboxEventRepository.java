@@ -0,0 +1,132 @@
+package br.edu.unifor.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.hibernate.Session;
+
+import br.edu.unifor.domain.entity.OutboxEvent;
+import br.edu.unifor.domain.event.DomainEventType;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+
+/**
+ * Repository do outbox de eventos de domínio.
+ */
+@ApplicationScoped
+public class OutboxEventRepository implements PanacheRepository<OutboxEvent> {
+
+    /** Chave do advisory lock que serializa a atribuição de posições entre as instâncias. */
+    private static final long POSITIONS_LOCK = 0x6f7574626f78L;
+
+    /**
+     * Posiciona os eventos já confirmados mais antigos. O UPDATE só enxerga
+     * linhas de transações já confirmadas; as que confirmarem depois recebem
+     * posições maiores numa próxima chamada.
+     */
+    private static final String ASSIGN_POSITIONS_SQL = """
+            UPDATE outbox_events SET position = nextval('outbox_positions')
+            WHERE id IN (SELECT id FROM outbox_events WHERE position IS NULL ORDER BY id LIMIT ?)
+            """;
+
+    private static final String FIND_AFTER_SQL = """
+            SELECT id, position, event_type, payload, created_at FROM outbox_events
+            WHERE position > ? ORDER BY position LIMIT ?
+            """;
+
+    /**
+     * Atribui posições a até {@code limit} eventos sem posição.
+     *
+     * O lock é da transação corrente e só é liberado depois do commit, então
+     * as posições de uma chamada só existem depois que as de todas as chamadas
+     * anteriores já estão visíveis: quem leu até a posição P nunca verá
+     * aparecer depois um evento com posição menor.
+     *
+     * @return quantidade de eventos posicionados
+     */
+    public int assignPositions(int limit) {
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_advisory_xact_lock(?)")) {
+                lock.setLong(1, POSITIONS_LOCK);
+                lock.execute();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(ASSIGN_POSITIONS_SQL)) {
+                statement.setInt(1, limit);
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Até {@code limit} eventos com posição maior que {@code position}, em ordem de posição.
+     */
+    public List<OutboxEvent> findAfter(long position, int limit) {
+        return session().doReturningWork(connection -> {
+            List<OutboxEvent> events = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(FIND_AFTER_SQL)) {
+                statement.setLong(1, position);
+                statement.setInt(2, limit);
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        OutboxEvent event = new OutboxEvent(
+                                DomainEventType.valueOf(result.getString("event_type")), result.getString("payload"));
+                        event.id = result.getLong("id");
+                        event.position = result.getLong("position");
+                        event.createdAt = result.getTimestamp("created_at").toLocalDateTime();
+                        events.add(event);
+                    }
+                }
+            }
+            return events;
+        });
+    }
+
+    /**
+     * Maior posição já atribuída (0 se nenhuma).
+     */
+    public long lastPosition() {
+        Long position = getEntityManager()
+                .createQuery("SELECT max(o.position) FROM OutboxEvent o", Long.class)
+                .getSingleResult();
+        return position != null ? position : 0L;
+    }
+
+    /**
+     * IDs dos eventos que ainda não receberam posição.
+     */
+    public Set<Long> findUnpositionedIds() {
+        return new HashSet<>(getEntityManager()
+                .createQuery("SELECT o.id FROM OutboxEvent o WHERE o.position IS NULL", Long.class)
+                .getResultList());
+    }
+
+    /**
+     * Remove os eventos já posicionados gravados antes de {@code cutoff}.
+     */
+    public long deleteDeliveredBefore(LocalDateTime cutoff) {
+        return delete("position IS NOT NULL AND createdAt < ?1", cutoff);
+    }
+
+    /**
+     * Faz todas as leituras da transação corrente enxergarem o mesmo snapshot
+     * (REPEATABLE READ). Precisa ser a primeira instrução da transação.
+     */
+    public void readSingleSnapshot() {
+        session().doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+            }
+        });
+    }
+
+    private Session session() {
+        return getEntityManager().unwrap(Session.class);
+    }
+}
@@ -0,0 +1,94 @@
+package br.edu.unifor.domain.repository;
+
+import java.time.DayOfWeek;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.domain.entity.Class.ClassStatus;
+import br.edu.unifor.domain.entity.Schedule.Period;
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Versão não bloqueante das leituras de {@link ClassRepository} usadas pelo portal do aluno.
+ *
+ * SQL equivalente à projeção RESPONSE_QUERY do repositório bloqueante,
+ * executado no cliente reativo do PostgreSQL.
+ */
+@ApplicationScoped
+public class ReactiveClassRepository {
+
+    private static final String RESPONSE_SQL = """
+            SELECT c.id, c.code, c.max_capacity, c.enrolled_students, c.seat_version, c.semester, c.status,
+                   s.id AS subject_id, s.code AS subject_code, s.name AS subject_name, s.workload,
+                   p.id AS professor_id, p.name AS professor_name, p.email AS professor_email,
+                   p.department AS professor_department,
+                   sc.id AS schedule_id, sc.day_of_week, sc.start_time, sc.end_time, sc.period,
+                   co.id AS course_id, co.code AS course_code, co.name AS course_name,
+                   co.department AS course_department, co.duration, co.active
+            FROM classes c
+            JOIN subjects s ON s.id = c.subject_id
+            JOIN professors p ON p.id = c.professor_id
+            JOIN schedules sc ON sc.id = c.schedule_id
+            JOIN courses co ON co.id = c.course_id
+            """;
+
+    @Inject
+    PgPool client;
+
+    /**
+     * Mesmo resultado de {@link ClassRepository#findActiveResponsesByCourseWithSlots}.
+     */
+    public Multi<ClassResponse> findActiveResponsesByCourseWithSlots(Long courseId) {
+        return findResponses("WHERE co.id = $1 AND c.status = $2 AND c.enrolled_students < c.max_capacity",
+                Tuple.of(courseId, ClassStatus.ATIVA.name()));
+    }
+
+    /**
+     * Mesmo resultado de {@link ClassRepository#findActiveResponsesWithAvailableSlots}.
+     */
+    public Multi<ClassResponse> findActiveResponsesWithAvailableSlots() {
+        return findResponses("WHERE c.status = $1 AND c.enrolled_students < c.max_capacity",
+                Tuple.of(ClassStatus.ATIVA.name()));
+    }
+
+    private Multi<ClassResponse> findResponses(String where, Tuple params) {
+        return client.preparedQuery(RESPONSE_SQL + where + " ORDER BY c.id").execute(params)
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(ReactiveClassRepository::toResponse);
+    }
+
+    private static ClassResponse toResponse(Row row) {
+        return new ClassResponse(
+                row.getLong("id"),
+                row.getString("code"),
+                row.getInteger("max_capacity"),
+                row.getInteger("enrolled_students"),
+                row.getLong("seat_version"),
+                row.getString("semester"),
+                ClassStatus.valueOf(row.getString("status")),
+                row.getLong("subject_id"),
+                row.getString("subject_code"),
+                row.getString("subject_name"),
+                row.getInteger("workload"),
+                row.getLong("professor_id"),
+                row.getString("professor_name"),
+                row.getString("professor_email"),
+                row.getString("professor_department"),
+                row.getLong("schedule_id"),
+                DayOfWeek.valueOf(row.getString("day_of_week")),
+                row.getLocalTime("start_time"),
+                row.getLocalTime("end_time"),
+                Period.valueOf(row.getString("period")),
+                row.getLong("course_id"),
+                row.getString("course_code"),
+                row.getString("course_name"),
+                row.getString("course_department"),
+                row.getInteger("duration"),
+                row.getBoolean("active"));
+    }
+}
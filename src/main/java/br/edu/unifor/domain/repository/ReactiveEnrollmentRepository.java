@@ -0,0 +1,73 @@
+package br.edu.unifor.domain.repository;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import br.edu.unifor.application.dto.response.StudentEnrollmentResponse;
+import br.edu.unifor.domain.entity.Enrollment.EnrollmentStatus;
+import br.edu.unifor.domain.entity.Schedule.Period;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Versão não bloqueante das leituras de {@link EnrollmentRepository} usadas pelo portal do aluno.
+ *
+ * Roda no cliente reativo do PostgreSQL (Vert.x), sem ocupar thread enquanto
+ * espera o banco. O Hibernate Reactive não pode conviver com o Hibernate ORM
+ * nesta versão do Quarkus, por isso as consultas são SQL equivalentes às
+ * projeções JPQL do repositório bloqueante.
+ */
+@ApplicationScoped
+public class ReactiveEnrollmentRepository {
+
+    private static final String STUDENT_VIEW_SQL = """
+            SELECT e.id, sub.code AS subject_code, sub.name AS subject_name, p.name AS professor_name,
+                   sc.day_of_week, sc.start_time, sc.end_time, sc.period,
+                   c.code AS class_code, e.enrollment_date, e.status
+            FROM enrollments e
+            JOIN classes c ON c.id = e.class_id
+            JOIN subjects sub ON sub.id = c.subject_id
+            JOIN professors p ON p.id = c.professor_id
+            JOIN schedules sc ON sc.id = c.schedule_id
+            WHERE e.student_id = $1 AND e.status = $2
+            ORDER BY e.id
+            """;
+
+    @Inject
+    PgPool client;
+
+    /**
+     * Mesmo resultado de {@link EnrollmentRepository#findStudentView(Long, EnrollmentStatus)}.
+     */
+    public Uni<List<StudentEnrollmentResponse>> findStudentView(Long studentId, EnrollmentStatus status) {
+        return client.preparedQuery(STUDENT_VIEW_SQL).execute(Tuple.of(studentId, status.name()))
+                .map(rows -> {
+                    List<StudentEnrollmentResponse> responses = new ArrayList<>(rows.size());
+                    for (Row row : rows) {
+                        responses.add(toResponse(row));
+                    }
+                    return responses;
+                });
+    }
+
+    private static StudentEnrollmentResponse toResponse(Row row) {
+        return new StudentEnrollmentResponse(
+                row.getLong("id"),
+                row.getString("subject_code"),
+                row.getString("subject_name"),
+                row.getString("professor_name"),
+                DayOfWeek.valueOf(row.getString("day_of_week")),
+                row.getLocalTime("start_time"),
+                row.getLocalTime("end_time"),
+                Period.valueOf(row.getString("period")),
+                row.getString("class_code"),
+                row.getLocalDateTime("enrollment_date"),
+                EnrollmentStatus.valueOf(row.getString("status")));
+    }
+}
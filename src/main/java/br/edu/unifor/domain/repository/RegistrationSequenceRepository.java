@@ -0,0 +1,81 @@
+package br.edu.unifor.domain.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+
+import br.edu.unifor.domain.registration.RegistrationKind;
+
+/**
+ * Acesso à tabela registration_sequences (faixas de matrícula por tipo e ano).
+ */
+@ApplicationScoped
+public class RegistrationSequenceRepository {
+
+    /** Primeiro sufixo de 5 dígitos. */
+    public static final int FIRST_SUFFIX = 10000;
+
+    private static final String RESERVE_SQL = """
+            INSERT INTO registration_sequences (kind, year_prefix, next_value)
+            VALUES (?, ?, ? + ?)
+            ON CONFLICT (kind, year_prefix)
+            DO UPDATE SET next_value = registration_sequences.next_value + ?
+            RETURNING next_value
+            """;
+
+    @Inject
+    EntityManager entityManager;
+
+    /**
+     * Avança a sequência do tipo/ano em {@code size} posições, em uma única
+     * instrução, e devolve o primeiro sufixo da faixa reservada.
+     * A faixa devolvida pode ultrapassar 99999; quem chama deve tratar o esgotamento.
+     */
+    public int reserve(RegistrationKind kind, String yearPrefix, int size) {
+        return session().doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(RESERVE_SQL)) {
+                statement.setString(1, kind.name());
+                statement.setString(2, yearPrefix);
+                statement.setInt(3, FIRST_SUFFIX);
+                statement.setInt(4, size);
+                statement.setInt(5, size);
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    return result.getInt(1) - size;
+                }
+            }
+        });
+    }
+
+    /**
+     * Matrículas já gravadas dentro da faixa (inclusive), por exemplo as
+     * cadastradas pelos seeds ou pelo gerador aleatório anterior.
+     */
+    public Set<String> findTaken(RegistrationKind kind, String from, String to) {
+        String sql = "SELECT registration FROM " + kind.getTable() + " WHERE registration BETWEEN ? AND ?";
+        return session().doReturningWork(connection -> {
+            Set<String> taken = new HashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, from);
+                statement.setString(2, to);
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        taken.add(result.getString(1));
+                    }
+                }
+            }
+            return taken;
+        });
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+}
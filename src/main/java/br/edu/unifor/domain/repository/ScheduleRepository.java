@@ -12,11 +12,18 @@ import io.quarkus.hibernate.orm.panache.PanacheRepository;
 @ApplicationScoped
 public class ScheduleRepository implements PanacheRepository<Schedule> {
 
+    /**
+     * Lista todos os horários (consulta cacheada)
+     */
+    public List<Schedule> listAllCached() {
+        return CachedQueries.reference(findAll()).list();
+    }
+
     /**
      * Busca horários por dia da semana
      */
     public List<Schedule> findByDayOfWeek(DayOfWeek dayOfWeek) {
-        return list("dayOfWeek", dayOfWeek);
+        return CachedQueries.reference(find("dayOfWeek", dayOfWeek)).list();
     }
 
     /**
@@ -24,13 +31,13 @@ public class ScheduleRepository implements PanacheRepository<Schedule> {
      * Requisito do desafio: filtrar por período
      */
     public List<Schedule> findByPeriod(Period period) {
-        return list("period", period);
+        return CachedQueries.reference(find("period", period)).list();
     }
 
     /**
      * Busca horários de um dia específico em um período específico
      */
     public List<Schedule> findByDayAndPeriod(DayOfWeek dayOfWeek, Period period) {
-        return list("dayOfWeek = ?1 and period = ?2", dayOfWeek, period);
+        return CachedQueries.reference(find("dayOfWeek = ?1 and period = ?2", dayOfWeek, period)).list();
     }
 }
\ No newline at end of file
@@ -1,38 +1,73 @@
 package br.edu.unifor.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityGraph;
+
+import org.hibernate.jpa.SpecHints;
 
 import br.edu.unifor.domain.entity.Student;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 
+/**
+ * Student.course é LAZY. As buscas que alimentam respostas da API usam o
+ * grafo {@link Student#DETAIL_GRAPH} para trazer o curso no mesmo SELECT;
+ * as validações usam findByIdOptional/exists* e não carregam o curso.
+ */
 @ApplicationScoped
 public class StudentRepository implements PanacheRepository<Student> {
 
+    // ========== FETCH PLAN: DETALHE (aluno + curso) ==========
+
+    public Optional<Student> findDetailById(Long id) {
+        return Optional.ofNullable(getEntityManager()
+                .find(Student.class, id, Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())));
+    }
+
+    public List<Student> listAllWithCourse() {
+        return findAll().withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph()).list();
+    }
+
     public Optional<Student> findByEmail(String email) {
-        return find("email", email).firstResultOptional();
+        return find("email", email)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())
+                .firstResultOptional();
     }
 
     public Optional<Student> findByRegistration(String registration) {
-        return find("registration", registration).firstResultOptional();
+        return find("registration", registration)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())
+                .firstResultOptional();
     }
 
     public Optional<Student> findByCpf(String cpf) {
         return find("cpf", cpf).firstResultOptional();
     }
 
+    public List<Student> findByIds(Collection<Long> ids) {
+        return list("id in ?1", ids);
+    }
+
     public List<Student> findByCourse(Long courseId) {
-        return list("course.id", courseId);
+        return find("course.id", courseId)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())
+                .list();
     }
 
     public List<Student> findAllActive() {
-        return list("active", true);
+        return find("active", true)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())
+                .list();
     }
 
     public List<Student> findActiveByCourse(Long courseId) {
-        return list("course.id = ?1 and active = true", courseId);
+        return find("course.id = ?1 and active = true", courseId)
+                .withHint(SpecHints.HINT_SPEC_FETCH_GRAPH, detailGraph())
+                .list();
     }
 
     public boolean existsByRegistration(String registration) {
@@ -51,6 +86,13 @@ public class StudentRepository implements PanacheRepository<Student> {
         return count("course.id = ?1 and active = true", courseId);
     }
 
+    public List<KeyCount> countActiveGroupedByCourse() {
+        return getEntityManager().createQuery("""
+                SELECT new br.edu.unifor.domain.repository.KeyCount(s.course.id, COUNT(s))
+                FROM Student s WHERE s.isActive = true GROUP BY s.course.id""", KeyCount.class)
+                .getResultList();
+    }
+
     // ========== MÉTODOS ADICIONAIS NECESSÁRIOS ==========
 
     /**
@@ -136,4 +178,8 @@ public class StudentRepository implements PanacheRepository<Student> {
                 .setParameter(1, courseId)
                 .getResultList();
     }
-}
\ No newline at end of file
+
+    private EntityGraph<?> detailGraph() {
+        return getEntityManager().getEntityGraph(Student.DETAIL_GRAPH);
+    }
+}
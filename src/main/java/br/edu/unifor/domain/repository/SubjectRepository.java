@@ -25,7 +25,7 @@ public class SubjectRepository implements PanacheRepository<Subject> {
      * Busca disciplina por código
      */
     public Optional<Subject> findByCode(String codigo) {
-        return find("code", codigo).firstResultOptional();
+        return CachedQueries.reference(find("code", codigo)).firstResultOptional();
     }
 
     /**
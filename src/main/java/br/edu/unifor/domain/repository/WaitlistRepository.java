@@ -0,0 +1,97 @@
+package br.edu.unifor.domain.repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+
+import br.edu.unifor.domain.entity.Class.ClassStatus;
+import br.edu.unifor.domain.entity.WaitlistEntry;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
+
+/**
+ * Repository da lista de espera das turmas.
+ */
+@ApplicationScoped
+public class WaitlistRepository implements PanacheRepository<WaitlistEntry> {
+
+    /**
+     * Fila da turma em ordem de atendimento (chegada, desempatada pelo ID), com os alunos.
+     */
+    public List<WaitlistEntry> findByClass(Long classId) {
+        return find("FROM WaitlistEntry w JOIN FETCH w.student WHERE w.classEntity.id = ?1 ORDER BY w.createdAt, w.id", classId)
+                .list();
+    }
+
+    /**
+     * Primeiro aluno da fila da turma.
+     */
+    public Optional<WaitlistEntry> findNext(Long classId) {
+        return find("classEntity.id", Sort.by("createdAt").and("id"), classId).firstResultOptional();
+    }
+
+    /**
+     * Indica se há alunos na fila da turma (vagas liberadas ficam para eles).
+     */
+    public boolean hasEntries(Long classId) {
+        return !getEntityManager()
+                .createQuery("SELECT w.id FROM WaitlistEntry w WHERE w.classEntity.id = ?1", Long.class)
+                .setParameter(1, classId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    /**
+     * Dentre as turmas informadas, as que têm alunos na fila.
+     */
+    public Set<Long> findClassIdsWithEntries(Collection<Long> classIds) {
+        return new HashSet<>(getEntityManager()
+                .createQuery("SELECT DISTINCT w.classEntity.id FROM WaitlistEntry w WHERE w.classEntity.id IN ?1",
+                        Long.class)
+                .setParameter(1, classIds)
+                .getResultList());
+    }
+
+    /**
+     * Turmas ativas com vagas livres e alunos na fila, ou seja, com promoções pendentes.
+     */
+    public List<Long> findClassIdsPendingPromotion() {
+        return getEntityManager()
+                .createQuery("""
+                        SELECT DISTINCT c.id FROM WaitlistEntry w JOIN w.classEntity c
+                        WHERE c.status = ?1 AND c.enrolledStudents < c.maxCapacity""", Long.class)
+                .setParameter(1, ClassStatus.ATIVA)
+                .getResultList();
+    }
+
+    public boolean isWaiting(Long studentId, Long classId) {
+        return count("student.id = ?1 AND classEntity.id = ?2", studentId, classId) > 0;
+    }
+
+    /**
+     * Posição (a partir de 1) da entrada na fila da turma.
+     */
+    public long positionOf(WaitlistEntry entry) {
+        return count("classEntity.id = ?1 AND (createdAt < ?2 OR (createdAt = ?2 AND id <= ?3))",
+                entry.classEntity.id, entry.createdAt, entry.id);
+    }
+
+    /**
+     * Bloqueia a entrada até o fim da transação.
+     *
+     * @return false se a entrada não existe mais
+     */
+    public boolean lock(Long id) {
+        return findByIdOptional(id, LockModeType.PESSIMISTIC_WRITE).isPresent();
+    }
+
+    public long deleteByStudentAndClass(Long studentId, Long classId) {
+        return delete("student.id = ?1 AND classEntity.id = ?2", studentId, classId);
+    }
+}
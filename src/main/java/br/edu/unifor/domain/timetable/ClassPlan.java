@@ -0,0 +1,28 @@
+package br.edu.unifor.domain.timetable;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resultado do {@link ClassPlanner}.
+ *
+ * @param assignments    professor e horário de cada seção alocada
+ * @param unplaced       índices (em {@link PlanningProblem#sections()}) das seções sem alocação viável
+ * @param courseOverlaps pares de turmas de disciplinas diferentes do mesmo curso em horários sobrepostos
+ * @param cost           custo das restrições flexíveis (menor é melhor)
+ */
+public record ClassPlan(List<Assignment> assignments, List<Integer> unplaced, int courseOverlaps, long cost) {
+
+    /**
+     * Menos seções sem alocação primeiro; depois, menor custo.
+     */
+    public static final Comparator<ClassPlan> BEST_FIRST = Comparator
+            .comparingInt((ClassPlan plan) -> plan.unplaced().size())
+            .thenComparingLong(ClassPlan::cost);
+
+    /**
+     * @param section índice da seção em {@link PlanningProblem#sections()}
+     */
+    public record Assignment(int section, Long professorId, Long scheduleId) {
+    }
+}
@@ -0,0 +1,411 @@
+package br.edu.unifor.domain.timetable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Monta a grade de um semestre: escolhe professor e horário para cada seção
+ * de um {@link PlanningProblem}.
+ *
+ * Restrições obrigatórias: o professor é habilitado para a seção, não tem
+ * outra turma (nova ou já existente) em horário sobreposto e não passa do
+ * limite de turmas novas. Restrições flexíveis, somadas no custo:
+ * <ul>
+ * <li>{@value #COURSE_OVERLAP_WEIGHT} por par de turmas de disciplinas
+ * diferentes do mesmo curso em horários sobrepostos (o aluno não conseguiria
+ * cursar as duas);</li>
+ * <li>{@value #SECTION_OVERLAP_WEIGHT} por par de turmas da mesma disciplina e
+ * curso sobrepostas (o aluno perde a alternativa de horário);</li>
+ * <li>a soma dos quadrados das turmas novas por professor, para distribuir a carga.</li>
+ * </ul>
+ *
+ * Cada busca aloca primeiro as seções mais restritas (menos professores
+ * habilitados) no melhor par professor/horário e depois faz busca local: move
+ * a melhor posição seções com sobreposição e, para seções sem alocação,
+ * desaloca as turmas do professor que ocupam o horário escolhido
+ * (elas voltam para a fila). As buscas são independentes (semente diferente)
+ * e rodam em paralelo em um {@link ForkJoinPool}; fica a melhor.
+ *
+ * Os horários são tratados como índices: a sobreposição entre eles é
+ * calculada uma vez com {@link WeeklySlotMask} e, durante a busca, a
+ * disponibilidade de um professor é um contador por horário.
+ */
+public final class ClassPlanner {
+
+    static final int COURSE_OVERLAP_WEIGHT = 10;
+    static final int SECTION_OVERLAP_WEIGHT = 3;
+    static final int LOAD_WEIGHT = 1;
+
+    private static final int EJECTION_ATTEMPTS = 8;
+    private static final int CONFLICT_SAMPLES = 32;
+
+    private final PlanningProblem problem;
+    private final int slotCount;
+    private final int professorCount;
+    private final int sectionCount;
+    private final int maxPerProfessor;
+
+    /** horário -> horários que se sobrepõem a ele (inclusive ele mesmo) */
+    private final int[][] overlapping;
+    /** professor -> 1 nos horários ocupados por turmas já existentes */
+    private final int[][] busyAtStart;
+    /** seção -> professores habilitados */
+    private final int[][] eligible;
+    /** seção -> curso */
+    private final int[] courseOf;
+    /** seção -> par curso/disciplina */
+    private final int[] groupOf;
+    private final int courseCount;
+    private final int groupCount;
+
+    public ClassPlanner(PlanningProblem problem) {
+        this.problem = problem;
+        this.slotCount = problem.slots().size();
+        this.professorCount = problem.professors().size();
+        this.sectionCount = problem.sections().size();
+        this.maxPerProfessor = problem.maxClassesPerProfessor() > 0
+                ? problem.maxClassesPerProfessor()
+                : Integer.MAX_VALUE;
+
+        overlapping = new int[slotCount][];
+        for (int s = 0; s < slotCount; s++) {
+            WeeklySlotMask mask = problem.slots().get(s).mask();
+            overlapping[s] = IntStream.range(0, slotCount)
+                    .filter(other -> mask.intersects(problem.slots().get(other).mask()))
+                    .toArray();
+        }
+
+        busyAtStart = new int[professorCount][slotCount];
+        Map<Long, Integer> professorIndex = new HashMap<>();
+        for (int p = 0; p < professorCount; p++) {
+            PlanningProblem.Teacher teacher = problem.professors().get(p);
+            professorIndex.put(teacher.professorId(), p);
+            for (int s = 0; s < slotCount; s++) {
+                busyAtStart[p][s] = teacher.busy().intersects(problem.slots().get(s).mask()) ? 1 : 0;
+            }
+        }
+
+        int[] everyone = IntStream.range(0, professorCount).toArray();
+        eligible = new int[sectionCount][];
+        courseOf = new int[sectionCount];
+        groupOf = new int[sectionCount];
+        Map<Long, Integer> courses = new HashMap<>();
+        Map<List<Long>, Integer> groups = new HashMap<>();
+        for (int i = 0; i < sectionCount; i++) {
+            PlanningProblem.Section section = problem.sections().get(i);
+            eligible[i] = section.professorIds().isEmpty()
+                    ? everyone
+                    : section.professorIds().stream()
+                            .filter(professorIndex::containsKey)
+                            .mapToInt(professorIndex::get)
+                            .sorted()
+                            .toArray();
+            courseOf[i] = courses.computeIfAbsent(section.courseId(), id -> courses.size());
+            groupOf[i] = groups.computeIfAbsent(List.of(section.courseId(), section.subjectId()), key -> groups.size());
+        }
+        courseCount = courses.size();
+        groupCount = groups.size();
+    }
+
+    /**
+     * Executa {@code searches} buscas em paralelo no pool e devolve a melhor.
+     *
+     * @param iterations movimentos de busca local de cada busca
+     */
+    public ClassPlan solve(int searches, int iterations, ForkJoinPool pool) {
+        return pool.submit(() -> IntStream.range(0, searches)
+                .parallel()
+                .mapToObj(seed -> solve(seed, iterations))
+                .min(ClassPlan.BEST_FIRST)
+                .orElseThrow())
+                .join();
+    }
+
+    /**
+     * Executa uma única busca, determinística para a mesma semente.
+     */
+    public ClassPlan solve(long seed, int iterations) {
+        return new Search(seed).run(iterations);
+    }
+
+    /**
+     * Estado de uma busca. Não é compartilhado entre threads.
+     */
+    private final class Search {
+
+        private final SplittableRandom random;
+
+        private final int[] slotOf = new int[sectionCount];
+        private final int[] professorOf = new int[sectionCount];
+        private final int[][] professorBusy = new int[professorCount][];
+        private final int[] load = new int[professorCount];
+        private final int[][] courseLoad = new int[courseCount][slotCount];
+        private final int[][] groupLoad = new int[groupCount][slotCount];
+        private final List<Integer> pending = new ArrayList<>();
+
+        private long cost;
+        private long overlapCost;
+        private int courseOverlaps;
+
+        private int[] bestSlotOf;
+        private int[] bestProfessorOf;
+        private int bestPending = Integer.MAX_VALUE;
+        private long bestCost = Long.MAX_VALUE;
+        private int bestCourseOverlaps;
+
+        Search(long seed) {
+            random = new SplittableRandom(seed);
+            Arrays.fill(slotOf, -1);
+            Arrays.fill(professorOf, -1);
+            for (int p = 0; p < professorCount; p++) {
+                professorBusy[p] = busyAtStart[p].clone();
+            }
+        }
+
+        ClassPlan run(int iterations) {
+            for (int section : constructionOrder()) {
+                if (!placeBest(section)) {
+                    pending.add(section);
+                }
+            }
+            keepIfBetter();
+
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                if (!pending.isEmpty()) {
+                    repair();
+                } else if (overlapCost > 0) {
+                    relocate(conflictedSection());
+                } else {
+                    break;
+                }
+                keepIfBetter();
+            }
+            return toPlan();
+        }
+
+        /**
+         * Seções com menos professores habilitados primeiro; empates em ordem aleatória.
+         */
+        private List<Integer> constructionOrder() {
+            List<Integer> order = new ArrayList<>(sectionCount);
+            long[] tieBreak = new long[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                order.add(i);
+                tieBreak[i] = random.nextLong();
+            }
+            order.sort(Comparator.<Integer>comparingInt(i -> eligible[i].length).thenComparingLong(i -> tieBreak[i]));
+            return order;
+        }
+
+        /**
+         * Tenta alocar uma seção pendente; se não houver posição livre, desaloca
+         * as turmas que ocupam o horário de um professor habilitado.
+         */
+        private void repair() {
+            int index = random.nextInt(pending.size());
+            int section = pending.get(index);
+            pending.set(index, pending.get(pending.size() - 1));
+            pending.remove(pending.size() - 1);
+
+            if (placeBest(section) || eject(section)) {
+                return;
+            }
+            pending.add(section);
+        }
+
+        private boolean eject(int section) {
+            int[] candidates = eligible[section];
+            if (candidates.length == 0 || slotCount == 0) {
+                return false;
+            }
+            for (int attempt = 0; attempt < EJECTION_ATTEMPTS; attempt++) {
+                int professor = candidates[random.nextInt(candidates.length)];
+                int slot = random.nextInt(slotCount);
+                if (busyAtStart[professor][slot] > 0) {
+                    continue;
+                }
+                List<Integer> blocking = new ArrayList<>();
+                for (int other = 0; other < sectionCount; other++) {
+                    if (professorOf[other] == professor && overlaps(slotOf[other], slot)) {
+                        blocking.add(other);
+                    }
+                }
+                if (load[professor] - blocking.size() >= maxPerProfessor) {
+                    continue;
+                }
+                for (int other : blocking) {
+                    remove(other);
+                    pending.add(other);
+                }
+                add(section, professor, slot);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Move uma seção para a melhor posição disponível (pode ser a atual).
+         */
+        private void relocate(int section) {
+            int professor = professorOf[section];
+            int slot = slotOf[section];
+            remove(section);
+            if (!placeBest(section)) {
+                add(section, professor, slot);
+            }
+        }
+
+        /**
+         * Sorteia uma seção alocada, preferindo as que têm sobreposição com o curso.
+         */
+        private int conflictedSection() {
+            int candidate = -1;
+            for (int sample = 0; sample < CONFLICT_SAMPLES; sample++) {
+                candidate = random.nextInt(sectionCount);
+                if (slotOf[candidate] >= 0 && overlapCostAt(candidate, slotOf[candidate]) > 0) {
+                    return candidate;
+                }
+            }
+            for (int section = 0; section < sectionCount; section++) {
+                if (slotOf[section] >= 0 && overlapCostAt(section, slotOf[section]) > 0) {
+                    return section;
+                }
+            }
+            return candidate;
+        }
+
+        /**
+         * Custo de sobreposição da seção (já alocada) com as demais do curso.
+         */
+        private long overlapCostAt(int section, int slot) {
+            int sameCourse = courseLoad[courseOf[section]][slot] - 1;
+            int sameGroup = groupLoad[groupOf[section]][slot] - 1;
+            return (long) COURSE_OVERLAP_WEIGHT * (sameCourse - sameGroup) + (long) SECTION_OVERLAP_WEIGHT * sameGroup;
+        }
+
+        /**
+         * Aloca a seção no par professor/horário de menor custo; empates são sorteados.
+         *
+         * @return false se nenhum professor habilitado estiver livre em algum horário
+         */
+        private boolean placeBest(int section) {
+            int[] candidates = eligible[section];
+            long best = Long.MAX_VALUE;
+            int bestProfessor = -1;
+            int bestSlot = -1;
+            int ties = 0;
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                long slotCost = slotCost(section, slot);
+                if (slotCost + LOAD_WEIGHT > best) {
+                    continue;
+                }
+                for (int professor : candidates) {
+                    if (professorBusy[professor][slot] > 0 || load[professor] >= maxPerProfessor) {
+                        continue;
+                    }
+                    long candidateCost = slotCost + LOAD_WEIGHT * (2L * load[professor] + 1);
+                    if (candidateCost < best) {
+                        best = candidateCost;
+                        bestProfessor = professor;
+                        bestSlot = slot;
+                        ties = 1;
+                    } else if (candidateCost == best && random.nextInt(++ties) == 0) {
+                        bestProfessor = professor;
+                        bestSlot = slot;
+                    }
+                }
+            }
+
+            if (bestProfessor < 0) {
+                return false;
+            }
+            add(section, bestProfessor, bestSlot);
+            return true;
+        }
+
+        /**
+         * Custo de sobreposição de colocar a seção no horário, com as alocações atuais.
+         */
+        private long slotCost(int section, int slot) {
+            int sameCourse = courseLoad[courseOf[section]][slot];
+            int sameGroup = groupLoad[groupOf[section]][slot];
+            return (long) COURSE_OVERLAP_WEIGHT * (sameCourse - sameGroup) + (long) SECTION_OVERLAP_WEIGHT * sameGroup;
+        }
+
+        private void add(int section, int professor, int slot) {
+            int course = courseOf[section];
+            int group = groupOf[section];
+            long slotCost = slotCost(section, slot);
+            overlapCost += slotCost;
+            cost += slotCost + LOAD_WEIGHT * (2L * load[professor] + 1);
+            courseOverlaps += courseLoad[course][slot] - groupLoad[group][slot];
+
+            for (int other : overlapping[slot]) {
+                professorBusy[professor][other]++;
+                courseLoad[course][other]++;
+                groupLoad[group][other]++;
+            }
+            load[professor]++;
+            slotOf[section] = slot;
+            professorOf[section] = professor;
+        }
+
+        private void remove(int section) {
+            int course = courseOf[section];
+            int group = groupOf[section];
+            int slot = slotOf[section];
+            int professor = professorOf[section];
+
+            for (int other : overlapping[slot]) {
+                professorBusy[professor][other]--;
+                courseLoad[course][other]--;
+                groupLoad[group][other]--;
+            }
+            load[professor]--;
+            slotOf[section] = -1;
+            professorOf[section] = -1;
+
+            long slotCost = slotCost(section, slot);
+            overlapCost -= slotCost;
+            cost -= slotCost + LOAD_WEIGHT * (2L * load[professor] + 1);
+            courseOverlaps -= courseLoad[course][slot] - groupLoad[group][slot];
+        }
+
+        private boolean overlaps(int slot, int other) {
+            return slot >= 0 && Arrays.binarySearch(overlapping[slot], other) >= 0;
+        }
+
+        private void keepIfBetter() {
+            if (pending.size() < bestPending || (pending.size() == bestPending && cost < bestCost)) {
+                bestPending = pending.size();
+                bestCost = cost;
+                bestCourseOverlaps = courseOverlaps;
+                bestSlotOf = slotOf.clone();
+                bestProfessorOf = professorOf.clone();
+            }
+        }
+
+        private ClassPlan toPlan() {
+            List<ClassPlan.Assignment> assignments = new ArrayList<>();
+            List<Integer> unplaced = new ArrayList<>();
+            for (int section = 0; section < sectionCount; section++) {
+                if (bestSlotOf[section] < 0) {
+                    unplaced.add(section);
+                    continue;
+                }
+                assignments.add(new ClassPlan.Assignment(section,
+                        problem.professors().get(bestProfessorOf[section]).professorId(),
+                        problem.slots().get(bestSlotOf[section]).scheduleId()));
+            }
+            return new ClassPlan(assignments, unplaced, bestCourseOverlaps, bestCost);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.edu.unifor.domain.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Projeção mínima de uma turma e seu horário, usada para montar os índices
+ * de ocupação sem carregar o grafo completo da entidade Class.
+ *
+ * @param ownerId ID do dono da agenda (aluno ou professor)
+ * @param classId ID da turma
+ */
+public record ClassSlot(Long ownerId, Long classId, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+
+    public WeeklySlotMask toMask() {
+        return WeeklySlotMask.of(dayOfWeek, startTime, endTime);
+    }
+}
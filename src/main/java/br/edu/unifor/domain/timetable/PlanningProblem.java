@@ -0,0 +1,37 @@
+package br.edu.unifor.domain.timetable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entrada do {@link ClassPlanner}: horários e professores disponíveis e as
+ * turmas (seções) a abrir no semestre.
+ *
+ * @param maxClassesPerProfessor limite de turmas novas por professor (0 = sem limite)
+ */
+public record PlanningProblem(
+        List<Slot> slots,
+        List<Teacher> professors,
+        List<Section> sections,
+        int maxClassesPerProfessor) {
+
+    /**
+     * Horário que pode receber turmas.
+     */
+    public record Slot(Long scheduleId, WeeklySlotMask mask) {
+    }
+
+    /**
+     * Professor disponível, com a ocupação que ele já tem (turmas ativas).
+     */
+    public record Teacher(Long professorId, WeeklySlotMask busy) {
+    }
+
+    /**
+     * Turma a abrir para uma disciplina de um curso.
+     *
+     * @param professorIds professores habilitados; vazio = qualquer professor do problema
+     */
+    public record Section(Long courseId, Long subjectId, int capacity, Set<Long> professorIds) {
+    }
+}
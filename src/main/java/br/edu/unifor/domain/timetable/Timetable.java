@@ -0,0 +1,73 @@
+package br.edu.unifor.domain.timetable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Agenda semanal imutável de um aluno ou professor: turmas ocupadas e a
+ * união de suas máscaras. Alterações retornam uma nova instância, o que
+ * permite publicá-la em mapas concorrentes sem locks de leitura.
+ */
+public final class Timetable {
+
+    public static final Timetable EMPTY = new Timetable(Map.of(), WeeklySlotMask.EMPTY);
+
+    private final Map<Long, WeeklySlotMask> classes;
+    private final WeeklySlotMask occupied;
+
+    private Timetable(Map<Long, WeeklySlotMask> classes, WeeklySlotMask occupied) {
+        this.classes = classes;
+        this.occupied = occupied;
+    }
+
+    public Timetable with(Long classId, WeeklySlotMask mask) {
+        Map<Long, WeeklySlotMask> copy = new HashMap<>(classes);
+        copy.put(classId, mask);
+        return of(copy);
+    }
+
+    public Timetable without(Long classId) {
+        if (!classes.containsKey(classId)) {
+            return this;
+        }
+        Map<Long, WeeklySlotMask> copy = new HashMap<>(classes);
+        copy.remove(classId);
+        return of(copy);
+    }
+
+    /**
+     * Verifica se a máscara conflita com alguma turma da agenda.
+     *
+     * @param excludeClassId turma a ignorar (para updates), pode ser null
+     */
+    public boolean conflictsWith(WeeklySlotMask mask, Long excludeClassId) {
+        if (!occupied.intersects(mask)) {
+            return false;
+        }
+        if (excludeClassId == null || !classes.containsKey(excludeClassId)) {
+            return true;
+        }
+        for (Map.Entry<Long, WeeklySlotMask> entry : classes.entrySet()) {
+            if (!entry.getKey().equals(excludeClassId) && entry.getValue().intersects(mask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public WeeklySlotMask getOccupied() {
+        return occupied;
+    }
+
+    public Map<Long, WeeklySlotMask> getClasses() {
+        return classes;
+    }
+
+    private static Timetable of(Map<Long, WeeklySlotMask> classes) {
+        WeeklySlotMask occupied = WeeklySlotMask.EMPTY;
+        for (WeeklySlotMask mask : classes.values()) {
+            occupied = occupied.or(mask);
+        }
+        return new Timetable(Map.copyOf(classes), occupied);
+    }
+}
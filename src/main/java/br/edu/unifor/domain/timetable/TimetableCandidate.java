@@ -0,0 +1,7 @@
+package br.edu.unifor.domain.timetable;
+
+/**
+ * Turma candidata a uma disciplina na montagem de grade do aluno.
+ */
+public record TimetableCandidate(Long classId, WeeklySlotMask mask, int availableSlots) {
+}
@@ -0,0 +1,136 @@
+package br.edu.unifor.domain.timetable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Encontra as melhores grades sem conflito para um conjunto de disciplinas,
+ * escolhendo uma turma candidata por disciplina.
+ *
+ * Backtracking sobre as máscaras semanais ({@link WeeklySlotMask}), começando
+ * pelas disciplinas com menos candidatas. Podas:
+ * <ul>
+ * <li>turma sem vagas ou com horário sobreposto ao já escolhido;</li>
+ * <li>verificação adiante: alguma disciplina restante ficou sem candidata compatível;</li>
+ * <li>com {@code limit} grades guardadas, ramos que já usam mais dias que a pior
+ * delas (dias só aumentam ao acrescentar turmas).</li>
+ * </ul>
+ * As grades são ordenadas por {@link TimetableOptions.Option#BEST_FIRST}. A busca
+ * para ao fim do prazo e devolve as melhores encontradas até ali.
+ */
+public final class TimetableOptionFinder {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final List<List<TimetableCandidate>> candidates;
+    private final WeeklySlotMask occupied;
+
+    /**
+     * @param candidates turmas candidatas de cada disciplina, na ordem pedida
+     * @param occupied   horários já ocupados pelo aluno
+     */
+    public TimetableOptionFinder(List<List<TimetableCandidate>> candidates, WeeklySlotMask occupied) {
+        this.candidates = candidates;
+        this.occupied = occupied;
+    }
+
+    /**
+     * @param limit       quantidade máxima de grades devolvidas
+     * @param budgetNanos tempo máximo de busca
+     */
+    public TimetableOptions find(int limit, long budgetNanos) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("O limite de grades deve ser positivo");
+        }
+        return new Search(limit, System.nanoTime() + budgetNanos).run();
+    }
+
+    private final class Search {
+
+        private final int limit;
+        private final long deadline;
+        private final int[] order;
+        private final int[] chosen;
+        private final PriorityQueue<TimetableOptions.Option> best;
+
+        private long explored;
+        private boolean stopped;
+
+        Search(int limit, long deadline) {
+            this.limit = limit;
+            this.deadline = deadline;
+            this.order = IntStream.range(0, candidates.size())
+                    .boxed()
+                    .sorted(Comparator.comparingInt(subject -> candidates.get(subject).size()))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            this.chosen = new int[candidates.size()];
+            this.best = new PriorityQueue<>(TimetableOptions.Option.BEST_FIRST.reversed());
+        }
+
+        TimetableOptions run() {
+            visit(0, occupied, Integer.MAX_VALUE);
+            List<TimetableOptions.Option> options = new ArrayList<>(best);
+            options.sort(TimetableOptions.Option.BEST_FIRST);
+            return new TimetableOptions(options, explored, !stopped);
+        }
+
+        private void visit(int depth, WeeklySlotMask mask, int minSeats) {
+            if (++explored % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                stopped = true;
+                return;
+            }
+            if (best.size() == limit && mask.days() > best.peek().days()) {
+                return;
+            }
+            if (depth == order.length) {
+                offer(mask, minSeats);
+                return;
+            }
+            for (int next = depth + 1; next < order.length; next++) {
+                if (!anyCompatible(order[next], mask)) {
+                    return;
+                }
+            }
+
+            int subject = order[depth];
+            List<TimetableCandidate> options = candidates.get(subject);
+            for (int i = 0; i < options.size() && !stopped; i++) {
+                TimetableCandidate candidate = options.get(i);
+                if (candidate.availableSlots() <= 0 || mask.intersects(candidate.mask())) {
+                    continue;
+                }
+                chosen[subject] = i;
+                visit(depth + 1, mask.or(candidate.mask()), Math.min(minSeats, candidate.availableSlots()));
+            }
+        }
+
+        private boolean anyCompatible(int subject, WeeklySlotMask mask) {
+            for (TimetableCandidate candidate : candidates.get(subject)) {
+                if (candidate.availableSlots() > 0 && !mask.intersects(candidate.mask())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void offer(WeeklySlotMask mask, int minSeats) {
+            List<Long> classIds = new ArrayList<>(chosen.length);
+            for (int subject = 0; subject < chosen.length; subject++) {
+                classIds.add(candidates.get(subject).get(chosen[subject]).classId());
+            }
+            TimetableOptions.Option option = new TimetableOptions.Option(List.copyOf(classIds),
+                    mask.days(), mask.idleMinutes(), minSeats);
+
+            if (best.size() < limit) {
+                best.add(option);
+            } else if (TimetableOptions.Option.BEST_FIRST.compare(option, best.peek()) < 0) {
+                best.poll();
+                best.add(option);
+            }
+        }
+    }
+}
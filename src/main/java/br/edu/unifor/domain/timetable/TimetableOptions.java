@@ -0,0 +1,43 @@
+package br.edu.unifor.domain.timetable;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resultado do {@link TimetableOptionFinder}.
+ *
+ * @param explored combinações parciais visitadas
+ * @param complete false se o tempo acabou antes de percorrer todas as combinações
+ */
+public record TimetableOptions(List<Option> options, long explored, boolean complete) {
+
+    /**
+     * Uma grade sem conflitos, com uma turma por disciplina.
+     *
+     * @param classIds          turmas, na ordem das disciplinas pedidas
+     * @param days              dias da semana com aula
+     * @param idleMinutes       janelas entre aulas no mesmo dia, somadas
+     * @param minAvailableSlots menor número de vagas entre as turmas escolhidas
+     */
+    public record Option(List<Long> classIds, int days, int idleMinutes, int minAvailableSlots) {
+
+        /**
+         * Menos dias, menos janelas e mais folga de vagas primeiro.
+         */
+        public static final Comparator<Option> BEST_FIRST = Comparator
+                .comparingInt(Option::days)
+                .thenComparingInt(Option::idleMinutes)
+                .thenComparing(Comparator.comparingInt(Option::minAvailableSlots).reversed())
+                .thenComparing(Option::classIds, Option::compareIds);
+
+        private static int compareIds(List<Long> first, List<Long> second) {
+            for (int i = 0; i < Math.min(first.size(), second.size()); i++) {
+                int comparison = first.get(i).compareTo(second.get(i));
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return Integer.compare(first.size(), second.size());
+        }
+    }
+}
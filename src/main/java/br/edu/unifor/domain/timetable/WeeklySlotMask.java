@@ -0,0 +1,184 @@
+package br.edu.unifor.domain.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import br.edu.unifor.domain.entity.Schedule;
+
+/**
+ * Representação compacta da ocupação semanal em bitset.
+ *
+ * A semana é dividida em blocos de 10 minutos (7 dias x 144 blocos = 1008 bits,
+ * 16 longs). Um horário ocupa todos os blocos entre o início (arredondado para
+ * baixo) e o término (arredondado para cima). Para horários na grade de 10
+ * minutos ({@link #isOnGrid}), dois horários se sobrepõem se e somente se suas
+ * máscaras têm algum bit em comum. Fora da grade o arredondamento é para fora:
+ * uma sobreposição real nunca se perde, mas horários vizinhos como 08:00–09:05
+ * e 09:05–10:00 aparecem como conflito. Por isso o cadastro de horários só
+ * aceita horários na grade ({@link #requireOnGrid}).
+ *
+ * Instâncias são imutáveis.
+ */
+public final class WeeklySlotMask {
+
+    public static final int SLOT_MINUTES = 10;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int WORDS = (7 * SLOTS_PER_DAY + 63) / 64;
+
+    public static final WeeklySlotMask EMPTY = new WeeklySlotMask(new long[WORDS]);
+
+    private final long[] words;
+
+    private WeeklySlotMask(long[] words) {
+        this.words = words;
+    }
+
+    public static WeeklySlotMask of(Schedule schedule) {
+        return of(schedule.dayOfWeek, schedule.startTime, schedule.endTime);
+    }
+
+    public static WeeklySlotMask of(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        int dayOffset = (dayOfWeek.getValue() - 1) * SLOTS_PER_DAY;
+        int startMinute = startTime.getHour() * 60 + startTime.getMinute();
+        int endMinute = endTime.getHour() * 60 + endTime.getMinute();
+        if (endMinute <= startMinute) {
+            endMinute = startMinute + 1;
+        }
+
+        int from = dayOffset + startMinute / SLOT_MINUTES;
+        int to = dayOffset + (endMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+
+        long[] words = new long[WORDS];
+        for (int bit = from; bit < to; bit++) {
+            words[bit >>> 6] |= 1L << bit;
+        }
+        return new WeeklySlotMask(words);
+    }
+
+    /**
+     * Indica se o horário cai exatamente no início de um bloco.
+     */
+    public static boolean isOnGrid(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0 && time.getMinute() % SLOT_MINUTES == 0;
+    }
+
+    /**
+     * Recusa início ou término fora da grade de {@value #SLOT_MINUTES} minutos.
+     *
+     * @throws IllegalArgumentException se algum dos dois estiver fora da grade
+     */
+    public static void requireOnGrid(LocalTime startTime, LocalTime endTime) {
+        if (!isOnGrid(startTime) || !isOnGrid(endTime)) {
+            throw new IllegalArgumentException(String.format(
+                    "Início e término do horário devem ser múltiplos de %d minutos (recebido %s às %s)",
+                    SLOT_MINUTES, startTime, endTime));
+        }
+    }
+
+    /**
+     * Verifica se existe algum bloco de tempo em comum.
+     */
+    public boolean intersects(WeeklySlotMask other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public WeeklySlotMask or(WeeklySlotMask other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new WeeklySlotMask(result);
+    }
+
+    /**
+     * Dias da semana com algum bloco ocupado.
+     */
+    public int days() {
+        int days = 0;
+        for (int day = 0; day < 7; day++) {
+            if (countBetween(day * SLOTS_PER_DAY, (day + 1) * SLOTS_PER_DAY) > 0) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Minutos livres entre o primeiro e o último bloco ocupado de cada dia (janelas), somados.
+     */
+    public int idleMinutes() {
+        int idle = 0;
+        for (int day = 0; day < 7; day++) {
+            int from = day * SLOTS_PER_DAY;
+            int to = from + SLOTS_PER_DAY;
+            int occupied = countBetween(from, to);
+            if (occupied > 0) {
+                idle += (lastBetween(from, to) - firstBetween(from, to) + 1 - occupied) * SLOT_MINUTES;
+            }
+        }
+        return idle;
+    }
+
+    private int countBetween(int from, int to) {
+        int count = 0;
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            count += Long.bitCount(words[word] & rangeMask(word, from, to));
+        }
+        return count;
+    }
+
+    private int firstBetween(int from, int to) {
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long bits = words[word] & rangeMask(word, from, to);
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    private int lastBetween(int from, int to) {
+        for (int word = (to - 1) >>> 6; word >= from >>> 6; word--) {
+            long bits = words[word] & rangeMask(word, from, to);
+            if (bits != 0) {
+                return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bits da palavra que caem no intervalo [from, to).
+     */
+    private static long rangeMask(int word, int from, int to) {
+        int start = Math.max(from - (word << 6), 0);
+        int end = Math.min(to - (word << 6), 64);
+        long upper = end == 64 ? -1L : (1L << end) - 1;
+        return upper & (-1L << start);
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeeklySlotMask other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,32 @@
+package br.edu.unifor.infrastructure.bulkhead;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Ocupa uma vaga do {@link DatabaseBulkhead} durante a execução do método.
+ *
+ * Prioridade abaixo da do {@code @Transactional}, para que a vaga seja obtida
+ * antes de abrir a transação e só devolvida depois do commit.
+ */
+@Bulkheaded
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class BulkheadInterceptor {
+
+    @Inject
+    DatabaseBulkhead bulkhead;
+
+    @AroundInvoke
+    Object around(InvocationContext context) throws Exception {
+        bulkhead.acquire();
+        try {
+            return context.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
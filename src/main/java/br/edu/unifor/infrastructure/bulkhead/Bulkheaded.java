@@ -0,0 +1,19 @@
+package br.edu.unifor.infrastructure.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Executa os métodos anotados (ou todos os da classe) dentro do {@link DatabaseBulkhead}.
+ *
+ * Usado nos controllers que rodam em virtual threads ({@code @RunOnVirtualThread}).
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkheaded {
+}
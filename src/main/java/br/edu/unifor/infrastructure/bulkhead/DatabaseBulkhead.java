@@ -0,0 +1,82 @@
+package br.edu.unifor.infrastructure.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import br.edu.unifor.infrastructure.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limita quantas requisições usam o banco ao mesmo tempo.
+ *
+ * Com os endpoints em virtual threads não há mais o teto do worker pool: sem
+ * este semáforo, milhares de requisições simultâneas disputariam as conexões
+ * do Agroal ({@code quarkus.datasource.jdbc.max-size}) e estourariam o timeout
+ * de aquisição. Aqui elas esperam em fila justa (FIFO) por até
+ * {@code academic.db-bulkhead.acquire-timeout}; depois disso a requisição é
+ * recusada com 503.
+ */
+@ApplicationScoped
+public class DatabaseBulkhead {
+
+    @ConfigProperty(name = "academic.db-bulkhead.permits")
+    int permits;
+
+    @ConfigProperty(name = "academic.db-bulkhead.acquire-timeout")
+    Duration acquireTimeout;
+
+    @Inject
+    MeterRegistry registry;
+
+    private Semaphore semaphore;
+
+    @PostConstruct
+    void init() {
+        semaphore = new Semaphore(permits, true);
+        Gauge.builder("academic.db.bulkhead.available", this, DatabaseBulkhead::available)
+                .description("Vagas livres do bulkhead do banco")
+                .register(registry);
+        Gauge.builder("academic.db.bulkhead.queued", this, DatabaseBulkhead::queued)
+                .description("Requisições aguardando vaga do bulkhead do banco")
+                .register(registry);
+    }
+
+    /**
+     * Ocupa uma vaga, aguardando até o timeout configurado.
+     *
+     * @throws DatabaseBusyException se nenhuma vaga for liberada a tempo
+     */
+    public void acquire() {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new DatabaseBusyException(permits, acquireTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException(permits, acquireTimeout);
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    /**
+     * Requisições aguardando vaga no momento.
+     */
+    public int queued() {
+        return semaphore.getQueueLength();
+    }
+
+    public int available() {
+        return semaphore.availablePermits();
+    }
+}
@@ -0,0 +1,21 @@
+package br.edu.unifor.infrastructure.exception;
+
+import java.time.Duration;
+
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String reason, Duration retryAfter) {
+        super(String.format(
+            "Muitas matrículas simultâneas (%s). Tente novamente em %d s.",
+            reason,
+            retryAfter.toSeconds()
+        ));
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -14,4 +14,14 @@ public class AlreadyEnrolledException extends RuntimeException {
             className
         ));
     }
-}
\ No newline at end of file
+
+    public AlreadyEnrolledException(String studentName, String className, Object status) {
+        super(String.format(
+            "O aluno '%s' já possui matrícula na turma '%s' (status %s). " +
+            "Não é permitido matricular de novo na mesma turma.",
+            studentName,
+            className,
+            status
+        ));
+    }
+}
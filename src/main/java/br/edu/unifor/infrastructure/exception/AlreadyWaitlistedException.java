@@ -0,0 +1,8 @@
+package br.edu.unifor.infrastructure.exception;
+
+public class AlreadyWaitlistedException extends RuntimeException {
+
+    public AlreadyWaitlistedException(String studentName, String classCode) {
+        super(String.format("O aluno '%s' já está na lista de espera da turma '%s'.", studentName, classCode));
+    }
+}
@@ -8,9 +8,21 @@ public class ClassFullException extends RuntimeException {
     
     public ClassFullException(String classCode, int maxCapacity) {
         super(String.format(
-            "A turma '%s' está com capacidade máxima (%d alunos). Não há vagas disponíveis.",
+            "A turma '%s' está com capacidade máxima (%d alunos). Não há vagas disponíveis; " +
+            "entre na lista de espera para ser matriculado quando uma vaga abrir.",
             classCode,
             maxCapacity
         ));
     }
+
+    /**
+     * Vaga liberada em turma com lista de espera: ela é reservada para a fila.
+     */
+    public static ClassFullException heldForWaitlist(String classCode) {
+        return new ClassFullException(String.format(
+            "A turma '%s' tem alunos na lista de espera e as vagas liberadas vão para a fila. " +
+            "Entre na lista de espera para ser matriculado quando chegar a sua vez.",
+            classCode
+        ));
+    }
 }
\ No newline at end of file
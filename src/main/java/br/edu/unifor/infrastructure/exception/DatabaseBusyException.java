@@ -0,0 +1,14 @@
+package br.edu.unifor.infrastructure.exception;
+
+import java.time.Duration;
+
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(int permits, Duration waited) {
+        super(String.format(
+            "Servidor ocupado: as %d conexões com o banco seguem em uso após %d ms. Tente novamente.",
+            permits,
+            waited.toMillis()
+        ));
+    }
+}
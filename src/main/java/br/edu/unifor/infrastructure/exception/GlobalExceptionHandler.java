@@ -39,6 +39,19 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
         } else if (isBadRequestException(exception)) {
             errorResponse = createErrorResponse(400, exception.getMessage());
             
+        } else if (exception instanceof AdmissionRejectedException) {
+            AdmissionRejectedException rejected = (AdmissionRejectedException) exception;
+            return Response.status(429)
+                    .header("Retry-After", Math.max(1, rejected.getRetryAfter().toSeconds()))
+                    .entity(createErrorResponse(429, exception.getMessage()))
+                    .build();
+            
+        } else if (exception instanceof DatabaseBusyException) {
+            return Response.status(503)
+                    .header("Retry-After", 1)
+                    .entity(createErrorResponse(503, exception.getMessage()))
+                    .build();
+            
         } else {
             errorResponse = createErrorResponse(
                 500, 
@@ -61,7 +74,8 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
                e instanceof ClassNotFoundException ||
                e instanceof CoordinatorNotFoundException ||
                e instanceof CourseNotFoundException ||
-               e instanceof EnrollmentNotFoundException;
+               e instanceof EnrollmentNotFoundException ||
+               e instanceof WaitlistEntryNotFoundException;
     }
 
     /**
@@ -71,6 +85,7 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
         return e instanceof EmailAlreadyExistException ||
                e instanceof CpfAlreadyExistsException ||
                e instanceof AlreadyEnrolledException ||
+               e instanceof AlreadyWaitlistedException ||
                e instanceof ClassFullException ||
                e instanceof ProfessorScheduleConflictException ||
                e instanceof StudentScheduleConflictException ||
@@ -0,0 +1,8 @@
+package br.edu.unifor.infrastructure.exception;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+
+    public WaitlistEntryNotFoundException(Long studentId, Long classId) {
+        super("Aluno " + studentId + " não está na lista de espera da turma " + classId);
+    }
+}
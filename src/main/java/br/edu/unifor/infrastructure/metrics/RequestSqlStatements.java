@@ -0,0 +1,22 @@
+package br.edu.unifor.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Quantidade de comandos SQL preparados pelo Hibernate na requisição corrente.
+ */
+@RequestScoped
+public class RequestSqlStatements {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    void increment() {
+        count.incrementAndGet();
+    }
+
+    public int count() {
+        return count.get();
+    }
+}
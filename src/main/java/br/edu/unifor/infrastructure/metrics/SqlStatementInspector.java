@@ -0,0 +1,29 @@
+package br.edu.unifor.infrastructure.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+
+/**
+ * Conta cada comando SQL preparado pelo Hibernate na requisição HTTP corrente.
+ * Fora de uma requisição (jobs agendados, outbox) o comando não é contado.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class SqlStatementInspector implements StatementInspector {
+
+    @Inject
+    RequestSqlStatements statements;
+
+    @Override
+    public String inspect(String sql) {
+        if (Arc.container().requestContext().isActive()) {
+            statements.increment();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,43 @@
+package br.edu.unifor.infrastructure.metrics;
+
+import jakarta.inject.Inject;
+
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registra, por endpoint, quantos comandos SQL cada requisição executou
+ * ({@code http_server_sql_statements}, com as tags {@code class} e {@code method}
+ * do controller).
+ *
+ * Um endpoint cuja média sobe com o tamanho da resposta indica N+1.
+ * Respostas em streaming (ex.: exportação NDJSON) só contam os comandos
+ * executados antes do início do envio.
+ */
+public class SqlStatementMetricsFilter {
+
+    private static final String CONTROLLER_PACKAGE = "br.edu.unifor.api.controller";
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    RequestSqlStatements statements;
+
+    @ServerResponseFilter
+    public void record(SimpleResourceInfo resource) {
+        if (resource == null || resource.getResourceClass() == null
+                || !resource.getResourceClass().getPackageName().equals(CONTROLLER_PACKAGE)) {
+            return;
+        }
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("Comandos SQL executados por requisição")
+                .tag("class", resource.getResourceClass().getSimpleName())
+                .tag("method", resource.getMethodName())
+                .register(registry)
+                .record(statements.count());
+    }
+}
@@ -0,0 +1,61 @@
+package br.edu.unifor.infrastructure.transaction;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Registra ações a serem executadas ao final da transação JTA corrente.
+ *
+ * Usado pelos componentes em memória (contadores, índices, caches) que precisam
+ * refletir apenas o que de fato foi gravado no banco.
+ * Sem transação ativa, a ação de commit é executada imediatamente.
+ */
+@ApplicationScoped
+public class TransactionHooks {
+
+    @Inject
+    TransactionSynchronizationRegistry registry;
+
+    /**
+     * Executa a ação somente se a transação corrente for confirmada.
+     */
+    public void afterCommit(Runnable action) {
+        if (!isTransactionActive()) {
+            action.run();
+            return;
+        }
+        registry.registerInterposedSynchronization(new AfterCompletion(action, true));
+    }
+
+    /**
+     * Executa a ação somente se a transação corrente for desfeita.
+     */
+    public void afterRollback(Runnable action) {
+        if (!isTransactionActive()) {
+            return;
+        }
+        registry.registerInterposedSynchronization(new AfterCompletion(action, false));
+    }
+
+    private boolean isTransactionActive() {
+        return registry.getTransactionKey() != null
+                && registry.getTransactionStatus() == Status.STATUS_ACTIVE;
+    }
+
+    private record AfterCompletion(Runnable action, boolean onCommit) implements Synchronization {
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if ((status == Status.STATUS_COMMITTED) == onCommit) {
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+-- ============================================
+-- R__seed_load_test.sql
+-- Seeds: massa para o teste de carga da semana de matrícula
+-- ============================================
+-- Carregado apenas no perfil %loadtest (quarkus.flyway.locations).
+-- Segue o padrão de V6 (alunos) e V8 (turmas), em escala, com os volumes
+-- vindos dos placeholders ${loadtest_students}, ${loadtest_classes} e
+-- ${loadtest_class_capacity}. Matrículas (V9) não são semeadas: elas são
+-- criadas pelo próprio gerador de carga via POST /enrollments.
+--
+-- Alunos e professores: matrícula 99XXXXX e turmas: código CARGA-N-2099.1,
+-- para não colidir com os dados reais. Idempotente (ON CONFLICT DO NOTHING);
+-- aumentar os volumes e reiniciar apenas acrescenta as linhas que faltam.
+--
+-- A turma N usa o horário N % (horários) e o professor de carga
+-- N / (horários): cada professor recebe uma semana de horários distintos, sem
+-- repetir horário. Os 6 professores de V3 não bastam (6 x 30 horários < turmas),
+-- então são semeados professores de carga suficientes para o volume de turmas.
+-- DEPENDENCIES: V2 (subjects), V4 (schedules), V5 (courses)
+-- ============================================
+
+WITH course_ids AS (SELECT array_agg(id ORDER BY id) AS ids FROM courses)
+INSERT INTO students (registration, name, email, cpf, phone, course_id, active)
+SELECT '99' || (10000 + g),
+       'Aluno Carga ' || g,
+       'carga' || g || '@aluno.unifor.br',
+       (90000000000 + g)::text,
+       '85900000000',
+       c.ids[1 + g % cardinality(c.ids)],
+       true
+FROM generate_series(1, ${loadtest_students}) AS g, course_ids c
+ON CONFLICT DO NOTHING;
+
+INSERT INTO professors (registration, name, email, title, department)
+SELECT '99' || (10000 + g),
+       'Professor Carga ' || g,
+       'professor.carga' || g || '@unifor.br',
+       'Mestre',
+       'Ciência da Computação'
+FROM generate_series(1, ${loadtest_classes} / (SELECT count(*) FROM schedules) + 1) AS g
+ON CONFLICT DO NOTHING;
+
+WITH subject_ids AS (SELECT array_agg(id ORDER BY id) AS ids FROM subjects),
+     professor_ids AS (SELECT array_agg(id ORDER BY id) AS ids FROM professors WHERE registration LIKE '99%'),
+     schedule_ids AS (SELECT array_agg(id ORDER BY id) AS ids FROM schedules),
+     course_ids AS (SELECT array_agg(id ORDER BY id) AS ids FROM courses)
+INSERT INTO classes (code, subject_id, professor_id, schedule_id, course_id, max_capacity, semester, status)
+SELECT 'CARGA-' || g || '-2099.1',
+       s.ids[1 + g % cardinality(s.ids)],
+       p.ids[1 + g / cardinality(h.ids)],
+       h.ids[1 + g % cardinality(h.ids)],
+       c.ids[1 + g % cardinality(c.ids)],
+       ${loadtest_class_capacity},
+       '2099.1',
+       'ATIVA'
+FROM generate_series(1, ${loadtest_classes}) AS g, subject_ids s, professor_ids p, schedule_ids h, course_ids c
+ON CONFLICT DO NOTHING;
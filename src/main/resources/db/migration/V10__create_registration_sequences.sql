@@ -0,0 +1,16 @@
+-- ============================================
+-- V10__create_registration_sequences.sql
+-- Faixas de matrícula reservadas por tipo de cadastro e ano
+-- ============================================
+
+CREATE TABLE registration_sequences (
+    kind VARCHAR(20) NOT NULL,
+    year_prefix CHAR(2) NOT NULL,
+    next_value INTEGER NOT NULL,
+
+    CONSTRAINT pk_registration_sequences PRIMARY KEY (kind, year_prefix),
+    CONSTRAINT registration_sequences_kind CHECK (kind IN ('STUDENT', 'PROFESSOR', 'COORDINATOR'))
+);
+
+COMMENT ON TABLE registration_sequences IS 'Next free registration suffix per kind and year; the application reserves blocks of suffixes and hands them out from memory';
+COMMENT ON COLUMN registration_sequences.next_value IS 'First suffix (10000-99999) not yet reserved for this kind and year';
@@ -0,0 +1,16 @@
+-- ============================================
+-- V11__create_outbox_events.sql
+-- Outbox dos eventos de domínio (matrículas e turmas)
+-- ============================================
+
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY DEFAULT nextval('outbox_events_seq'),
+    event_type VARCHAR(30) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE outbox_events IS 'Domain events written in the same transaction as the change; the dispatcher deletes them in batches and publishes them on the Vert.x event bus';
+COMMENT ON COLUMN outbox_events.payload IS 'JSON of br.edu.unifor.domain.event.DomainEvent';
@@ -0,0 +1,23 @@
+-- ============================================
+-- V12__create_waitlist_entries.sql
+-- Lista de espera das turmas cheias
+-- ============================================
+
+CREATE SEQUENCE waitlist_entries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE waitlist_entries (
+    id BIGINT PRIMARY KEY DEFAULT nextval('waitlist_entries_seq'),
+    class_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_waitlist_class FOREIGN KEY (class_id) REFERENCES classes(id) ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_student FOREIGN KEY (student_id) REFERENCES students(id),
+    CONSTRAINT waitlist_unique_student_class UNIQUE (class_id, student_id)
+);
+
+-- A ordem da fila é a do ID; (class_id, id) serve a busca do próximo aluno e a posição
+CREATE INDEX idx_waitlist_class_order ON waitlist_entries (class_id, id);
+
+COMMENT ON TABLE waitlist_entries IS 'Students waiting for a seat in a full class, in arrival order (id)';
+COMMENT ON COLUMN waitlist_entries.created_at IS 'Date and time the student joined the waitlist';
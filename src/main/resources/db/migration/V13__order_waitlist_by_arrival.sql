@@ -0,0 +1,11 @@
+-- ============================================
+-- V13__order_waitlist_by_arrival.sql
+-- Ordem da lista de espera pela chegada (created_at, id)
+-- ============================================
+
+-- Os IDs vêm de uma sequence com blocos de 50 por instância, então não
+-- refletem a ordem de chegada entre instâncias; o id só desempata.
+DROP INDEX idx_waitlist_class_order;
+CREATE INDEX idx_waitlist_class_order ON waitlist_entries (class_id, created_at, id);
+
+COMMENT ON TABLE waitlist_entries IS 'Students waiting for a seat in a full class, in arrival order (created_at, id)';
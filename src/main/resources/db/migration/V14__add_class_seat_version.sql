@@ -0,0 +1,10 @@
+-- ============================================
+-- V14__add_class_seat_version.sql
+-- Versão das vagas da turma (canal de vagas em tempo real)
+-- ============================================
+
+-- Incrementada no mesmo UPDATE que altera as vagas, com a linha bloqueada até
+-- o commit: a ordem das versões de uma turma é a ordem dos commits.
+ALTER TABLE classes ADD COLUMN seat_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN classes.seat_version IS 'Incremented on every committed change to the seats of the class; orders seat feed events';
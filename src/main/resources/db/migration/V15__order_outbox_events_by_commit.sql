@@ -0,0 +1,19 @@
+-- ============================================
+-- V15__order_outbox_events_by_commit.sql
+-- Posição dos eventos do outbox na ordem dos commits (entrega a todas as instâncias)
+-- ============================================
+
+-- Os IDs vêm de uma sequence com blocos de 50 por instância e são atribuídos
+-- no persist, não no commit: um evento com ID menor pode ficar visível depois
+-- de outro com ID maior. A posição é atribuída depois do commit, por um único
+-- dispatcher de cada vez (advisory lock), então cada instância pode ler o
+-- outbox por posição crescente sem pular eventos.
+CREATE SEQUENCE outbox_positions START WITH 1 INCREMENT BY 1;
+
+ALTER TABLE outbox_events ADD COLUMN position BIGINT;
+
+CREATE UNIQUE INDEX idx_outbox_events_position ON outbox_events (position);
+CREATE INDEX idx_outbox_events_unpositioned ON outbox_events (id) WHERE position IS NULL;
+
+COMMENT ON TABLE outbox_events IS 'Domain events written in the same transaction as the change; every instance reads them in position order and they are deleted after academic.outbox.retention';
+COMMENT ON COLUMN outbox_events.position IS 'Assigned after commit, under an advisory lock, from outbox_positions; NULL until then';
@@ -0,0 +1,142 @@
+package br.edu.unifor.api.controller;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+
+/**
+ * POST /enrollments/batch contra a massa dos seeds (V6, V8 e V9): a aluna
+ * 2610001 já cursa MAT001-A e PRG001-A; BDD001-A, WEB001-A e PRG002-A não
+ * conflitam. PRG002-A tem só 3 vagas, preenchidas por outros alunos quando o
+ * teste precisa de uma turma cheia.
+ */
+@QuarkusTest
+@TestSecurity(user = "admin", roles = "ADMIN")
+class EnrollmentControllerTest {
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    private List<Integer> created = new ArrayList<>();
+
+    @AfterEach
+    void removeCreated() {
+        for (Integer id : created) {
+            given().when().delete("/enrollments/" + id).then().statusCode(204);
+        }
+        created = new ArrayList<>();
+    }
+
+    @Test
+    void batchReturnsTheCreatedEnrollments() {
+        Long studentId = studentRepository.findByRegistration("2610001").orElseThrow().id;
+        Long database = classRepository.findByCode("BDD001-A-2024.1").orElseThrow().id;
+        Long web = classRepository.findByCode("WEB001-A-2024.1").orElseThrow().id;
+
+        created = new ArrayList<>(given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("studentId", studentId, "classIds", List.of(database, web)))
+                .when().post("/enrollments/batch")
+                .then()
+                .statusCode(201)
+                .body("classCode", contains("BDD001-A-2024.1", "WEB001-A-2024.1"))
+                .body("subjectName", everyItem(notNullValue()))
+                .body("professorName", everyItem(notNullValue()))
+                .body("dayOfWeek", containsInAnyOrder("WEDNESDAY", "FRIDAY"))
+                .body("status", everyItem(is("ATIVA")))
+                .extract().jsonPath().getList("enrollmentId", Integer.class));
+    }
+
+    @Test
+    void batchWithAFullClassCreatesNothing() {
+        Long studentId = studentRepository.findByRegistration("2610001").orElseThrow().id;
+        Long database = classRepository.findByCode("BDD001-A-2024.1").orElseThrow().id;
+        Class small = classRepository.findByCode("PRG002-A-2024.1").orElseThrow();
+        fill(small);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("studentId", studentId, "classIds", List.of(database, small.id)))
+                .when().post("/enrollments/batch")
+                .then()
+                .statusCode(409)
+                .body("message", containsString("PRG002-A-2024.1"));
+
+        assertTrue(enrollmentRepository.findStatus(studentId, database).isEmpty());
+        assertTrue(enrollmentRepository.findStatus(studentId, small.id).isEmpty());
+    }
+
+    @Test
+    void studentViewShowsOwnChangesRightAway() {
+        Long studentId = studentRepository.findByRegistration("2610001").orElseThrow().id;
+        Long web = classRepository.findByCode("WEB001-A-2024.1").orElseThrow().id;
+        String active = "/enrollments/student/" + studentId + "/active";
+
+        // carrega a visão no cache antes da alteração
+        given().when().get(active).then().statusCode(200)
+                .body("classCode", containsInAnyOrder("MAT001-A-2024.1", "PRG001-A-2024.1"));
+
+        Integer enrollmentId = given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("studentId", studentId, "classId", web))
+                .when().post("/enrollments")
+                .then()
+                .statusCode(201)
+                .extract().path("id");
+        created.add(enrollmentId);
+
+        given().when().get(active).then().statusCode(200)
+                .body("classCode", containsInAnyOrder("MAT001-A-2024.1", "PRG001-A-2024.1", "WEB001-A-2024.1"));
+
+        given().when().patch("/enrollments/" + enrollmentId + "/cancel").then().statusCode(204);
+
+        given().when().get(active).then().statusCode(200)
+                .body("classCode", containsInAnyOrder("MAT001-A-2024.1", "PRG001-A-2024.1"));
+    }
+
+    /**
+     * Ocupa as vagas restantes da turma com alunos que não a cursam.
+     */
+    private void fill(Class classEntity) {
+        List<String> others = List.of("2610004", "2610005", "2610006", "2610002");
+        for (int i = 0; i < classEntity.maxCapacity - classEntity.enrolledStudents; i++) {
+            Long studentId = studentRepository.findByRegistration(others.get(i)).orElseThrow().id;
+            created.add(given()
+                    .contentType(ContentType.JSON)
+                    .body(Map.of("studentId", studentId, "classId", classEntity.id))
+                    .when().post("/enrollments")
+                    .then()
+                    .statusCode(201)
+                    .extract().path("id"));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.edu.unifor.application.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void growsWhileLatencyStaysNearTheBaseline() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 2, 20, 2.0, 10, 0);
+
+        for (int round = 0; round < 200; round++) {
+            saturate(limit, FAST);
+        }
+
+        assertEquals(20, limit.limit());
+    }
+
+    @Test
+    void backsOffWhenLatencyDegradesButNeverBelowTheMinimum() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 15, 20, 2.0, 100, 0);
+        saturate(limit, FAST);
+
+        saturate(limit, SLOW);
+        assertTrue(limit.limit() < 20);
+
+        for (int round = 0; round < 10; round++) {
+            saturate(limit, SLOW);
+        }
+        assertEquals(15, limit.limit());
+    }
+
+    @Test
+    void rejectsImmediatelyWhenTheQueueIsFull() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 2.0, 10, 0);
+
+        assertTrue(limit.tryAcquire(0));
+        assertFalse(limit.tryAcquire(TimeUnit.SECONDS.toNanos(10)));
+        assertEquals(1, limit.inFlight());
+    }
+
+    @Test
+    void queuedRequestTakesTheReleasedSlot() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 2.0, 10, 1);
+        assertTrue(limit.tryAcquire(0));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> waiter = executor.submit(() -> {
+                started.countDown();
+                return limit.tryAcquire(TimeUnit.SECONDS.toNanos(10));
+            });
+            started.await();
+            while (limit.queued() == 0) {
+                Thread.onSpinWait();
+            }
+            assertFalse(limit.tryAcquire(0));
+
+            limit.release(FAST, false);
+
+            assertTrue(waiter.get(10, TimeUnit.SECONDS));
+            assertEquals(1, limit.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void timesOutWhenNoSlotIsReleased() throws InterruptedException {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 2.0, 10, 1);
+        assertTrue(limit.tryAcquire(0));
+
+        assertFalse(limit.tryAcquire(TimeUnit.MILLISECONDS.toNanos(20)));
+        assertEquals(0, limit.queued());
+    }
+
+    /**
+     * Ocupa todas as vagas do limite corrente e as devolve com a latência informada.
+     */
+    private static void saturate(AdaptiveConcurrencyLimit limit, long latency) throws InterruptedException {
+        int slots = limit.limit();
+        for (int i = 0; i < slots; i++) {
+            assertTrue(limit.tryAcquire(0));
+        }
+        for (int i = 0; i < slots; i++) {
+            limit.release(latency, false);
+        }
+    }
+}
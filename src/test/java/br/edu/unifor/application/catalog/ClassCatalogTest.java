@@ -0,0 +1,80 @@
+package br.edu.unifor.application.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.edu.unifor.application.catalog.ClassCatalog.View;
+import br.edu.unifor.application.dto.response.ClassResponse;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * {@link ClassCatalog} com as turmas ativas em memória, alteradas "por outra
+ * instância" (sem marcar o catálogo).
+ */
+class ClassCatalogTest {
+
+    @Test
+    void servesTheSameSnapshotWithinTheMaxAge() {
+        Classes classes = new Classes();
+        classes.add(1L, 10);
+        ClassCatalog catalog = catalog(classes, Duration.ofMinutes(10));
+
+        String etag = catalog.snapshot(View.AVAILABLE).etag();
+        classes.add(2L, 5);
+
+        assertEquals(etag, catalog.snapshot(View.AVAILABLE).etag());
+        assertEquals(1, classes.fullLoads.get());
+    }
+
+    @Test
+    void reloadsEverythingOnceOlderThanTheMaxAge() {
+        Classes classes = new Classes();
+        classes.add(1L, 10);
+        ClassCatalog catalog = catalog(classes, Duration.ZERO);
+
+        String etag = catalog.snapshot(View.AVAILABLE).etag();
+        classes.add(2L, 5);
+
+        assertNotEquals(etag, catalog.snapshot(View.AVAILABLE).etag());
+        assertEquals(2, classes.fullLoads.get());
+    }
+
+    private static ClassCatalog catalog(Classes classes, Duration maxAge) {
+        ClassCatalog catalog = new ClassCatalog();
+        catalog.classRepository = classes;
+        catalog.transactionHooks = new TransactionHooks();
+        catalog.objectMapper = new ObjectMapper();
+        catalog.maxAge = maxAge;
+        return catalog;
+    }
+
+    private static final class Classes extends ClassRepository {
+
+        final List<ClassResponse> active = new CopyOnWriteArrayList<>();
+        final AtomicInteger fullLoads = new AtomicInteger();
+
+        void add(Long id, int availableSlots) {
+            ClassResponse response = new ClassResponse();
+            response.setId(id);
+            response.setStatus("ATIVA");
+            response.setAvailableSlots(availableSlots);
+            active.add(response);
+        }
+
+        @Override
+        public List<ClassResponse> findActiveResponses() {
+            fullLoads.incrementAndGet();
+            return List.copyOf(active);
+        }
+    }
+}
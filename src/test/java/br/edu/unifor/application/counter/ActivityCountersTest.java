@@ -0,0 +1,117 @@
+package br.edu.unifor.application.counter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import br.edu.unifor.application.counter.ActivityCounters.Counter;
+import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.application.service.EnrollmentService;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.repository.StudentRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Recarga dos contadores concorrente com matrículas, contra a massa dos seeds:
+ * o aluno 2610005 não tem matrículas e BDD001-A e WEB001-A não conflitam.
+ */
+@QuarkusTest
+class ActivityCountersTest {
+
+    private static final Duration SETTLE = Duration.ofSeconds(1);
+
+    @Inject
+    ActivityCounters counters;
+
+    @Inject
+    EnrollmentService enrollmentService;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    EnrollmentRepository enrollmentRepository;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void removeCreated() {
+        created.forEach(enrollmentService::delete);
+        created.clear();
+    }
+
+    /**
+     * A matrícula lenta recebe o ID do outbox antes da rápida, mas só confirma
+     * depois da recarga: não está nas contagens e ainda precisa ser aplicada,
+     * mesmo com ID menor que o de um evento já contado.
+     */
+    @Test
+    void countsAnEventCommittedAfterTheRebuildEvenWithALowerId() throws Exception {
+        Long studentId = studentRepository.findByRegistration("2610005").orElseThrow().id;
+        Long database = classRepository.findByCode("BDD001-A-2024.1").orElseThrow().id;
+        Long web = classRepository.findByCode("WEB001-A-2024.1").orElseThrow().id;
+
+        CountDownLatch persisted = new CountDownLatch(1);
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> slow = executor.submit(() -> QuarkusTransaction.requiringNew().call(() -> {
+                Long id = enrollmentService.create(request(studentId, database)).id;
+                enrollmentRepository.flush();
+                persisted.countDown();
+                assertTrue(rebuilt.await(10, TimeUnit.SECONDS));
+                return id;
+            }));
+            assertTrue(persisted.await(10, TimeUnit.SECONDS));
+
+            created.add(enrollmentService.create(request(studentId, web)).id);
+            QuarkusTransaction.requiringNew().run(counters::rebuild);
+            rebuilt.countDown();
+            created.add(slow.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long active = QuarkusTransaction.requiringNew()
+                .call(() -> enrollmentRepository.countActiveByStudent(studentId));
+        assertEquals(2, active);
+        awaitCount(Counter.ACTIVE_ENROLLMENTS_BY_STUDENT, studentId, active);
+
+        // nenhum evento é aplicado duas vezes depois de alcançar o banco
+        Thread.sleep(SETTLE);
+        assertEquals(active, counters.get(Counter.ACTIVE_ENROLLMENTS_BY_STUDENT, studentId));
+    }
+
+    private void awaitCount(Counter counter, Long key, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (counters.get(counter, key) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(expected, counters.get(counter, key));
+    }
+
+    private static CreateEnrollmentRequest request(Long studentId, Long classId) {
+        CreateEnrollmentRequest request = new CreateEnrollmentRequest();
+        request.studentId = studentId;
+        request.classId = classId;
+        return request;
+    }
+}
@@ -0,0 +1,172 @@
+package br.edu.unifor.application.seat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.Test;
+
+import br.edu.unifor.application.catalog.ClassCatalog;
+import br.edu.unifor.domain.entity.Class;
+import br.edu.unifor.domain.repository.ClassRepository;
+import br.edu.unifor.infrastructure.exception.ClassFullException;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * {@link SeatAllocator} com a linha da turma simulada em memória: o UPDATE
+ * condicional é atômico, como no banco, e cada reserva é confirmada na hora.
+ */
+class SeatAllocatorTest {
+
+    private static final long CLASS_ID = 1L;
+    private static final int REQUESTS = 1_000;
+
+    @Test
+    void neverOversellsUnderConcurrentReservations() throws InterruptedException {
+        ClassRow row = new ClassRow(0, 40);
+        SeatAllocator allocator = allocator(row, Duration.ofSeconds(1));
+        AtomicInteger granted = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    allocator.reserve(row.load());
+                    granted.incrementAndGet();
+                } catch (ClassFullException e) {
+                    // turma cheia
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdownNow();
+
+        assertEquals(40, granted.get());
+        assertEquals(40, row.enrolled.get());
+        assertTrue(allocator.isKnownFull(CLASS_ID));
+    }
+
+    @Test
+    void staleFullCounterRecoversFromTheDatabase() {
+        ClassRow row = new ClassRow(0, 1);
+        SeatAllocator allocator = allocator(row, Duration.ofSeconds(1));
+
+        allocator.reserve(row.load());
+        assertFalse(allocator.isKnownFull(CLASS_ID), "cheio só no contador ainda não é confirmado");
+
+        // vaga liberada por outra instância, sem passar por este contador
+        row.enrolled.set(0);
+        allocator.reserve(row.load());
+        assertEquals(1, row.enrolled.get());
+
+        assertThrows(ClassFullException.class, () -> allocator.reserve(row.load()));
+        assertTrue(allocator.isKnownFull(CLASS_ID));
+    }
+
+    @Test
+    void confirmedFullExpiresAfterTheRecheckInterval() {
+        ClassRow row = new ClassRow(1, 1);
+        SeatAllocator allocator = allocator(row, Duration.ZERO);
+
+        assertThrows(ClassFullException.class, () -> allocator.reserve(row.load()));
+        row.enrolled.set(0);
+
+        assertFalse(allocator.isKnownFull(CLASS_ID));
+        allocator.reserve(row.load());
+        assertEquals(1, row.enrolled.get());
+    }
+
+    private static SeatAllocator allocator(ClassRow row, Duration fullRecheckInterval) {
+        SeatAllocator allocator = new SeatAllocator();
+        allocator.classRepository = row.repository();
+        allocator.transactionHooks = new TransactionHooks() {
+            @Override
+            public void afterCommit(Runnable action) {
+                action.run();
+            }
+
+            @Override
+            public void afterRollback(Runnable action) {
+                // reservas bem-sucedidas são sempre confirmadas
+            }
+        };
+        allocator.classCatalog = new ClassCatalog() {
+            @Override
+            public void changedAfterCommit(Long classId) {
+            }
+        };
+        allocator.seatFeed = new SeatFeed() {
+            @Override
+            public void publishAfterCommit(Class classEntity) {
+            }
+        };
+        allocator.fullRecheckInterval = fullRecheckInterval;
+        return allocator;
+    }
+
+    private static final class ClassRow {
+
+        final AtomicInteger enrolled;
+        final int capacity;
+
+        ClassRow(int enrolled, int capacity) {
+            this.enrolled = new AtomicInteger(enrolled);
+            this.capacity = capacity;
+        }
+
+        /** Entidade carregada pela transação de uma requisição. */
+        Class load() {
+            Class classEntity = new Class();
+            classEntity.id = CLASS_ID;
+            classEntity.code = "T1";
+            classEntity.maxCapacity = capacity;
+            classEntity.enrolledStudents = enrolled.get();
+            return classEntity;
+        }
+
+        ClassRepository repository() {
+            EntityManager entityManager = (EntityManager) Proxy.newProxyInstance(
+                    EntityManager.class.getClassLoader(), new java.lang.Class<?>[] { EntityManager.class },
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("refresh")) {
+                            ((Class) args[0]).enrolledStudents = enrolled.get();
+                            return null;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+
+            return new ClassRepository() {
+                @Override
+                public int reserveSeats(Long classId, int seats) {
+                    int before = enrolled.getAndUpdate(
+                            current -> current + seats <= capacity ? current + seats : current);
+                    return before + seats <= capacity ? 1 : 0;
+                }
+
+                @Override
+                public EntityManager getEntityManager() {
+                    return entityManager;
+                }
+            };
+        }
+    }
+}
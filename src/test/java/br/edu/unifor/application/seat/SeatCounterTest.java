@@ -0,0 +1,86 @@
+package br.edu.unifor.application.seat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SeatCounterTest {
+
+    private static final int REQUESTS = 1_000;
+
+    @Test
+    void neverOversellsUnderConcurrentRequests() throws InterruptedException {
+        SeatCounter counter = new SeatCounter(0, 40);
+        AtomicInteger granted = new AtomicInteger();
+
+        runConcurrently(() -> {
+            if (counter.tryAcquire(1)) {
+                granted.incrementAndGet();
+            }
+        });
+
+        assertEquals(40, granted.get());
+        assertEquals(40, counter.getEnrolled());
+        assertEquals(0, counter.getAvailable());
+    }
+
+    @Test
+    void releasedSeatsAreReusedWithoutOverselling() throws InterruptedException {
+        SeatCounter counter = new SeatCounter(30, 40);
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger held = new AtomicInteger(30);
+
+        runConcurrently(() -> {
+            if (counter.tryAcquire(1)) {
+                if (sequence.incrementAndGet() % 2 == 0) {
+                    counter.release(1);
+                } else {
+                    held.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(held.get(), counter.getEnrolled());
+        assertTrue(counter.getEnrolled() <= 40);
+    }
+
+    @Test
+    void releaseNeverGoesNegative() {
+        SeatCounter counter = new SeatCounter(1, 10);
+
+        counter.release(1);
+        counter.release(1);
+
+        assertEquals(0, counter.getEnrolled());
+    }
+
+    private static void runConcurrently(Runnable request) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    request.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,168 @@
+package br.edu.unifor.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Year;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import br.edu.unifor.domain.registration.RegistrationKind;
+import br.edu.unifor.domain.repository.RegistrationSequenceRepository;
+
+/**
+ * {@link RegistrationService} com a tabela registration_sequences simulada em
+ * memória: a reserva de faixa é atômica, como o UPSERT no banco.
+ */
+class RegistrationServiceTest {
+
+    private static final int THREADS = 32;
+    private static final int PER_THREAD = 500;
+
+    @Test
+    void skipsRegistrationsAlreadyTaken() {
+        Sequences sequences = new Sequences(Set.of("2610001", "2610003", "2610005"));
+        RegistrationService service = service(sequences, 5, 2026);
+
+        List<String> generated = IntStream.range(0, 5)
+                .mapToObj(i -> service.next(RegistrationKind.STUDENT))
+                .toList();
+
+        assertEquals(List.of("2610000", "2610002", "2610004", "2610006", "2610007"), generated);
+    }
+
+    @Test
+    void failsExplicitlyWhenTheYearIsExhausted() {
+        Sequences sequences = new Sequences(Set.of());
+        sequences.start(RegistrationKind.STUDENT, "26", 99998);
+        RegistrationService service = service(sequences, 5, 2026);
+
+        assertEquals("2699998", service.next(RegistrationKind.STUDENT));
+        assertEquals("2699999", service.next(RegistrationKind.STUDENT));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> service.next(RegistrationKind.STUDENT));
+        assertTrue(error.getMessage().contains("2026"), error.getMessage());
+        // os demais tipos têm sequência própria
+        assertEquals("2610000", service.next(RegistrationKind.PROFESSOR));
+    }
+
+    @Test
+    void abandonsTheCurrentBlockWhenTheYearTurns() {
+        Sequences sequences = new Sequences(Set.of());
+        Year[] year = { Year.of(2026) };
+        RegistrationService service = service(sequences, 100, year);
+
+        assertEquals("2610000", service.next(RegistrationKind.STUDENT));
+        assertEquals("2610001", service.next(RegistrationKind.STUDENT));
+
+        year[0] = Year.of(2027);
+        assertEquals("2710000", service.next(RegistrationKind.STUDENT));
+        assertEquals("2710001", service.next(RegistrationKind.STUDENT));
+        assertEquals(Map.of("STUDENT/26", 10100, "STUDENT/27", 10100), sequences.snapshot());
+    }
+
+    @Test
+    void neverRepeatsUnderConcurrentCalls() throws InterruptedException {
+        Sequences sequences = new Sequences(Set.of("2610010", "2610500"));
+        RegistrationService service = service(sequences, 7, 2026);
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < PER_THREAD; j++) {
+                        generated.add(service.next(RegistrationKind.STUDENT));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdownNow();
+
+        assertEquals(THREADS * PER_THREAD, generated.size());
+        assertTrue(generated.stream().noneMatch(Set.of("2610010", "2610500")::contains));
+    }
+
+    private static RegistrationService service(Sequences sequences, int blockSize, int year) {
+        return service(sequences, blockSize, new Year[] { Year.of(year) });
+    }
+
+    private static RegistrationService service(Sequences sequences, int blockSize, Year[] year) {
+        RegistrationService service = new RegistrationService() {
+            @Override
+            protected Year currentYear() {
+                return year[0];
+            }
+
+            @Override
+            protected <T> T inNewTransaction(Callable<T> work) {
+                try {
+                    return work.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        service.sequenceRepository = sequences;
+        service.blockSize = blockSize;
+        return service;
+    }
+
+    /** Sequências por tipo/ano e matrículas já gravadas. */
+    private static final class Sequences extends RegistrationSequenceRepository {
+
+        private final Map<String, Integer> nextValues = new HashMap<>();
+        private final Set<String> taken;
+
+        Sequences(Set<String> taken) {
+            this.taken = taken;
+        }
+
+        synchronized void start(RegistrationKind kind, String yearPrefix, int suffix) {
+            nextValues.put(kind + "/" + yearPrefix, suffix);
+        }
+
+        synchronized Map<String, Integer> snapshot() {
+            return Map.copyOf(nextValues);
+        }
+
+        @Override
+        public synchronized int reserve(RegistrationKind kind, String yearPrefix, int size) {
+            int next = nextValues.merge(kind + "/" + yearPrefix, FIRST_SUFFIX + size,
+                    (current, ignored) -> current + size);
+            return next - size;
+        }
+
+        @Override
+        public Set<String> findTaken(RegistrationKind kind, String from, String to) {
+            return taken.stream()
+                    .filter(registration -> registration.compareTo(from) >= 0 && registration.compareTo(to) <= 0)
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package br.edu.unifor.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import jakarta.persistence.PersistenceException;
+
+import org.junit.jupiter.api.Test;
+
+import br.edu.unifor.application.dto.request.enrollment.CreateEnrollmentRequest;
+import br.edu.unifor.domain.entity.Enrollment;
+import br.edu.unifor.domain.entity.Student;
+import br.edu.unifor.domain.entity.WaitlistEntry;
+import br.edu.unifor.domain.repository.WaitlistRepository;
+import br.edu.unifor.infrastructure.exception.ClassFullException;
+import br.edu.unifor.infrastructure.exception.DatabaseBusyException;
+import br.edu.unifor.infrastructure.exception.StudentScheduleConflictException;
+
+/**
+ * Laço de promoção do {@link WaitlistService} com a fila em memória e a
+ * matrícula simulada: cada aluno recebe um resultado pré-definido.
+ */
+class WaitlistServiceTest {
+
+    private static final long CLASS_ID = 1L;
+
+    @Test
+    void dropsEntriesThatCanNoLongerEnrollAndMovesOn() {
+        Waitlist waitlist = new Waitlist(1L, 2L, 3L, 4L);
+        waitlist.refuse(1L, new StudentScheduleConflictException("Aluno 1", "SEG 08:00"));
+        waitlist.refuse(2L, new IllegalArgumentException("falha inesperada"));
+        waitlist.refuse(4L, new ClassFullException("T1", 40));
+
+        service(waitlist).promote(CLASS_ID);
+
+        assertEquals(List.of(3L), waitlist.enrolled);
+        assertEquals(List.of(4L), waitlist.waiting());
+    }
+
+    @Test
+    void keepsTheEntryWhenTheSeatIsAlreadyTaken() {
+        Waitlist waitlist = new Waitlist(1L, 2L);
+        waitlist.refuse(1L, new ClassFullException("T1", 40));
+
+        service(waitlist).promote(CLASS_ID);
+
+        assertEquals(List.of(), waitlist.enrolled);
+        assertEquals(List.of(1L, 2L), waitlist.waiting());
+        assertEquals(List.of(1L), waitlist.attempts, "turma cheia encerra a promoção");
+    }
+
+    @Test
+    void skipsAnEntryAlreadyPromotedByAnotherInstance() {
+        Waitlist waitlist = new Waitlist(1L, 2L);
+        waitlist.promotedElsewhere.add(10L);
+
+        service(waitlist).promote(CLASS_ID);
+
+        assertEquals(List.of(2L), waitlist.enrolled);
+        assertEquals(List.of(2L), waitlist.attempts);
+    }
+
+    @Test
+    void rethrowsTransientFailuresAndKeepsTheEntry() {
+        DatabaseBusyException busy = new DatabaseBusyException(20, Duration.ofMillis(500));
+        Waitlist waitlist = new Waitlist(1L, 2L);
+        waitlist.refuse(1L, busy);
+        WaitlistService service = service(waitlist);
+
+        assertSame(busy, assertThrows(DatabaseBusyException.class, () -> service.promote(CLASS_ID)));
+        assertEquals(List.of(1L, 2L), waitlist.waiting());
+
+        // causa passageira embrulhada pela camada de persistência
+        waitlist.refuse(1L, new PersistenceException(new SQLTransientConnectionException("conexão perdida")));
+        assertThrows(PersistenceException.class, () -> service.promote(CLASS_ID));
+        assertEquals(List.of(1L, 2L), waitlist.waiting());
+        assertEquals(List.of(), waitlist.enrolled);
+    }
+
+    private static WaitlistService service(Waitlist waitlist) {
+        WaitlistService service = new WaitlistService() {
+            @Override
+            protected <T> T inNewTransaction(Callable<T> work) {
+                try {
+                    return work.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        service.waitlistRepository = waitlist.repository();
+        service.enrollmentService = waitlist.enrollmentService();
+        return service;
+    }
+
+    /** Fila de uma turma e o resultado da matrícula de cada aluno. */
+    private static final class Waitlist {
+
+        final List<WaitlistEntry> entries = new ArrayList<>();
+        final Map<Long, RuntimeException> refusals = new HashMap<>();
+        final List<Long> attempts = new ArrayList<>();
+        final List<Long> enrolled = new ArrayList<>();
+        // Entradas removidas por outra instância entre a leitura e o bloqueio
+        final List<Long> promotedElsewhere = new ArrayList<>();
+
+        Waitlist(Long... studentIds) {
+            for (Long studentId : studentIds) {
+                Student student = new Student();
+                student.id = studentId;
+                WaitlistEntry entry = new WaitlistEntry();
+                entry.id = studentId * 10;
+                entry.student = student;
+                entries.add(entry);
+            }
+        }
+
+        void refuse(Long studentId, RuntimeException error) {
+            refusals.put(studentId, error);
+        }
+
+        List<Long> waiting() {
+            return entries.stream().map(entry -> entry.student.id).toList();
+        }
+
+        WaitlistRepository repository() {
+            return new WaitlistRepository() {
+                @Override
+                public Optional<WaitlistEntry> findNext(Long classId) {
+                    return entries.stream().findFirst();
+                }
+
+                @Override
+                public boolean lock(Long id) {
+                    if (promotedElsewhere.remove(id)) {
+                        // a outra instância confirmou antes: a entrada já saiu da fila
+                        entries.removeIf(entry -> entry.id.equals(id));
+                    }
+                    return entries.stream().anyMatch(entry -> entry.id.equals(id));
+                }
+
+                @Override
+                public boolean deleteById(Long id) {
+                    return entries.removeIf(entry -> entry.id.equals(id));
+                }
+            };
+        }
+
+        EnrollmentService enrollmentService() {
+            return new EnrollmentService() {
+                @Override
+                public Enrollment createFromWaitlist(CreateEnrollmentRequest dto) {
+                    attempts.add(dto.studentId);
+                    RuntimeException refusal = refusals.get(dto.studentId);
+                    if (refusal != null) {
+                        throw refusal;
+                    }
+                    enrolled.add(dto.studentId);
+                    return new Enrollment();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package br.edu.unifor.application.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import br.edu.unifor.domain.repository.EnrollmentRepository;
+import br.edu.unifor.domain.timetable.ClassSlot;
+import br.edu.unifor.domain.timetable.WeeklySlotMask;
+import br.edu.unifor.infrastructure.transaction.TransactionHooks;
+
+/**
+ * {@link StudentTimetableIndex} com as matrículas ativas em memória, alteradas
+ * "por outra instância" (sem passar pelo índice).
+ */
+class StudentTimetableIndexTest {
+
+    private static final long STUDENT_ID = 1L;
+    private static final WeeklySlotMask MONDAY_MORNING =
+            WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0));
+
+    @Test
+    void keepsTheLoadedTimetableWithinTheMaxAge() {
+        Enrollments enrollments = new Enrollments();
+        StudentTimetableIndex index = index(enrollments, Duration.ofMinutes(10));
+
+        assertFalse(index.hasConflict(STUDENT_ID, MONDAY_MORNING, null));
+        enrollments.slots.add(mondayMorning(10L));
+
+        assertFalse(index.hasConflict(STUDENT_ID, MONDAY_MORNING, null));
+        assertEquals(1, enrollments.loads.get());
+    }
+
+    @Test
+    void reloadsTheTimetableOnceItIsOlderThanTheMaxAge() {
+        Enrollments enrollments = new Enrollments();
+        StudentTimetableIndex index = index(enrollments, Duration.ZERO);
+
+        assertFalse(index.hasConflict(STUDENT_ID, MONDAY_MORNING, null));
+        enrollments.slots.add(mondayMorning(10L));
+
+        assertTrue(index.hasConflict(STUDENT_ID, MONDAY_MORNING, null));
+        assertEquals(2, enrollments.loads.get());
+    }
+
+    @Test
+    void localChangesDoNotPostponeTheReload() {
+        Enrollments enrollments = new Enrollments();
+        StudentTimetableIndex index = index(enrollments, Duration.ofMillis(50));
+
+        index.timetableOf(STUDENT_ID);
+        enrollments.slots.add(mondayMorning(10L));
+        index.occupy(STUDENT_ID, 20L, WeeklySlotMask.of(DayOfWeek.FRIDAY, LocalTime.of(8, 0), LocalTime.of(10, 0)));
+        assertFalse(index.hasConflict(STUDENT_ID, MONDAY_MORNING, null));
+
+        sleep(Duration.ofMillis(60));
+        assertTrue(index.hasConflict(STUDENT_ID, MONDAY_MORNING, null));
+    }
+
+    private static ClassSlot mondayMorning(Long classId) {
+        return new ClassSlot(STUDENT_ID, classId, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static StudentTimetableIndex index(Enrollments enrollments, Duration maxAge) {
+        StudentTimetableIndex index = new StudentTimetableIndex();
+        index.enrollmentRepository = enrollments;
+        index.transactionHooks = new TransactionHooks() {
+            @Override
+            public void afterCommit(Runnable action) {
+                action.run();
+            }
+        };
+        index.maxAge = maxAge;
+        return index;
+    }
+
+    private static final class Enrollments extends EnrollmentRepository {
+
+        final List<ClassSlot> slots = new CopyOnWriteArrayList<>();
+        final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public List<ClassSlot> findActiveSlotsByStudent(Long studentId) {
+            loads.incrementAndGet();
+            return List.copyOf(slots);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.edu.unifor.domain.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class ClassPlannerTest {
+
+    private static final List<PlanningProblem.Slot> WEEK = List.of(
+            slot(1L, DayOfWeek.MONDAY, "08:00", "10:00"),
+            slot(2L, DayOfWeek.MONDAY, "09:00", "11:00"),
+            slot(3L, DayOfWeek.TUESDAY, "08:00", "10:00"),
+            slot(4L, DayOfWeek.WEDNESDAY, "08:00", "10:00"));
+
+    @Test
+    void neverGivesAProfessorOverlappingClasses() {
+        List<PlanningProblem.Teacher> professors = List.of(
+                new PlanningProblem.Teacher(10L, mask(DayOfWeek.TUESDAY, "08:00", "10:00")),
+                new PlanningProblem.Teacher(20L, WeeklySlotMask.EMPTY));
+        List<PlanningProblem.Section> sections = new ArrayList<>();
+        for (long subject = 1; subject <= 5; subject++) {
+            sections.add(section(1L, subject));
+        }
+        PlanningProblem problem = new PlanningProblem(WEEK, professors, sections, 0);
+
+        ClassPlan plan = new ClassPlanner(problem).solve(7, 1_000);
+
+        assertTrue(plan.unplaced().isEmpty());
+        assertNoProfessorConflicts(problem, plan);
+    }
+
+    @Test
+    void spreadsSubjectsOfTheSameCourseAcrossTheWeek() {
+        List<PlanningProblem.Teacher> professors = List.of(
+                new PlanningProblem.Teacher(10L, WeeklySlotMask.EMPTY),
+                new PlanningProblem.Teacher(20L, WeeklySlotMask.EMPTY),
+                new PlanningProblem.Teacher(30L, WeeklySlotMask.EMPTY));
+        List<PlanningProblem.Section> sections = List.of(section(1L, 1L), section(1L, 2L), section(1L, 3L));
+        PlanningProblem problem = new PlanningProblem(WEEK, professors, sections, 0);
+
+        ClassPlan plan = new ClassPlanner(problem).solve(ForkJoinPool.getCommonPoolParallelism() + 1, 1_000,
+                ForkJoinPool.commonPool());
+
+        assertTrue(plan.unplaced().isEmpty());
+        assertEquals(0, plan.courseOverlaps());
+    }
+
+    @Test
+    void onlyAssignsEligibleProfessorsWithinTheLimit() {
+        List<PlanningProblem.Teacher> professors = List.of(
+                new PlanningProblem.Teacher(10L, WeeklySlotMask.EMPTY),
+                new PlanningProblem.Teacher(20L, WeeklySlotMask.EMPTY));
+        List<PlanningProblem.Section> sections = List.of(
+                new PlanningProblem.Section(1L, 1L, 40, Set.of(10L)),
+                new PlanningProblem.Section(1L, 2L, 40, Set.of(10L)),
+                new PlanningProblem.Section(1L, 3L, 40, Set.of(10L)));
+        PlanningProblem problem = new PlanningProblem(WEEK, professors, sections, 2);
+
+        ClassPlan plan = new ClassPlanner(problem).solve(3, 1_000);
+
+        assertEquals(2, plan.assignments().size());
+        assertEquals(1, plan.unplaced().size());
+        assertTrue(plan.assignments().stream().allMatch(assignment -> assignment.professorId().equals(10L)));
+        assertNoProfessorConflicts(problem, plan);
+    }
+
+    @Test
+    void reportsSectionsThatCannotBePlaced() {
+        List<PlanningProblem.Teacher> professors = List.of(new PlanningProblem.Teacher(10L, WeeklySlotMask.EMPTY));
+        List<PlanningProblem.Section> sections = new ArrayList<>();
+        for (long subject = 1; subject <= 5; subject++) {
+            sections.add(section(1L, subject));
+        }
+        PlanningProblem problem = new PlanningProblem(WEEK, professors, sections, 0);
+
+        ClassPlan plan = new ClassPlanner(problem).solve(1, 1_000);
+
+        // segunda 08:00 e 09:00 se sobrepõem: no máximo três turmas para um professor
+        assertEquals(3, plan.assignments().size());
+        assertEquals(2, plan.unplaced().size());
+        assertNoProfessorConflicts(problem, plan);
+    }
+
+    private static void assertNoProfessorConflicts(PlanningProblem problem, ClassPlan plan) {
+        Map<Long, WeeklySlotMask> scheduleMasks = new HashMap<>();
+        problem.slots().forEach(slot -> scheduleMasks.put(slot.scheduleId(), slot.mask()));
+        Map<Long, WeeklySlotMask> occupied = new HashMap<>();
+        problem.professors().forEach(teacher -> occupied.put(teacher.professorId(), teacher.busy()));
+
+        for (ClassPlan.Assignment assignment : plan.assignments()) {
+            WeeklySlotMask mask = scheduleMasks.get(assignment.scheduleId());
+            WeeklySlotMask current = occupied.get(assignment.professorId());
+            assertFalse(current.intersects(mask), "professor " + assignment.professorId() + " com conflito");
+            occupied.put(assignment.professorId(), current.or(mask));
+        }
+    }
+
+    private static PlanningProblem.Section section(Long courseId, Long subjectId) {
+        return new PlanningProblem.Section(courseId, subjectId, 40, Set.of());
+    }
+
+    private static PlanningProblem.Slot slot(Long id, DayOfWeek day, String start, String end) {
+        return new PlanningProblem.Slot(id, mask(day, start, end));
+    }
+
+    private static WeeklySlotMask mask(DayOfWeek day, String start, String end) {
+        return WeeklySlotMask.of(day, LocalTime.parse(start), LocalTime.parse(end));
+    }
+}
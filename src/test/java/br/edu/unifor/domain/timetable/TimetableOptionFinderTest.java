@@ -0,0 +1,95 @@
+package br.edu.unifor.domain.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TimetableOptionFinderTest {
+
+    private static final long BUDGET = TimeUnit.SECONDS.toNanos(5);
+
+    @Test
+    void prefersFewerDaysThenFewerGaps() {
+        List<List<TimetableCandidate>> candidates = List.of(
+                List.of(candidate(1L, DayOfWeek.MONDAY, "08:00", "10:00")),
+                List.of(candidate(2L, DayOfWeek.TUESDAY, "08:00", "10:00"),
+                        candidate(3L, DayOfWeek.MONDAY, "14:00", "16:00"),
+                        candidate(4L, DayOfWeek.MONDAY, "10:00", "12:00")));
+
+        TimetableOptions found = new TimetableOptionFinder(candidates, WeeklySlotMask.EMPTY).find(3, BUDGET);
+
+        assertTrue(found.complete());
+        assertEquals(List.of(List.of(1L, 4L), List.of(1L, 3L), List.of(1L, 2L)),
+                found.options().stream().map(TimetableOptions.Option::classIds).toList());
+        assertEquals(1, found.options().get(0).days());
+        assertEquals(0, found.options().get(0).idleMinutes());
+        assertEquals(240, found.options().get(1).idleMinutes());
+    }
+
+    @Test
+    void skipsOverlapsFullClassesAndOccupiedSlots() {
+        WeeklySlotMask occupied = mask(DayOfWeek.WEDNESDAY, "08:00", "10:00");
+        List<List<TimetableCandidate>> candidates = List.of(
+                List.of(candidate(1L, DayOfWeek.MONDAY, "08:00", "10:00")),
+                List.of(candidate(2L, DayOfWeek.MONDAY, "09:00", "11:00"),
+                        new TimetableCandidate(3L, mask(DayOfWeek.TUESDAY, "08:00", "10:00"), 0),
+                        candidate(4L, DayOfWeek.WEDNESDAY, "09:00", "11:00"),
+                        candidate(5L, DayOfWeek.THURSDAY, "08:00", "10:00")));
+
+        TimetableOptions found = new TimetableOptionFinder(candidates, occupied).find(10, BUDGET);
+
+        assertEquals(1, found.options().size());
+        assertEquals(List.of(1L, 5L), found.options().get(0).classIds());
+        assertEquals(3, found.options().get(0).days());
+    }
+
+    @Test
+    void returnsNothingWhenSubjectsCannotFitTogether() {
+        List<List<TimetableCandidate>> candidates = List.of(
+                List.of(candidate(1L, DayOfWeek.MONDAY, "08:00", "10:00")),
+                List.of(candidate(2L, DayOfWeek.MONDAY, "09:00", "11:00")),
+                List.of(candidate(3L, DayOfWeek.FRIDAY, "08:00", "10:00")));
+
+        TimetableOptions found = new TimetableOptionFinder(candidates, WeeklySlotMask.EMPTY).find(5, BUDGET);
+
+        assertTrue(found.options().isEmpty());
+        assertTrue(found.complete());
+    }
+
+    @Test
+    void stopsAtTheTimeBudget() {
+        List<List<TimetableCandidate>> candidates = new ArrayList<>();
+        for (int subject = 0; subject < 12; subject++) {
+            List<TimetableCandidate> group = new ArrayList<>();
+            for (int c = 0; c < 6; c++) {
+                group.add(candidate(subject * 10L + c, DayOfWeek.of(1 + c), subject));
+            }
+            candidates.add(group);
+        }
+
+        TimetableOptions found = new TimetableOptionFinder(candidates, WeeklySlotMask.EMPTY).find(5, 0);
+
+        assertFalse(found.complete());
+    }
+
+    private static TimetableCandidate candidate(Long classId, DayOfWeek day, String start, String end) {
+        return new TimetableCandidate(classId, mask(day, start, end), 40);
+    }
+
+    private static TimetableCandidate candidate(Long classId, DayOfWeek day, int hour) {
+        LocalTime start = LocalTime.of(7 + hour, 0);
+        return new TimetableCandidate(classId, WeeklySlotMask.of(day, start, start.plusHours(1)), 40);
+    }
+
+    private static WeeklySlotMask mask(DayOfWeek day, String start, String end) {
+        return WeeklySlotMask.of(day, LocalTime.parse(start), LocalTime.parse(end));
+    }
+}
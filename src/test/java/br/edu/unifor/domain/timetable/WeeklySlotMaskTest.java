@@ -0,0 +1,64 @@
+package br.edu.unifor.domain.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+class WeeklySlotMaskTest {
+
+    @Test
+    void overlappingRangesOnSameDayConflict() {
+        WeeklySlotMask first = mask(DayOfWeek.MONDAY, "08:00", "10:00");
+        WeeklySlotMask second = mask(DayOfWeek.MONDAY, "09:30", "11:00");
+
+        assertTrue(first.intersects(second));
+    }
+
+    @Test
+    void adjacentRangesDoNotConflict() {
+        WeeklySlotMask first = mask(DayOfWeek.MONDAY, "08:00", "09:40");
+        WeeklySlotMask second = mask(DayOfWeek.MONDAY, "09:40", "11:20");
+
+        assertFalse(first.intersects(second));
+    }
+
+    @Test
+    void offGridBoundaryIsRoundedOutwardAndRejectedOnInput() {
+        WeeklySlotMask first = mask(DayOfWeek.MONDAY, "08:00", "09:05");
+        WeeklySlotMask second = mask(DayOfWeek.MONDAY, "09:05", "10:00");
+
+        // arredondamento para fora: nunca perde uma sobreposição, mas acusa a vizinhança
+        assertTrue(first.intersects(second));
+        assertFalse(WeeklySlotMask.isOnGrid(LocalTime.parse("09:05")));
+        assertTrue(WeeklySlotMask.isOnGrid(LocalTime.parse("09:10")));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeeklySlotMask.requireOnGrid(LocalTime.parse("08:00"), LocalTime.parse("09:05")));
+    }
+
+    @Test
+    void sameRangeOnDifferentDaysDoesNotConflict() {
+        WeeklySlotMask monday = mask(DayOfWeek.MONDAY, "08:00", "10:00");
+        WeeklySlotMask sunday = mask(DayOfWeek.SUNDAY, "08:00", "10:00");
+
+        assertFalse(monday.intersects(sunday));
+    }
+
+    @Test
+    void timetableIgnoresExcludedClass() {
+        WeeklySlotMask slot = mask(DayOfWeek.TUESDAY, "14:00", "16:00");
+        Timetable timetable = Timetable.EMPTY.with(1L, slot);
+
+        assertTrue(timetable.conflictsWith(slot, null));
+        assertFalse(timetable.conflictsWith(slot, 1L));
+        assertFalse(timetable.without(1L).conflictsWith(slot, null));
+    }
+
+    private static WeeklySlotMask mask(DayOfWeek day, String start, String end) {
+        return WeeklySlotMask.of(day, LocalTime.parse(start), LocalTime.parse(end));
+    }
+}